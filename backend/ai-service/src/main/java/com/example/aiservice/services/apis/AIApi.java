@@ -7,7 +7,8 @@ import com.example.aiservice.dtos.requests.*;
 import com.example.aiservice.dtos.responses.Response;
 import com.example.aiservice.exceptions.OurException;
 import com.example.aiservice.services.apis.handlers.AIHandler;
-import com.example.rediscommon.services.RateLimiterService;
+import com.example.rediscommon.services.RateLimitPolicyService;
+import com.example.securitycommon.utils.SecurityUtils;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 import com.fasterxml.jackson.databind.*;
 
@@ -16,15 +17,15 @@ import com.fasterxml.jackson.databind.*;
 public class AIApi {
 
     private final ObjectMapper objectMapper;
-    private final RateLimiterService rateLimiterService;
+    private final RateLimitPolicyService rateLimitPolicyService;
     private final AIHandler aiHandler;
     private final CacheKeyBuilder cacheKeys;
 
     public AIApi(
-            RateLimiterService rateLimiterService,
+            RateLimitPolicyService rateLimitPolicyService,
             AIHandler aiHandler) {
 
-        this.rateLimiterService = rateLimiterService;
+        this.rateLimitPolicyService = rateLimitPolicyService;
         this.aiHandler = aiHandler;
         this.objectMapper = new ObjectMapper();
         this.cacheKeys = CacheKeyBuilder.forService("ai");
@@ -41,7 +42,8 @@ public class AIApi {
     }
 
     private void checkRateLimit(String rateLimitKey, int requests, int windowSeconds) {
-        if (!rateLimiterService.isAllowed(rateLimitKey, requests, windowSeconds)) {
+        if (!rateLimitPolicyService.isAllowed(rateLimitKey, SecurityUtils.getPrincipalKey(),
+                SecurityUtils.getCurrentUserRole(), requests, windowSeconds)) {
             throw new OurException("Rate limit exceeded. Please try again later.", 429);
         }
     }
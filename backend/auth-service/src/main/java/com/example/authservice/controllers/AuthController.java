@@ -91,6 +91,20 @@ public class AuthController {
         return ResponseEntity.status(response.getStatusCode()).body(response);
     }
 
+    // Internal only, for services outside this repo: callers send an
+    // X-Internal-Identity header with role "service" signed with
+    // INTERNAL_IDENTITY_SECRET (format of InternalIdentityVerifier). The
+    // gateway strips that header from client requests and never signs the
+    // service role, no service in this repo calls the endpoint
+    @PostMapping("/introspect")
+    @PreAuthorize("hasAuthority('service')")
+    public ResponseEntity<Response> introspectTokens(
+            @RequestPart("data") String dataJson) {
+        Response response = authApi.introspectTokens(dataJson);
+
+        return ResponseEntity.status(response.getStatusCode()).body(response);
+    }
+
     @PostMapping("/logout/{identifier}")
     @PreAuthorize("hasAnyAuthority('admin','user')")
     public ResponseEntity<Response> logout(
@@ -0,0 +1,39 @@
+package com.example.authservice.dtos;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.*;
+
+/**
+ * Claims of a verified token, produced by a single parse in JwtService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenClaims {
+    private String userId;
+    private String email;
+    private String username;
+    private String role;
+    private String tokenType;
+    private Instant issuedAt;
+    private Instant expiresAt;
+
+    @JsonIgnore
+    public boolean isExpired() {
+        return expiresAt == null || expiresAt.isBefore(Instant.now());
+    }
+
+    @JsonIgnore
+    public boolean isAccessToken() {
+        return "ACCESS".equals(tokenType);
+    }
+
+    @JsonIgnore
+    public boolean isRefreshToken() {
+        return "REFRESH".equals(tokenType);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.authservice.dtos.requests;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class IntrospectTokensRequest {
+    private List<String> tokens;
+}
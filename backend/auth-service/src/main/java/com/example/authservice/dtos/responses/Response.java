@@ -1,7 +1,9 @@
 package com.example.authservice.dtos.responses;
 
+import java.util.List;
 import java.util.Map;
 
+import com.example.authservice.dtos.responses.views.TokenIntrospectionView;
 import com.example.authservice.dtos.responses.views.UserView;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
@@ -17,6 +19,7 @@ public class Response {
     private Map<String, Object> additionalData;
 
     private UserView userView;
+    private List<TokenIntrospectionView> introspections;
 
     public Response(String message, int statusCode) {
         this.statusCode = statusCode;
@@ -0,0 +1,15 @@
+package com.example.authservice.dtos.responses.views;
+
+import com.example.authservice.dtos.TokenClaims;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionView {
+    private boolean active;
+    private TokenClaims claims;
+}
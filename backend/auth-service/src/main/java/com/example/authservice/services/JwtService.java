@@ -3,6 +3,8 @@ package com.example.authservice.services;
 import io.jsonwebtoken.*;
 import jakarta.annotation.PostConstruct;
 
+import com.example.authservice.dtos.TokenClaims;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -12,11 +14,13 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 
 @Component
 public class JwtService {
@@ -29,6 +33,9 @@ public class JwtService {
     private String publicKeyStr;
     private PublicKey publicKey;
 
+    // Immutable and thread-safe, built once
+    private JwtParser parser;
+
     private static final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 60 * 5; // 5 hours
 
     private static final long REFRESH_TOKEN_EXPIRATION = 1000 * 60 * 60 * 24 * 7; // 7 days
@@ -37,6 +44,7 @@ public class JwtService {
     public void init() {
         this.privateKey = (PrivateKey) getKey(privateKeyStr, true);
         this.publicKey = (PublicKey) getKey(publicKeyStr, false);
+        this.parser = Jwts.parser().verifyWith(publicKey).build();
     }
 
     private Key getKey(String key, boolean isPrivate) {
@@ -129,109 +137,111 @@ public class JwtService {
         return generateAccessToken(userId, username, role, username);
     }
 
+    /**
+     * Verify the signature and read every claim in one pass
+     * All other read/validate methods go through this, so a token is only
+     * verified once per call
+     *
+     * @throws JwtException if the token is invalid, tampered or expired
+     */
+    public TokenClaims parseToken(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        String username = claims.get("username", String.class);
+        String email = claims.get("email", String.class);
+
+        return TokenClaims.builder()
+                .userId(claims.get("userId", String.class))
+                .email(email != null ? email : claims.getSubject())
+                .username(username != null ? username : claims.getSubject())
+                .role(claims.get("role", String.class))
+                .tokenType(claims.get("tokenType", String.class))
+                .issuedAt(issuedAt != null ? issuedAt.toInstant() : null)
+                .expiresAt(expiration != null ? expiration.toInstant() : null)
+                .build();
+    }
+
+    /**
+     * Parse a token, returning null instead of throwing when it is invalid
+     */
+    public TokenClaims tryParseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parse a refresh token, null if it is invalid, expired or not a refresh token
+     */
+    public TokenClaims parseRefreshToken(String refreshToken) {
+        TokenClaims claims = tryParseToken(refreshToken);
+        if (claims == null || !claims.isRefreshToken() || claims.isExpired()) {
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * Introspect several tokens, one signature verification each
+     *
+     * @return Claims per token in request order, null for invalid or expired
+     *         tokens
+     */
+    public List<TokenClaims> introspect(List<String> tokens) {
+        List<TokenClaims> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            TokenClaims claims = tryParseToken(token);
+            results.add(claims != null && !claims.isExpired() ? claims : null);
+        }
+        return results;
+    }
+
     public String extractUsername(String token) {
-        return extractClaims(token, claims -> {
-            String usernameClaim = claims.get("username", String.class);
-            if (usernameClaim != null) {
-                return usernameClaim;
-            }
-            return claims.getSubject();
-        });
+        return parseToken(token).getUsername();
     }
 
     public String extractUserId(String token) {
-        return extractClaims(token, claims -> claims.get("userId", String.class));
+        return parseToken(token).getUserId();
     }
 
     public String extractRole(String token) {
-        return extractClaims(token, claims -> claims.get("role", String.class));
+        return parseToken(token).getRole();
     }
 
     public String extractEmail(String token) {
-        return extractClaims(token, claims -> {
-            String emailClaim = claims.get("email", String.class);
-            if (emailClaim != null) {
-                return emailClaim;
-            }
-            return claims.getSubject();
-        });
+        return parseToken(token).getEmail();
     }
 
     public String extractTokenType(String token) {
-        return extractClaims(token, claims -> claims.get("tokenType", String.class));
+        return parseToken(token).getTokenType();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaims(token, Claims::getExpiration);
-    }
-
-    private <T> T extractClaims(String token, Function<Claims, T> claimsResolver) {
-        return claimsResolver.apply(Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token).getPayload());
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractClaims(token, Claims::getExpiration).before(new Date());
+        Instant expiresAt = parseToken(token).getExpiresAt();
+        return expiresAt != null ? Date.from(expiresAt) : null;
     }
 
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        TokenClaims claims = tryParseToken(token);
+        return claims != null && claims.getUsername().equals(username) && !claims.isExpired();
     }
 
     public Boolean validateRefreshToken(String refreshToken) {
-        try {
-            if (refreshToken == null || refreshToken.isEmpty()) {
-                return false;
-            }
-
-            // Parse token to validate signature
-            Claims claims = Jwts.parser()
-                    .verifyWith(publicKey)
-                    .build()
-                    .parseSignedClaims(refreshToken)
-                    .getPayload();
-
-            // Check token type must be REFRESH
-            String tokenType = claims.get("tokenType", String.class);
-            if (!"REFRESH".equals(tokenType)) {
-                return false;
-            }
-
-            // Check token has not expired
-            Date expiration = claims.getExpiration();
-            if (expiration == null) {
-                return false;
-            }
-
-            boolean isExpired = expiration.before(new Date());
-            return !isExpired;
-
-        } catch (ExpiredJwtException e) {
-            // Token is expired
-            return false;
-        } catch (SecurityException e) {
-            // Signature is invalid
-            return false;
-        } catch (MalformedJwtException e) {
-            // Token is malformed
-            return false;
-        } catch (Exception e) {
-            // Other errors
-            return false;
-        }
+        return parseRefreshToken(refreshToken) != null;
     }
 
     public Boolean validateAccessToken(String accessToken, String username) {
-        try {
-            String tokenType = extractTokenType(accessToken);
-            // Check token type must be ACCESS
-            if (!"ACCESS".equals(tokenType)) {
-                return false;
-            }
-            // Check username and expiration
-            return validateToken(accessToken, username);
-        } catch (Exception e) {
-            return false;
-        }
+        TokenClaims claims = tryParseToken(accessToken);
+        // Check token type must be ACCESS, then username and expiration
+        return claims != null && claims.isAccessToken()
+                && claims.getUsername().equals(username) && !claims.isExpired();
     }
-}
\ No newline at end of file
+}
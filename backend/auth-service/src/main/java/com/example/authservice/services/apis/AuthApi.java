@@ -2,16 +2,20 @@ package com.example.authservice.services.apis;
 
 import com.example.authservice.dtos.requests.*;
 import com.example.authservice.dtos.responses.*;
+import com.example.authservice.dtos.responses.views.TokenIntrospectionView;
 import com.example.authservice.dtos.responses.views.UserView;
 import com.example.authservice.exceptions.OurException;
 import com.example.authservice.services.apis.handlers.AuthHandler;
-import com.example.rediscommon.services.RateLimiterService;
+import com.example.rediscommon.services.RateLimitPolicyService;
+import com.example.securitycommon.utils.SecurityUtils;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -22,16 +26,16 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthApi {
 
     private final ObjectMapper objectMapper;
-    private final RateLimiterService rateLimiterService;
+    private final RateLimitPolicyService rateLimitPolicyService;
     private final AuthHandler authHandler;
     private final CacheKeyBuilder cacheKeys;
 
     @Value("${DEV_MODE}")
     private String devMode;
 
-    public AuthApi(RateLimiterService rateLimiterService, AuthHandler authHandler) {
+    public AuthApi(RateLimitPolicyService rateLimitPolicyService, AuthHandler authHandler) {
         this.objectMapper = new ObjectMapper();
-        this.rateLimiterService = rateLimiterService;
+        this.rateLimitPolicyService = rateLimitPolicyService;
         this.authHandler = authHandler;
         this.cacheKeys = CacheKeyBuilder.forService("auth");
     }
@@ -47,7 +51,18 @@ public class AuthApi {
     }
 
     private void checkRateLimit(String rateLimitKey, int maxRequests, int timeWindowSeconds) {
-        if (!rateLimiterService.isAllowed(rateLimitKey, maxRequests, timeWindowSeconds)) {
+        if (!rateLimitPolicyService.isAllowed(rateLimitKey, SecurityUtils.getPrincipalKey(),
+                SecurityUtils.getCurrentUserRole(), maxRequests, timeWindowSeconds)) {
+            throw new OurException("Rate limit exceeded. Please try again later.", 429);
+        }
+    }
+
+    /**
+     * Quota of one account (identifier, email, token), shared by every caller
+     * so attempts against it cannot be spread over many addresses
+     */
+    private void checkIdentifierRateLimit(String rateLimitKey, int maxRequests, int timeWindowSeconds) {
+        if (!rateLimitPolicyService.isAllowedForResource(rateLimitKey, maxRequests, timeWindowSeconds)) {
             throw new OurException("Rate limit exceeded. Please try again later.", 429);
         }
     }
@@ -61,7 +76,7 @@ public class AuthApi {
             LoginRequest request = objectMapper.readValue(dataJson, LoginRequest.class);
 
             String rateLimitKey = cacheKeys.forMethodWithParam("login", identifier);
-            checkRateLimit(rateLimitKey, 7, 60);
+            checkIdentifierRateLimit(rateLimitKey, 7, 60);
 
             log.debug("Calling authHandler.handleLogin for identifier={}", identifier);
             UserView user = authHandler.handleLogin(identifier, request.getPassword(), httpServletResponse);
@@ -87,7 +102,7 @@ public class AuthApi {
 
         try {
             String rateLimitKey = cacheKeys.forMethodWithParam("validateToken", username);
-            checkRateLimit(rateLimitKey, 7, 60);
+            checkIdentifierRateLimit(rateLimitKey, 7, 60);
 
             log.debug("Calling authHandler.handleValidateToken for username={}", username);
             authHandler.handleValidateToken(token, username);
@@ -139,7 +154,7 @@ public class AuthApi {
 
             String rateLimitKey = cacheKeys.forMethodWithParam("verifyOTP", identifier);
             log.debug("Checking rate limit for key={}", rateLimitKey);
-            checkRateLimit(rateLimitKey, 7, 60);
+            checkIdentifierRateLimit(rateLimitKey, 7, 60);
 
             boolean isActivation = request.getIsActivation() != null && request.getIsActivation();
             log.debug("Calling authHandler.handleVerifyOTP for identifier={}, isActivation={}", identifier,
@@ -166,7 +181,7 @@ public class AuthApi {
         try {
             String rateLimitKey = cacheKeys.forMethodWithParam("sendOTP", identifier);
             log.debug("Checking rate limit for key={}", rateLimitKey);
-            checkRateLimit(rateLimitKey, 7, 60);
+            checkIdentifierRateLimit(rateLimitKey, 7, 60);
 
             log.debug("Calling authHandler.handleSendOTP for identifier={}", identifier);
             authHandler.handleSendOTP(identifier);
@@ -195,7 +210,7 @@ public class AuthApi {
 
             String rateLimitKey = cacheKeys.forMethodWithParam("changePassword", identifier);
             log.debug("Checking rate limit for key={}", rateLimitKey);
-            checkRateLimit(rateLimitKey, 7, 60);
+            checkIdentifierRateLimit(rateLimitKey, 7, 60);
 
             log.debug("Calling authHandler.handleChangePassword for identifier={}", identifier);
             authHandler.handleChangePassword(identifier, request);
@@ -221,7 +236,7 @@ public class AuthApi {
         try {
             String rateLimitKey = cacheKeys.forMethodWithParam("resetPassword", email);
             log.debug("Checking rate limit for key={}", rateLimitKey);
-            checkRateLimit(rateLimitKey, 7, 60);
+            checkIdentifierRateLimit(rateLimitKey, 7, 60);
 
             log.debug("Calling authHandler.handleResetPassword for email={}", email);
             authHandler.handleResetPassword(email);
@@ -250,7 +265,7 @@ public class AuthApi {
 
             String rateLimitKey = cacheKeys.forMethodWithParam("forgotPassword", identifier);
             log.debug("Checking rate limit for key={}", rateLimitKey);
-            checkRateLimit(rateLimitKey, 7, 60);
+            checkIdentifierRateLimit(rateLimitKey, 7, 60);
 
             log.debug("Calling authHandler.handleForgotPassword for identifier={}", identifier);
             authHandler.handleForgotPassword(identifier, request);
@@ -280,7 +295,7 @@ public class AuthApi {
         try {
             String rateLimitKey = cacheKeys.forMethodWithParam("refreshToken", authHeader.hashCode());
             log.debug("Checking rate limit for key={}", rateLimitKey);
-            checkRateLimit(rateLimitKey, 7, 60);
+            checkIdentifierRateLimit(rateLimitKey, 7, 60);
 
             log.debug("Calling authHandler.handleRefreshToken");
             UserView user = authHandler.handleRefreshToken(authHeader, httpRequest, httpServletResponse);
@@ -300,12 +315,37 @@ public class AuthApi {
         }
     }
 
+    public Response introspectTokens(String dataJson) {
+        long startTime = requestStart("Token introspection attempt");
+
+        try {
+            String rateLimitKey = cacheKeys.forMethod("introspectTokens");
+            checkRateLimit(rateLimitKey, 120, 60);
+
+            IntrospectTokensRequest request = objectMapper.readValue(dataJson, IntrospectTokensRequest.class);
+
+            List<TokenIntrospectionView> results = authHandler.handleIntrospectTokens(request.getTokens());
+
+            Response response = new Response("Tokens introspected successfully");
+            response.setIntrospections(results);
+            return response;
+        } catch (OurException e) {
+            log.error("OurException in introspectTokens: {}", e.getMessage());
+            return new Response(e.getMessage(), e.getStatusCode());
+        } catch (Exception e) {
+            log.error("Unexpected exception in introspectTokens: {}", e.getMessage(), e);
+            return new Response("Internal Server Error", 500);
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
     public Response logout(String identifier, HttpServletResponse httpServletResponse) {
         long startTime = requestStart("User logout attempt");
 
         try {
             String rateLimitKey = cacheKeys.forMethodWithParam("logout", identifier);
-            checkRateLimit(rateLimitKey, 7, 60);
+            checkIdentifierRateLimit(rateLimitKey, 7, 60);
 
             Response response = new Response();
 
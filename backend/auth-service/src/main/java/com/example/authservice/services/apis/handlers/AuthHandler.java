@@ -1,7 +1,9 @@
 package com.example.authservice.services.apis.handlers;
 
+import com.example.authservice.dtos.TokenClaims;
 import com.example.authservice.dtos.requests.*;
 import com.example.authservice.dtos.responses.Response;
+import com.example.authservice.dtos.responses.views.TokenIntrospectionView;
 import com.example.authservice.dtos.responses.views.UserView;
 import com.example.authservice.exceptions.OurException;
 import com.example.authservice.services.JwtService;
@@ -17,6 +19,9 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -39,6 +44,7 @@ public class AuthHandler {
 
     private static final int ACCESS_TOKEN_EXPIRATION_SECONDS = 5 * 60 * 60; // 5 hours
     private static final int REFRESH_TOKEN_EXPIRATION_SECONDS = 7 * 24 * 60 * 60; // 7 days
+    private static final int MAX_INTROSPECT_TOKENS = 50;
 
     public AuthHandler(
             JwtService jwtService,
@@ -178,6 +184,22 @@ public class AuthHandler {
         }
     }
 
+    public List<TokenIntrospectionView> handleIntrospectTokens(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            throw new OurException("At least one token is required", 400);
+        }
+        if (tokens.size() > MAX_INTROSPECT_TOKENS) {
+            throw new OurException("Too many tokens, maximum is " + MAX_INTROSPECT_TOKENS, 400);
+        }
+
+        List<TokenIntrospectionView> results = jwtService.introspect(tokens).stream()
+                .map(claims -> new TokenIntrospectionView(claims != null, claims))
+                .collect(Collectors.toList());
+
+        log.debug("Introspected {} tokens", tokens.size());
+        return results;
+    }
+
     public void handleRegister(String dataJson) {
         userFeignClient.registerUser(dataJson);
     }
@@ -343,14 +365,15 @@ public class AuthHandler {
                 throw new OurException("Refresh token is required", 400);
             }
 
-            // Validate refresh token
-            if (!jwtService.validateRefreshToken(refreshToken)) {
+            // Validate refresh token and read its claims with a single verification
+            TokenClaims claims = jwtService.parseRefreshToken(refreshToken);
+            if (claims == null) {
                 throw new OurException("Invalid or expired refresh token", 401);
             }
 
             // Extract user info from refresh token
-            String email = jwtService.extractEmail(refreshToken);
-            String userId = jwtService.extractUserId(refreshToken);
+            String email = claims.getEmail();
+            String userId = claims.getUserId();
 
             if (email == null || userId == null) {
                 throw new OurException("Invalid refresh token format", 401);
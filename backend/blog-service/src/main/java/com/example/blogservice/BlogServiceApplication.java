@@ -6,6 +6,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Import;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.example.rediscommon.configs.RedisConfig;
 import com.example.securitycommon.configs.SecurityConfig;
@@ -15,6 +16,7 @@ import com.example.securitycommon.configs.SecurityConfig;
 @Import({ SecurityConfig.class, RedisConfig.class })
 @EnableFeignClients
 @EnableAsync
+@EnableScheduling
 public class BlogServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(BlogServiceApplication.class, args);
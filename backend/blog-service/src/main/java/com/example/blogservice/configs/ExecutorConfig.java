@@ -0,0 +1,35 @@
+package com.example.blogservice.configs;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Virtual threads for fan-out reads (DB, Redis, Feign), which spend almost
+     * all their time blocked on I/O
+     */
+    @Bean(name = "blogReadExecutor", destroyMethod = "close")
+    public ExecutorService blogReadExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Bounds how many fan-out tasks may hold a database connection at once
+     * Virtual threads are unbounded but the Hikari pool is not, each task
+     * borrows its own connection. Callers of a fan-out must not hold one
+     * while they wait (no surrounding transaction, open-in-view off), else
+     * pool-size concurrent callers take every connection and their tasks
+     * time out. Keep this below the pool size so other requests still get one
+     */
+    @Bean(name = "blogReadDbPermits")
+    public Semaphore blogReadDbPermits(@Value("${blog.read.db-concurrency:5}") int permits) {
+        return new Semaphore(permits);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.blogservice.configs;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.rabbitcommon.configs.BaseRabbitConfig;
+
+@Configuration
+public class RabbitConfig extends BaseRabbitConfig {
+
+    public static final String FEED_DEAD_LETTER_EXCHANGE = "blog.feed.dlx";
+    public static final String FEED_FANOUT_DEAD_LETTER_KEY = "blog.feed.fanout.dlq";
+
+    // Fan-out messages that still fail after the listener retries are parked
+    // here for inspection and replay instead of being dropped
+    @Bean
+    public DirectExchange feedDeadLetterExchange() {
+        return new DirectExchange(FEED_DEAD_LETTER_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue feedFanoutDeadLetterQueue() {
+        return new Queue(FEED_FANOUT_DEAD_LETTER_KEY, true);
+    }
+
+    @Bean
+    public Binding feedFanoutDeadLetterBinding() {
+        return BindingBuilder.bind(feedFanoutDeadLetterQueue())
+                .to(feedDeadLetterExchange())
+                .with(FEED_FANOUT_DEAD_LETTER_KEY);
+    }
+}
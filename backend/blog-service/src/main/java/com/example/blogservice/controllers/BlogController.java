@@ -26,6 +26,66 @@ public class BlogController {
         return ResponseEntity.status(response.getStatusCode()).body(response);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<?> exportBlogs(
+            @RequestParam(value = "isVisibility", required = false) Boolean isVisibility,
+            @RequestParam(value = "format", required = false) String format) {
+        return blogApi.exportBlogs(isVisibility, format);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<Response> getBlogsPage(
+            @RequestParam(value = "isVisibility", required = false) Boolean isVisibility,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "isView", required = false) Boolean isView) {
+        Response response = blogApi.getBlogsPage(isVisibility, category, cursor, size, isView);
+
+        return ResponseEntity.status(response.getStatusCode()).body(response);
+    }
+
+    @GetMapping("/feed/{userId}")
+    public ResponseEntity<Response> getFeed(
+            @PathVariable("userId") UUID userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "isView", required = false) Boolean isView) {
+        Response response = blogApi.getFeed(userId, cursor, size, isView);
+
+        return ResponseEntity.status(response.getStatusCode()).body(response);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<Response> getTrendingBlogs(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "isView", required = false) Boolean isView) {
+        Response response = blogApi.getTrendingBlogs(category, size, isView);
+
+        return ResponseEntity.status(response.getStatusCode()).body(response);
+    }
+
+    @GetMapping("/views/daily")
+    public ResponseEntity<Response> getDailyViews(
+            @RequestParam(value = "days", required = false) Integer days) {
+        Response response = blogApi.getDailyViews(days);
+
+        return ResponseEntity.status(response.getStatusCode()).body(response);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Response> searchBlogs(
+            @RequestParam(value = "q") String query,
+            @RequestParam(value = "isVisibility", required = false) Boolean isVisibility,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        Response response = blogApi.searchBlogs(query, isVisibility, category, page, size);
+
+        return ResponseEntity.status(response.getStatusCode()).body(response);
+    }
+
     @PostMapping("/users/{userId}")
     public ResponseEntity<Response> createBlog(
             @PathVariable("userId") UUID userId,
@@ -113,8 +173,9 @@ public class BlogController {
     }
 
     @GetMapping("/{blogId}")
-    public ResponseEntity<Response> getBlog(@PathVariable("blogId") UUID blogId) {
-        Response response = blogApi.getBlog(blogId);
+    public ResponseEntity<Response> getBlog(@PathVariable("blogId") UUID blogId,
+            @RequestParam(value = "includeIds", required = false) Boolean includeIds) {
+        Response response = blogApi.getBlog(blogId, includeIds);
 
         return ResponseEntity.status(response.getStatusCode()).body(response);
     }
@@ -26,6 +26,12 @@ public class CommentController {
         return ResponseEntity.status(response.getStatusCode()).body(response);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<?> exportComments(
+            @RequestParam(value = "format", required = false) String format) {
+        return commentApi.exportComments(format);
+    }
+
     @PostMapping("/blogs/{blogId}/users/{userId}")
     public ResponseEntity<Response> addComment(
             @PathVariable("userId") UUID userId,
@@ -38,8 +44,20 @@ public class CommentController {
 
     @GetMapping("/blogs/{blogId}")
     public ResponseEntity<Response> getBlogComments(
-            @PathVariable("blogId") UUID blogId) {
-        Response response = commentApi.getBlogComments(blogId);
+            @PathVariable("blogId") UUID blogId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        Response response = commentApi.getBlogComments(blogId, cursor, size);
+
+        return ResponseEntity.status(response.getStatusCode()).body(response);
+    }
+
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<Response> getCommentReplies(
+            @PathVariable("commentId") UUID commentId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        Response response = commentApi.getCommentReplies(commentId, cursor, size);
 
         return ResponseEntity.status(response.getStatusCode()).body(response);
     }
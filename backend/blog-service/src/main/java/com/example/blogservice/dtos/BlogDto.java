@@ -16,9 +16,20 @@ public class BlogDto {
     private UUID id;
     private UUID authorId;
     private UserView author;
+    // First page of top-level comments, commentsNextCursor continues it
     private List<CommentDto> comments;
+    private String commentsNextCursor;
+    // Only filled when explicitly requested, counts are returned by default
     private List<UUID> likes;
     private List<UUID> saves;
+    private Long likeCount;
+    private Long saveCount;
+    private Long commentCount;
+    // Live counters from ViewCounter, filled on the detail read only
+    private Long viewCount;
+    private Long uniqueViewCount;
+    private Boolean likedByViewer;
+    private Boolean savedByViewer;
     private String title;
     private String category;
     private String description;
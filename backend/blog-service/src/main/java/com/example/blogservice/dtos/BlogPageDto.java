@@ -0,0 +1,16 @@
+package com.example.blogservice.dtos;
+
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogPageDto {
+    private List<BlogDto> blogs;
+    private String nextCursor;
+    private boolean hasNext;
+    private int pageSize;
+}
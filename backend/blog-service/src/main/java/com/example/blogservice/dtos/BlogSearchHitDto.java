@@ -0,0 +1,15 @@
+package com.example.blogservice.dtos;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogSearchHitDto {
+    // Summary fields only, content is never returned by search
+    private BlogDto blog;
+    private Double score;
+    private String titleHighlight;
+    private String snippet;
+}
@@ -0,0 +1,16 @@
+package com.example.blogservice.dtos;
+
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogSearchPageDto {
+    private List<BlogSearchHitDto> hits;
+    private int page;
+    private int pageSize;
+    private boolean hasNext;
+}
@@ -15,6 +15,8 @@ public class CommentDto {
     private UUID userId;
     private String username;
     private String content;
+    private UUID parentId;
+    private Long replyCount;
     private Instant createdAt;
     private Instant updatedAt;
 }
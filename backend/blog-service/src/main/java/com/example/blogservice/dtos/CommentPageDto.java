@@ -0,0 +1,18 @@
+package com.example.blogservice.dtos;
+
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentPageDto {
+    private List<CommentDto> comments;
+    private String nextCursor;
+    private boolean hasNext;
+    private int pageSize;
+    // All comments of the blog (replies included), or all replies of the thread
+    private long totalCount;
+}
@@ -0,0 +1,15 @@
+package com.example.blogservice.dtos;
+
+import java.time.LocalDate;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyViewStatDto {
+    private LocalDate date;
+    private long views;
+    private long uniqueViewers;
+}
@@ -0,0 +1,11 @@
+package com.example.blogservice.dtos;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewerStateDto {
+    private boolean liked;
+    private boolean saved;
+}
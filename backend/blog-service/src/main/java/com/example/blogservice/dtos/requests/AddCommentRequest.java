@@ -1,5 +1,7 @@
 package com.example.blogservice.dtos.requests;
 
+import java.util.UUID;
+
 import lombok.*;
 
 @Data
@@ -7,4 +9,6 @@ import lombok.*;
 @AllArgsConstructor
 public class AddCommentRequest {
     private String content;
+    // Set to reply to a comment, replies to a reply join the same thread
+    private UUID parentId;
 }
@@ -0,0 +1,13 @@
+package com.example.blogservice.dtos.requests;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchRequest {
+    private List<UUID> userIds;
+}
@@ -12,6 +12,10 @@ public class Pagination {
     private int currentPage;
     private int pageSize;
 
+    // Keyset pagination
+    private String nextCursor;
+    private Boolean hasNext;
+
     public Pagination(long totalItems, int totalPages, int currentPage) {
         this.totalItems = totalItems;
         this.totalPages = totalPages;
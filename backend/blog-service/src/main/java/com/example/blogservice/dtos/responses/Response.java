@@ -2,9 +2,12 @@ package com.example.blogservice.dtos.responses;
 
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import com.example.blogservice.dtos.BlogDto;
+import com.example.blogservice.dtos.BlogSearchHitDto;
 import com.example.blogservice.dtos.CommentDto;
+import com.example.blogservice.dtos.DailyViewStatDto;
 import com.example.blogservice.dtos.responses.views.BlogView;
 import com.example.blogservice.dtos.responses.views.UserView;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -21,13 +24,20 @@ public class Response {
     private int statusCode;
     private String message;
     private Map<String, Object> additionalData;
+    private Pagination pagination;
 
     private UserView userView;
+    private List<UserView> userViews;
     private List<BlogView> blogViews;
 
+    // Follow graph ids returned by user-service
+    private List<UUID> userIds;
+
     // Blog fields
     private BlogDto blog;
     private List<BlogDto> blogs;
+    private List<BlogSearchHitDto> searchResults;
+    private List<DailyViewStatDto> dailyViews;
 
     // Comment fields
     private CommentDto comment;
@@ -6,15 +6,20 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import java.time.Instant;
 import java.util.UUID;
+import com.example.persistencecommon.utils.GeneratedUuidV7;
 
 @Entity
-@Table(name = "blogs")
+@Table(name = "blogs", indexes = {
+        @Index(name = "idx_blogs_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_blogs_visibility_created_at_id", columnList = "is_visibility, created_at, id"),
+        @Index(name = "idx_blogs_category_created_at_id", columnList = "category, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Blog {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
     private UUID authorId;
     private String title;
@@ -35,6 +40,17 @@ public class Blog {
     @Column(nullable = false)
     private Boolean isVisibility = false;
 
+    // Denormalized counters, updated atomically with the rows they count and
+    // repaired by BlogCounterReconciler
+    @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long likeCount = 0L;
+
+    @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long saveCount = 0L;
+
+    @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long commentCount = 0L;
+
     private Instant createdAt;
     private Instant updatedAt;
 
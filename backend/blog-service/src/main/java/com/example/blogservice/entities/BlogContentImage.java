@@ -0,0 +1,38 @@
+package com.example.blogservice.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.util.UUID;
+import com.example.persistencecommon.utils.GeneratedUuidV7;
+
+/**
+ * Cloudinary image referenced by a blog's content, so it can be deleted
+ * with the blog or once an edit drops it
+ * A duplicated blog shares the images of the original, an image is only
+ * deleted when no row references it any more.
+ */
+@Entity
+@Table(name = "blog_content_images", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_blog_content_images_blog_public_id", columnNames = { "blog_id", "public_id" })
+}, indexes = {
+        @Index(name = "idx_blog_content_images_public_id", columnList = "public_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogContentImage {
+    @Id
+    @GeneratedUuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID blogId;
+
+    @Column(nullable = false)
+    private String publicId;
+
+    @Column(nullable = false, length = 1024)
+    private String url;
+}
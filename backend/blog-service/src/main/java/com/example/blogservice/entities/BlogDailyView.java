@@ -0,0 +1,40 @@
+package com.example.blogservice.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDate;
+import java.util.UUID;
+import com.example.persistencecommon.utils.GeneratedUuidV7;
+
+/**
+ * Views of one blog on one (UTC) day, written in batches by ViewCountFlusher
+ */
+@Entity
+@Table(name = "blog_views", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_blog_views_blog_date", columnNames = { "blog_id", "view_date" })
+}, indexes = {
+        @Index(name = "idx_blog_views_view_date", columnList = "view_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogDailyView {
+    @Id
+    @GeneratedUuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID blogId;
+
+    @Column(nullable = false)
+    private LocalDate viewDate;
+
+    @Column(nullable = false)
+    private Long views = 0L;
+
+    // Approximate, counted with a Redis HyperLogLog
+    @Column(nullable = false)
+    private Long uniqueViewers = 0L;
+}
@@ -6,15 +6,20 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import java.time.Instant;
 import java.util.UUID;
+import com.example.persistencecommon.utils.GeneratedUuidV7;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_blog_parent_created_at_id", columnList = "blog_id, parent_id, created_at, id"),
+        @Index(name = "idx_comments_parent_created_at_id", columnList = "parent_id, created_at, id"),
+        @Index(name = "idx_comments_created_at_id", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Comment {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     private UUID blogId;
@@ -24,6 +29,14 @@ public class Comment {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // Null for top-level comments, replies always point at a top-level comment
+    private UUID parentId;
+
+    // Denormalized, updated atomically with the replies it counts and
+    // repaired by BlogCounterReconciler
+    @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long replyCount = 0L;
+
     private Instant createdAt;
     private Instant updatedAt;
 
@@ -5,15 +5,20 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import java.util.UUID;
+import com.example.persistencecommon.utils.GeneratedUuidV7;
 
 @Entity
-@Table(name = "liked_blogs")
+@Table(name = "liked_blogs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_liked_blogs_user_blog", columnNames = { "user_id", "blog_id" })
+}, indexes = {
+        @Index(name = "idx_liked_blogs_blog_id", columnList = "blog_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class LikedBlog {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     private UUID userId;
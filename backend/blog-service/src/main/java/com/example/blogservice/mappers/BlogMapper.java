@@ -3,6 +3,7 @@ package com.example.blogservice.mappers;
 import com.example.blogservice.dtos.BlogDto;
 import com.example.blogservice.dtos.responses.views.BlogView;
 import com.example.blogservice.entities.Blog;
+import com.example.blogservice.repositories.projections.BlogSummary;
 
 import org.springframework.stereotype.Component;
 
@@ -32,12 +33,46 @@ public class BlogMapper {
         dto.setThumbnailUrl(blog.getThumbnailUrl());
         dto.setThumbnailPublicId(blog.getThumbnailPublicId());
         dto.setIsVisibility(blog.getIsVisibility());
+        dto.setLikeCount(blog.getLikeCount());
+        dto.setSaveCount(blog.getSaveCount());
+        dto.setCommentCount(blog.getCommentCount());
         dto.setCreatedAt(blog.getCreatedAt());
         dto.setUpdatedAt(blog.getUpdatedAt());
 
         return dto;
     }
 
+    /**
+     * Convert BlogSummary projection to DTO (content is left null)
+     */
+    public BlogDto toDto(BlogSummary summary) {
+        if (summary == null)
+            return null;
+
+        BlogDto dto = new BlogDto();
+        dto.setId(summary.getId());
+        dto.setAuthorId(summary.getAuthorId());
+        dto.setTitle(summary.getTitle());
+
+        if (summary.getCategory() != null) {
+            dto.setCategory(summary.getCategory().name());
+        } else {
+            dto.setCategory(Blog.Category.technology.name());
+        }
+
+        dto.setDescription(summary.getDescription());
+        dto.setThumbnailUrl(summary.getThumbnailUrl());
+        dto.setThumbnailPublicId(summary.getThumbnailPublicId());
+        dto.setIsVisibility(summary.getIsVisibility());
+        dto.setLikeCount(summary.getLikeCount());
+        dto.setSaveCount(summary.getSaveCount());
+        dto.setCommentCount(summary.getCommentCount());
+        dto.setCreatedAt(summary.getCreatedAt());
+        dto.setUpdatedAt(summary.getUpdatedAt());
+
+        return dto;
+    }
+
     /**
      * Convert Blog DTO to entity
      */
@@ -21,6 +21,8 @@ public class CommentMapper {
                 .userId(comment.getUserId())
                 .username(comment.getUsername())
                 .content(comment.getContent())
+                .parentId(comment.getParentId())
+                .replyCount(comment.getReplyCount())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .build();
@@ -39,6 +41,8 @@ public class CommentMapper {
         comment.setUserId(dto.getUserId());
         comment.setUsername(dto.getUsername());
         comment.setContent(dto.getContent());
+        comment.setParentId(dto.getParentId());
+        comment.setReplyCount(dto.getReplyCount() != null ? dto.getReplyCount() : 0L);
         comment.setCreatedAt(dto.getCreatedAt());
         comment.setUpdatedAt(dto.getUpdatedAt());
 
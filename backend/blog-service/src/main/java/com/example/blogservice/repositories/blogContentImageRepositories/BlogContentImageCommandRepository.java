@@ -0,0 +1,27 @@
+package com.example.blogservice.repositories.blogContentImageRepositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.blogservice.entities.BlogContentImage;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface BlogContentImageCommandRepository extends JpaRepository<BlogContentImage, UUID> {
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM BlogContentImage i WHERE i.blogId = :blogId")
+    int deleteContentImagesByBlogId(@Param("blogId") UUID blogId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM BlogContentImage i WHERE i.blogId = :blogId AND i.publicId IN :publicIds")
+    int deleteContentImages(@Param("blogId") UUID blogId, @Param("publicIds") Collection<String> publicIds);
+}
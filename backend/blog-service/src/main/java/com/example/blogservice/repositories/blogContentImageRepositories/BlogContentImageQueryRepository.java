@@ -0,0 +1,23 @@
+package com.example.blogservice.repositories.blogContentImageRepositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.blogservice.entities.BlogContentImage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BlogContentImageQueryRepository extends JpaRepository<BlogContentImage, UUID> {
+
+    @Query("SELECT i FROM BlogContentImage i WHERE i.blogId = :blogId")
+    List<BlogContentImage> findContentImagesByBlogId(@Param("blogId") UUID blogId);
+
+    // Images still used by some blog, e.g. a duplicate sharing the original's images
+    @Query("SELECT DISTINCT i.publicId FROM BlogContentImage i WHERE i.publicId IN :publicIds")
+    List<String> findReferencedPublicIds(@Param("publicIds") Collection<String> publicIds);
+}
@@ -64,4 +64,52 @@ public interface BlogCommandRepository extends JpaRepository<Blog, UUID> {
                      @Param("thumbnailPublicId") String thumbnailPublicId,
                      @Param("isVisibility") Boolean isVisibility,
                      @Param("updatedAt") Instant updatedAt);
+
+       // Counters, bulk updates so concurrent likes never lose increments
+
+       @Modifying
+       @Transactional
+       @Query("UPDATE Blog b SET b.likeCount = b.likeCount + :delta WHERE b.id = :blogId AND b.likeCount + :delta >= 0")
+       int incrementLikeCount(@Param("blogId") UUID blogId, @Param("delta") long delta);
+
+       @Modifying
+       @Transactional
+       @Query("UPDATE Blog b SET b.saveCount = b.saveCount + :delta WHERE b.id = :blogId AND b.saveCount + :delta >= 0")
+       int incrementSaveCount(@Param("blogId") UUID blogId, @Param("delta") long delta);
+
+       @Modifying
+       @Transactional
+       @Query("UPDATE Blog b SET b.commentCount = b.commentCount + :delta WHERE b.id = :blogId AND b.commentCount + :delta >= 0")
+       int incrementCommentCount(@Param("blogId") UUID blogId, @Param("delta") long delta);
+
+       // Reconciliation, only rows that drifted are written
+
+       @Modifying
+       @Transactional
+       @Query(value = "UPDATE blogs b LEFT JOIN (SELECT blog_id, COUNT(*) AS cnt FROM liked_blogs GROUP BY blog_id) c "
+                     + "ON c.blog_id = b.id SET b.like_count = COALESCE(c.cnt, 0) "
+                     + "WHERE b.like_count <> COALESCE(c.cnt, 0)", nativeQuery = true)
+       int reconcileLikeCounts();
+
+       @Modifying
+       @Transactional
+       @Query(value = "UPDATE blogs b LEFT JOIN (SELECT blog_id, COUNT(*) AS cnt FROM saved_blogs GROUP BY blog_id) c "
+                     + "ON c.blog_id = b.id SET b.save_count = COALESCE(c.cnt, 0) "
+                     + "WHERE b.save_count <> COALESCE(c.cnt, 0)", nativeQuery = true)
+       int reconcileSaveCounts();
+
+       @Modifying
+       @Transactional
+       @Query(value = "UPDATE blogs b LEFT JOIN (SELECT blog_id, COUNT(*) AS cnt FROM comments GROUP BY blog_id) c "
+                     + "ON c.blog_id = b.id SET b.comment_count = COALESCE(c.cnt, 0) "
+                     + "WHERE b.comment_count <> COALESCE(c.cnt, 0)", nativeQuery = true)
+       int reconcileCommentCounts();
+
+       // Only applies if the blog was not edited since it was read, updatedAt is left untouched
+       @Modifying
+       @Transactional
+       @Query("UPDATE Blog b SET b.content = :content WHERE b.id = :blogId AND b.updatedAt = :updatedAt")
+       int updateContentIfUnchanged(@Param("blogId") UUID blogId,
+                     @Param("content") String content,
+                     @Param("updatedAt") Instant updatedAt);
 }
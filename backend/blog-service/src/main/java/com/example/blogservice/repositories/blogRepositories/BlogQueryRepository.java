@@ -4,15 +4,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.blogservice.entities.Blog;
+import com.example.blogservice.repositories.projections.BlogSearchRow;
+import com.example.blogservice.repositories.projections.BlogSearchSummary;
+import com.example.blogservice.repositories.projections.BlogSummary;
+import com.example.blogservice.repositories.projections.ViewerFlags;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 
 @Repository
 public interface BlogQueryRepository extends JpaRepository<Blog, UUID> {
@@ -68,4 +78,102 @@ public interface BlogQueryRepository extends JpaRepository<Blog, UUID> {
 
         @Query("SELECT COUNT(b) FROM Blog b WHERE b.isVisibility = :isVisibility")
         long countByVisibility(@Param("isVisibility") Boolean isVisibility);
+
+        // Summary projections (no content column) for list responses
+
+        @Query(BlogSummary.SELECT_CLAUSE + "FROM Blog b " +
+                        "WHERE (:isVisibility IS NULL OR b.isVisibility = :isVisibility) " +
+                        "ORDER BY b.createdAt DESC, b.id DESC")
+        List<BlogSummary> findBlogSummaries(@Param("isVisibility") Boolean isVisibility);
+
+        // Streams rows for exports, a fetch size of Integer.MIN_VALUE makes
+        // MySQL Connector/J read row by row instead of buffering the result
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query(BlogSummary.SELECT_CLAUSE + "FROM Blog b " +
+                        "WHERE (:isVisibility IS NULL OR b.isVisibility = :isVisibility) " +
+                        "ORDER BY b.createdAt DESC, b.id DESC")
+        Stream<BlogSummary> streamBlogSummaries(@Param("isVisibility") Boolean isVisibility);
+
+        // Like and save state of one viewer in a single round trip, both unique (user_id, blog_id) lookups
+        @Query("SELECT (SELECT COUNT(lb) FROM LikedBlog lb WHERE lb.userId = :userId AND lb.blogId = b.id) AS likes, "
+                        + "(SELECT COUNT(sb) FROM SavedBlog sb WHERE sb.userId = :userId AND sb.blogId = b.id) AS saves "
+                        + "FROM Blog b WHERE b.id = :blogId")
+        Optional<ViewerFlags> findViewerFlags(@Param("blogId") UUID blogId, @Param("userId") UUID userId);
+
+        @Query(BlogSummary.SELECT_CLAUSE + "FROM Blog b WHERE b.id IN :ids")
+        List<BlogSummary> findBlogSummariesByIds(@Param("ids") List<UUID> ids);
+
+        @Query(BlogSummary.SELECT_CLAUSE + "FROM Blog b WHERE b.authorId = :userId ORDER BY b.updatedAt DESC")
+        List<BlogSummary> findBlogSummariesByUserId(@Param("userId") UUID userId);
+
+        // Keyset pagination on (createdAt, id), filters are optional (null = any)
+
+        @Query(BlogSummary.SELECT_CLAUSE + "FROM Blog b " +
+                        "WHERE (:isVisibility IS NULL OR b.isVisibility = :isVisibility) " +
+                        "AND (:category IS NULL OR b.category = :category) " +
+                        "ORDER BY b.createdAt DESC, b.id DESC")
+        List<BlogSummary> findBlogsFirstPage(@Param("isVisibility") Boolean isVisibility,
+                        @Param("category") Blog.Category category,
+                        Pageable pageable);
+
+        @Query(BlogSummary.SELECT_CLAUSE + "FROM Blog b " +
+                        "WHERE (:isVisibility IS NULL OR b.isVisibility = :isVisibility) " +
+                        "AND (:category IS NULL OR b.category = :category) " +
+                        "AND (b.createdAt < :cursorCreatedAt " +
+                        "OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+                        "ORDER BY b.createdAt DESC, b.id DESC")
+        List<BlogSummary> findBlogsAfterCursor(@Param("isVisibility") Boolean isVisibility,
+                        @Param("category") Blog.Category category,
+                        @Param("cursorCreatedAt") Instant cursorCreatedAt,
+                        @Param("cursorId") UUID cursorId,
+                        Pageable pageable);
+
+        // Full-text search, relies on the FULLTEXT indexes created by BlogSearchIndexInitializer
+        // Title matches weigh double, filters are optional (null = any)
+
+        @Query(value = "SELECT b.id AS id, "
+                        + "(MATCH(b.title) AGAINST (:query IN NATURAL LANGUAGE MODE) * 2 "
+                        + "+ MATCH(b.title, b.description, b.content) AGAINST (:query IN NATURAL LANGUAGE MODE)) AS score "
+                        + "FROM blogs b "
+                        + "WHERE MATCH(b.title, b.description, b.content) AGAINST (:query IN NATURAL LANGUAGE MODE) "
+                        + "AND (:isVisibility IS NULL OR b.is_visibility = :isVisibility) "
+                        + "AND (:category IS NULL OR b.category = :category) "
+                        + "ORDER BY score DESC, b.created_at DESC "
+                        + "LIMIT :limit OFFSET :offset", nativeQuery = true)
+        List<BlogSearchRow> searchBlogs(@Param("query") String query,
+                        @Param("isVisibility") Boolean isVisibility,
+                        @Param("category") String category,
+                        @Param("limit") int limit,
+                        @Param("offset") int offset);
+
+        @Query(BlogSummary.SELECT_CLAUSE
+                        + ", SUBSTRING(b.content, CASE WHEN LOCATE(:term, b.content) > 150 "
+                        + "THEN LOCATE(:term, b.content) - 150 ELSE 1 END, 400) AS snippet "
+                        + "FROM Blog b WHERE b.id IN :ids")
+        List<BlogSearchSummary> findSearchSummariesByIds(@Param("ids") List<UUID> ids, @Param("term") String term);
+
+        // Inline image migration, ids are raw BINARY(16) values since the queries are native
+
+        @Query(value = "SELECT b.id FROM blogs b WHERE b.id > :afterId AND b.content LIKE '%src=_data:image/%' "
+                        + "ORDER BY b.id LIMIT :limit", nativeQuery = true)
+        List<byte[]> findBlogIdsWithInlineImages(@Param("afterId") UUID afterId, @Param("limit") int limit);
+
+        @Query(value = "SELECT COALESCE(AVG(LENGTH(b.content)), 0) FROM blogs b", nativeQuery = true)
+        Double findAverageContentLength();
+
+        // Counter reconciliation, blogs whose like, save or comment count drifted
+
+        @Query(value = "SELECT b.id FROM blogs b "
+                        + "LEFT JOIN (SELECT blog_id, COUNT(*) AS cnt FROM liked_blogs GROUP BY blog_id) l "
+                        + "ON l.blog_id = b.id "
+                        + "LEFT JOIN (SELECT blog_id, COUNT(*) AS cnt FROM saved_blogs GROUP BY blog_id) s "
+                        + "ON s.blog_id = b.id "
+                        + "LEFT JOIN (SELECT blog_id, COUNT(*) AS cnt FROM comments GROUP BY blog_id) c "
+                        + "ON c.blog_id = b.id "
+                        + "WHERE b.like_count <> COALESCE(l.cnt, 0) OR b.save_count <> COALESCE(s.cnt, 0) "
+                        + "OR b.comment_count <> COALESCE(c.cnt, 0)", nativeQuery = true)
+        List<byte[]> findBlogIdsWithCounterDrift();
 }
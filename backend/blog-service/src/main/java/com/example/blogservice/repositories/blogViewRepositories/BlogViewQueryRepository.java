@@ -0,0 +1,30 @@
+package com.example.blogservice.repositories.blogViewRepositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.blogservice.entities.BlogDailyView;
+import com.example.blogservice.repositories.projections.DailyViewTotals;
+import com.example.blogservice.repositories.projections.ViewTotals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BlogViewQueryRepository extends JpaRepository<BlogDailyView, UUID> {
+
+    @Query("SELECT COALESCE(SUM(v.views), 0) AS views, COALESCE(SUM(v.uniqueViewers), 0) AS uniqueViewers "
+            + "FROM BlogDailyView v WHERE v.blogId = :blogId AND v.viewDate < :beforeDate")
+    ViewTotals findViewTotalsByBlogIdBefore(@Param("blogId") UUID blogId, @Param("beforeDate") LocalDate beforeDate);
+
+    @Query("SELECT v.viewDate AS viewDate, v.views AS views, v.uniqueViewers AS uniqueViewers "
+            + "FROM BlogDailyView v WHERE v.blogId = :blogId AND v.viewDate >= :fromDate")
+    List<DailyViewTotals> findDailyViewsByBlogId(@Param("blogId") UUID blogId, @Param("fromDate") LocalDate fromDate);
+
+    @Query("SELECT v.viewDate AS viewDate, SUM(v.views) AS views, SUM(v.uniqueViewers) AS uniqueViewers "
+            + "FROM BlogDailyView v WHERE v.viewDate >= :fromDate GROUP BY v.viewDate ORDER BY v.viewDate")
+    List<DailyViewTotals> findDailyViewTotals(@Param("fromDate") LocalDate fromDate);
+}
@@ -17,13 +17,14 @@ public interface CommentCommandRepository extends JpaRepository<Comment, UUID> {
 
     @Modifying
     @Transactional
-    @Query(value = "INSERT INTO comments (id, blog_id, user_id, username, content, created_at, updated_at) " +
-            "VALUES (:id, :blogId, :userId, :username, :content, :createdAt, :updatedAt)", nativeQuery = true)
+    @Query(value = "INSERT INTO comments (id, blog_id, user_id, username, content, parent_id, created_at, updated_at) " +
+            "VALUES (:id, :blogId, :userId, :username, :content, :parentId, :createdAt, :updatedAt)", nativeQuery = true)
     int insertComment(@Param("id") UUID id,
             @Param("blogId") UUID blogId,
             @Param("userId") UUID userId,
             @Param("username") String username,
             @Param("content") String content,
+            @Param("parentId") UUID parentId,
             @Param("createdAt") Instant createdAt,
             @Param("updatedAt") Instant updatedAt);
 
@@ -43,4 +44,22 @@ public interface CommentCommandRepository extends JpaRepository<Comment, UUID> {
     @Transactional
     @Query("DELETE FROM Comment c WHERE c.id = :commentId")
     int deleteCommentById(@Param("commentId") UUID commentId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Comment c WHERE c.parentId = :parentId")
+    int deleteRepliesByParentId(@Param("parentId") UUID parentId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.id = :commentId AND c.replyCount + :delta >= 0")
+    int incrementReplyCount(@Param("commentId") UUID commentId, @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE comments p LEFT JOIN (SELECT parent_id, COUNT(*) AS cnt FROM comments "
+            + "WHERE parent_id IS NOT NULL GROUP BY parent_id) c "
+            + "ON c.parent_id = p.id SET p.reply_count = COALESCE(c.cnt, 0) "
+            + "WHERE p.parent_id IS NULL AND p.reply_count <> COALESCE(c.cnt, 0)", nativeQuery = true)
+    int reconcileReplyCounts();
 }
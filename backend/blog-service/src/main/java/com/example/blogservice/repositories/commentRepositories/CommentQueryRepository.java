@@ -3,6 +3,7 @@ package com.example.blogservice.repositories.commentRepositories;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +13,11 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 
 @Repository
 public interface CommentQueryRepository extends JpaRepository<Comment, UUID> {
@@ -25,6 +31,17 @@ public interface CommentQueryRepository extends JpaRepository<Comment, UUID> {
         @Query("SELECT c FROM Comment c ORDER BY c.createdAt DESC")
         List<Comment> findAllComments();
 
+        // Streams rows for exports, a fetch size of Integer.MIN_VALUE makes
+        // MySQL Connector/J read row by row instead of buffering the result.
+        // Ordered by creation time rather than id, comments written before
+        // UuidV7 ids have random ones. idx_comments_created_at_id avoids the sort
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("SELECT c FROM Comment c ORDER BY c.createdAt, c.id")
+        Stream<Comment> streamAllComments();
+
         @Query("SELECT COUNT(c) FROM Comment c")
         long countTotalComments();
 
@@ -44,4 +61,44 @@ public interface CommentQueryRepository extends JpaRepository<Comment, UUID> {
 
         @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM Comment c WHERE c.blogId = :blogId")
         boolean existsByBlogId(@Param("blogId") UUID blogId);
+
+        // Keyset pagination on (createdAt, id), top-level comments newest first,
+        // replies oldest first so a thread reads in order
+
+        @Query("SELECT c FROM Comment c WHERE c.blogId = :blogId AND c.parentId IS NULL "
+                        + "ORDER BY c.createdAt DESC, c.id DESC")
+        List<Comment> findTopLevelCommentsFirstPage(@Param("blogId") UUID blogId, Pageable pageable);
+
+        @Query("SELECT c FROM Comment c WHERE c.blogId = :blogId AND c.parentId IS NULL "
+                        + "AND (c.createdAt < :cursorCreatedAt "
+                        + "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) "
+                        + "ORDER BY c.createdAt DESC, c.id DESC")
+        List<Comment> findTopLevelCommentsAfterCursor(@Param("blogId") UUID blogId,
+                        @Param("cursorCreatedAt") Instant cursorCreatedAt,
+                        @Param("cursorId") UUID cursorId,
+                        Pageable pageable);
+
+        @Query("SELECT c.id FROM Comment c WHERE c.parentId = :parentId")
+        List<UUID> findReplyIdsByParentId(@Param("parentId") UUID parentId);
+
+        @Query("SELECT c FROM Comment c WHERE c.parentId IN :parentIds ORDER BY c.createdAt ASC, c.id ASC")
+        List<Comment> findRepliesByParentIds(@Param("parentIds") List<UUID> parentIds);
+
+        @Query("SELECT c FROM Comment c WHERE c.parentId = :parentId ORDER BY c.createdAt ASC, c.id ASC")
+        List<Comment> findRepliesFirstPage(@Param("parentId") UUID parentId, Pageable pageable);
+
+        @Query("SELECT c FROM Comment c WHERE c.parentId = :parentId "
+                        + "AND (c.createdAt > :cursorCreatedAt "
+                        + "OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)) "
+                        + "ORDER BY c.createdAt ASC, c.id ASC")
+        List<Comment> findRepliesAfterCursor(@Param("parentId") UUID parentId,
+                        @Param("cursorCreatedAt") Instant cursorCreatedAt,
+                        @Param("cursorId") UUID cursorId,
+                        Pageable pageable);
+
+        // Counter reconciliation, top-level comments whose reply count drifted
+        @Query(value = "SELECT p.id FROM comments p LEFT JOIN (SELECT parent_id, COUNT(*) AS cnt FROM comments "
+                        + "WHERE parent_id IS NOT NULL GROUP BY parent_id) c ON c.parent_id = p.id "
+                        + "WHERE p.parent_id IS NULL AND p.reply_count <> COALESCE(c.cnt, 0)", nativeQuery = true)
+        List<byte[]> findCommentIdsWithReplyCountDrift();
 }
@@ -14,8 +14,22 @@ import java.util.UUID;
 @Repository
 public interface LikedBlogCommandRepository extends JpaRepository<LikedBlog, UUID> {
 
+    /**
+     * Idempotent insert relying on uk_liked_blogs_user_blog
+     *
+     * Only the duplicate key is absorbed, unlike INSERT IGNORE other errors
+     * (FK, truncation) still fail the statement
+     *
+     * @return 1 if the like was added, 0 if the user already liked the blog
+     */
     @Modifying
     @Transactional
-    @Query("INSERT INTO LikedBlog (id, userId, blogId) VALUES (:id, :userId, :blogId)")
-    void likeBlog(@Param("id") UUID id, @Param("userId") UUID userId, @Param("blogId") UUID blogId);
+    @Query(value = "INSERT INTO liked_blogs (id, user_id, blog_id) VALUES (:id, :userId, :blogId) "
+            + "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    int likeBlog(@Param("id") UUID id, @Param("userId") UUID userId, @Param("blogId") UUID blogId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM LikedBlog lb WHERE lb.userId = :userId AND lb.blogId = :blogId")
+    int deleteByUserIdAndBlogId(@Param("userId") UUID userId, @Param("blogId") UUID blogId);
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import com.example.blogservice.entities.Blog;
 import com.example.blogservice.entities.LikedBlog;
+import com.example.blogservice.repositories.projections.BlogSummary;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,6 +24,14 @@ public interface LikedBlogQueryRepository extends JpaRepository<LikedBlog, UUID>
     @Query("SELECT b FROM Blog b JOIN LikedBlog lb ON b.id = lb.blogId WHERE lb.userId = :userId ORDER BY lb.id DESC")
     List<Blog> findLikedBlogsDetailsByUserId(@Param("userId") UUID userId);
 
+    @Query(BlogSummary.SELECT_CLAUSE
+            + "FROM Blog b JOIN LikedBlog lb ON b.id = lb.blogId WHERE lb.userId = :userId ORDER BY lb.id DESC")
+    List<BlogSummary> findLikedBlogSummariesByUserId(@Param("userId") UUID userId);
+
     @Query("SELECT COUNT(lb) FROM LikedBlog lb WHERE lb.blogId = :blogId")
     long countLikesByBlogId(@Param("blogId") UUID blogId);
+
+    @Query("SELECT CASE WHEN COUNT(lb) > 0 THEN true ELSE false END FROM LikedBlog lb "
+            + "WHERE lb.userId = :userId AND lb.blogId = :blogId")
+    boolean existsLikedBlog(@Param("userId") UUID userId, @Param("blogId") UUID blogId);
 }
@@ -0,0 +1,12 @@
+package com.example.blogservice.repositories.projections;
+
+/**
+ * Ranked match returned by the FULLTEXT search query
+ * The id is the raw BINARY(16) value since the query is native
+ */
+public interface BlogSearchRow {
+
+    byte[] getId();
+
+    Double getScore();
+}
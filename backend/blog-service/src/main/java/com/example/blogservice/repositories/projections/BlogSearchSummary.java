@@ -0,0 +1,10 @@
+package com.example.blogservice.repositories.projections;
+
+/**
+ * BlogSummary plus a short window of the content around the first match,
+ * so search results never load the full LONGTEXT column
+ */
+public interface BlogSearchSummary extends BlogSummary {
+
+    String getSnippet();
+}
@@ -0,0 +1,48 @@
+package com.example.blogservice.repositories.projections;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.example.blogservice.entities.Blog;
+
+/**
+ * Lightweight projection of Blog used by list queries
+ * Selects every column except the LONGTEXT content
+ */
+public interface BlogSummary {
+
+    /**
+     * Shared select clause for queries returning BlogSummary, expects alias b
+     */
+    String SELECT_CLAUSE = "SELECT b.id AS id, b.authorId AS authorId, b.title AS title, "
+            + "b.category AS category, b.description AS description, b.thumbnailUrl AS thumbnailUrl, "
+            + "b.thumbnailPublicId AS thumbnailPublicId, b.isVisibility AS isVisibility, "
+            + "b.likeCount AS likeCount, b.saveCount AS saveCount, b.commentCount AS commentCount, "
+            + "b.createdAt AS createdAt, b.updatedAt AS updatedAt ";
+
+    UUID getId();
+
+    UUID getAuthorId();
+
+    String getTitle();
+
+    Blog.Category getCategory();
+
+    String getDescription();
+
+    String getThumbnailUrl();
+
+    String getThumbnailPublicId();
+
+    Boolean getIsVisibility();
+
+    Long getLikeCount();
+
+    Long getSaveCount();
+
+    Long getCommentCount();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+}
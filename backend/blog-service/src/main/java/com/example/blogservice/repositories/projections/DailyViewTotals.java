@@ -0,0 +1,15 @@
+package com.example.blogservice.repositories.projections;
+
+import java.time.LocalDate;
+
+/**
+ * View counters of one day, summed over all blogs or of a single blog
+ */
+public interface DailyViewTotals {
+
+    LocalDate getViewDate();
+
+    Long getViews();
+
+    Long getUniqueViewers();
+}
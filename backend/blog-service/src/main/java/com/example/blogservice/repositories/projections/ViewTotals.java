@@ -0,0 +1,11 @@
+package com.example.blogservice.repositories.projections;
+
+/**
+ * Summed view counters of one blog across a range of days
+ */
+public interface ViewTotals {
+
+    Long getViews();
+
+    Long getUniqueViewers();
+}
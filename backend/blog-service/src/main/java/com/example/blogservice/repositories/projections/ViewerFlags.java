@@ -0,0 +1,11 @@
+package com.example.blogservice.repositories.projections;
+
+/**
+ * Whether one user liked and saved one blog, as row counts (0 or 1)
+ */
+public interface ViewerFlags {
+
+    Long getLikes();
+
+    Long getSaves();
+}
@@ -14,9 +14,22 @@ import java.util.UUID;
 @Repository
 public interface SavedBlogCommandRepository extends JpaRepository<SavedBlog, UUID> {
 
+    /**
+     * Idempotent insert relying on uk_saved_blogs_user_blog
+     *
+     * Only the duplicate key is absorbed, unlike INSERT IGNORE other errors
+     * (FK, truncation) still fail the statement
+     *
+     * @return 1 if the save was added, 0 if the user already saved the blog
+     */
     @Modifying
     @Transactional
-    @Query("INSERT INTO SavedBlog (id, userId, blogId) VALUES (:id, :userId, :blogId)")
-    void saveSavedBlog(@Param("id") UUID id, @Param("userId") UUID userId, @Param("blogId") UUID blogId);
+    @Query(value = "INSERT INTO saved_blogs (id, user_id, blog_id) VALUES (:id, :userId, :blogId) "
+            + "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    int saveSavedBlog(@Param("id") UUID id, @Param("userId") UUID userId, @Param("blogId") UUID blogId);
 
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SavedBlog sb WHERE sb.userId = :userId AND sb.blogId = :blogId")
+    int deleteByUserIdAndBlogId(@Param("userId") UUID userId, @Param("blogId") UUID blogId);
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import com.example.blogservice.entities.SavedBlog;
 import com.example.blogservice.entities.Blog;
+import com.example.blogservice.repositories.projections.BlogSummary;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,4 +24,11 @@ public interface SavedBlogQueryRepository extends JpaRepository<SavedBlog, UUID>
     @Query("SELECT b FROM Blog b JOIN SavedBlog sb ON b.id = sb.blogId WHERE sb.userId = :userId ORDER BY sb.id DESC")
     List<Blog> findBlogsByUserSaved(@Param("userId") UUID userId);
 
+    @Query(BlogSummary.SELECT_CLAUSE
+            + "FROM Blog b JOIN SavedBlog sb ON b.id = sb.blogId WHERE sb.userId = :userId ORDER BY b.updatedAt DESC")
+    List<BlogSummary> findSavedBlogSummariesByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT CASE WHEN COUNT(sb) > 0 THEN true ELSE false END FROM SavedBlog sb "
+            + "WHERE sb.userId = :userId AND sb.blogId = :blogId")
+    boolean existsSavedBlog(@Param("userId") UUID userId, @Param("blogId") UUID blogId);
 }
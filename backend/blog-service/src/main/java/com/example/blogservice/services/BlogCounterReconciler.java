@@ -0,0 +1,132 @@
+package com.example.blogservice.services;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.blogservice.repositories.blogRepositories.BlogCommandRepository;
+import com.example.blogservice.repositories.blogRepositories.BlogQueryRepository;
+import com.example.blogservice.repositories.commentRepositories.CommentCommandRepository;
+import com.example.blogservice.repositories.commentRepositories.CommentQueryRepository;
+import com.example.blogservice.utils.CacheTags;
+import com.example.rediscommon.services.RedisService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Repairs drift between the blog counter columns and the rows they count
+ * (e.g. after a partial failure or a manual data fix)
+ * Runs on one instance at a time. The drifted blogs and comments are read
+ * first so their cached views can be invalidated once the counters are fixed.
+ */
+@Slf4j
+@Service
+public class BlogCounterReconciler {
+
+    private static final String LOCK_KEY = "blog_counter_reconcile_lock";
+    private static final long LOCK_TTL_MS = 10 * 60_000;
+
+    // Tags invalidated per call, bounds the size of one invalidation script
+    private static final int INVALIDATION_BATCH_SIZE = 500;
+
+    /**
+     * KEYS[1] = lock key, ARGV[1] = owner, ARGV[2] = ttl in ms
+     */
+    private static final RedisScript<Long> LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 end return 0",
+            Long.class);
+
+    /**
+     * KEYS[1] = lock key, ARGV[1] = owner
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final BlogCommandRepository blogCommandRepository;
+    private final BlogQueryRepository blogQueryRepository;
+    private final CommentCommandRepository commentCommandRepository;
+    private final CommentQueryRepository commentQueryRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final RedisService redisService;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public BlogCounterReconciler(BlogCommandRepository blogCommandRepository,
+            BlogQueryRepository blogQueryRepository,
+            CommentCommandRepository commentCommandRepository,
+            CommentQueryRepository commentQueryRepository,
+            CacheInvalidationService cacheInvalidationService,
+            RedisService redisService) {
+        this.blogCommandRepository = blogCommandRepository;
+        this.blogQueryRepository = blogQueryRepository;
+        this.commentCommandRepository = commentCommandRepository;
+        this.commentQueryRepository = commentQueryRepository;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.redisService = redisService;
+    }
+
+    @Scheduled(cron = "${blog.counters.reconcile-cron:0 30 3 * * *}")
+    public void reconcileCounters() {
+        try {
+            Long locked = redisService.executeScript(LOCK_SCRIPT, List.of(LOCK_KEY), instanceId,
+                    String.valueOf(LOCK_TTL_MS));
+            if (locked == null || locked != 1) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to acquire blog counter reconciliation lock: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+
+            List<String> blogTags = new ArrayList<>();
+            blogQueryRepository.findBlogIdsWithCounterDrift().forEach(id -> blogTags.add(CacheTags.blog(toUuid(id))));
+            List<String> commentTags = new ArrayList<>();
+            commentQueryRepository.findCommentIdsWithReplyCountDrift()
+                    .forEach(id -> commentTags.add(CacheTags.comment(toUuid(id))));
+
+            int likes = blogCommandRepository.reconcileLikeCounts();
+            int saves = blogCommandRepository.reconcileSaveCounts();
+            int comments = blogCommandRepository.reconcileCommentCounts();
+            int replies = commentCommandRepository.reconcileReplyCounts();
+
+            if (likes + saves + comments + replies > 0) {
+                log.warn("Repaired blog counter drift: {} like, {} save, {} comment, {} reply counts", likes, saves,
+                        comments, replies);
+                // Listings carry the counters too
+                blogTags.add(CacheTags.blogList());
+                invalidate(blogTags);
+                invalidate(commentTags);
+            }
+            log.info("Blog counter reconciliation completed in {} ms", System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("Blog counter reconciliation failed: {}", e.getMessage(), e);
+        } finally {
+            try {
+                redisService.executeScript(UNLOCK_SCRIPT, List.of(LOCK_KEY), instanceId);
+            } catch (Exception e) {
+                log.warn("Failed to release blog counter reconciliation lock: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void invalidate(List<String> tags) {
+        for (int from = 0; from < tags.size(); from += INVALIDATION_BATCH_SIZE) {
+            List<String> batch = tags.subList(from, Math.min(from + INVALIDATION_BATCH_SIZE, tags.size()));
+            cacheInvalidationService.invalidateAfterCommit(batch.toArray(String[]::new));
+        }
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
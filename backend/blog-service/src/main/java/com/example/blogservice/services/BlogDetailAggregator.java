@@ -0,0 +1,225 @@
+package com.example.blogservice.services;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.example.blogservice.dtos.BlogDto;
+import com.example.blogservice.dtos.CommentPageDto;
+import com.example.blogservice.dtos.ViewerStateDto;
+import com.example.blogservice.entities.LikedBlog;
+import com.example.blogservice.entities.SavedBlog;
+import com.example.blogservice.repositories.blogRepositories.BlogQueryRepository;
+import com.example.blogservice.repositories.likedBlogRepositories.LikedBlogQueryRepository;
+import com.example.blogservice.repositories.savedBlogRepositories.SavedBlogQueryRepository;
+import com.example.blogservice.services.apis.handlers.CommentHandler;
+import com.example.blogservice.utils.CacheTags;
+import com.example.rediscommon.dtos.CacheTagVersions;
+import com.example.rediscommon.services.RedisCacheService;
+import com.example.rediscommon.utils.CacheKeyBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the blog detail view
+ * The blog is validated once and returned with its counters, per-viewer
+ * lookups are loaded concurrently, so a request costs the slowest lookup
+ * rather than the sum
+ * With the like write-behind buffer enabled, like state and counts come from
+ * the buffer so unflushed likes are visible
+ */
+@Slf4j
+@Service
+public class BlogDetailAggregator {
+
+    private final ValidateService validateService;
+    private final CommentHandler commentHandler;
+    private final BlogQueryRepository blogQueryRepository;
+    private final LikedBlogQueryRepository likedBlogQueryRepository;
+    private final SavedBlogQueryRepository savedBlogQueryRepository;
+    private final LikeBuffer likeBuffer;
+    private final RedisCacheService cacheService;
+    private final CacheKeyBuilder cacheKeys;
+    private final ExecutorService executor;
+    private final Semaphore dbPermits;
+
+    public BlogDetailAggregator(
+            ValidateService validateService,
+            CommentHandler commentHandler,
+            BlogQueryRepository blogQueryRepository,
+            LikedBlogQueryRepository likedBlogQueryRepository,
+            SavedBlogQueryRepository savedBlogQueryRepository,
+            LikeBuffer likeBuffer,
+            RedisCacheService cacheService,
+            @Qualifier("blogReadExecutor") ExecutorService executor,
+            @Qualifier("blogReadDbPermits") Semaphore dbPermits) {
+        this.validateService = validateService;
+        this.commentHandler = commentHandler;
+        this.blogQueryRepository = blogQueryRepository;
+        this.likedBlogQueryRepository = likedBlogQueryRepository;
+        this.savedBlogQueryRepository = savedBlogQueryRepository;
+        this.likeBuffer = likeBuffer;
+        this.cacheService = cacheService;
+        this.cacheKeys = CacheKeyBuilder.forService("blog");
+        this.executor = executor;
+        this.dbPermits = dbPermits;
+    }
+
+    /**
+     * Shared part of the detail view (blog, counters, comments), safe to cache
+     */
+    public BlogDto loadBlogDetail(UUID blogId) {
+        BlogDto blog = validateService.validateBlog(blogId);
+
+        // Only the first page, commentCount carries the total
+        CommentPageDto comments = commentHandler.handleGetValidatedBlogComments(blogId, blog.getCommentCount());
+        blog.setComments(comments.getComments());
+        blog.setCommentsNextCursor(comments.getNextCursor());
+        log.debug("Assembled blog detail for blogId={}: {} of {} comments, {} likes, {} saves", blogId,
+                comments.getComments().size(), blog.getCommentCount(), blog.getLikeCount(), blog.getSaveCount());
+        return blog;
+    }
+
+    /**
+     * Per-viewer part of the detail view, never cached with the blog
+     * The liked/saved flags come from one cached lookup per (blog, viewer),
+     * they and the ID lists (when requested) are loaded concurrently. Each
+     * task borrows its own connection, so call this outside a transaction
+     *
+     * @param viewerId   Current user, null for anonymous viewers
+     * @param includeIds Also fill the full likes/saves ID lists
+     */
+    public void applyViewerState(BlogDto blog, UUID viewerId, boolean includeIds) {
+        UUID blogId = blog.getId();
+
+        CompletableFuture<ViewerStateDto> viewerState = viewerId != null
+                ? supply(() -> loadViewerState(blogId, viewerId))
+                : CompletableFuture.completedFuture(null);
+        // Buffered likes are not in MySQL yet, read the like state from the buffer
+        CompletableFuture<Boolean> bufferedLike = viewerId != null && likeBuffer.isEnabled()
+                ? supply(() -> likeBuffer.isLiked(blogId, viewerId))
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<Long> likeCount = likeBuffer.isEnabled()
+                ? supply(() -> likeBuffer.countLikes(blogId))
+                : CompletableFuture.completedFuture(blog.getLikeCount());
+        CompletableFuture<List<UUID>> likes = includeIds
+                ? supply(() -> loadBlogLikes(blogId))
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<List<UUID>> saves = includeIds
+                ? supply(() -> loadBlogSaves(blogId))
+                : CompletableFuture.completedFuture(null);
+
+        try {
+            CompletableFuture.allOf(viewerState, bufferedLike, likeCount, likes, saves).join();
+        } catch (CompletionException e) {
+            // Surface the original exception (e.g. OurException) to the handler
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        ViewerStateDto state = viewerState.join();
+        if (state != null) {
+            Boolean buffered = bufferedLike.join();
+            blog.setLikedByViewer(buffered != null ? buffered : state.isLiked());
+            blog.setSavedByViewer(state.isSaved());
+        }
+        blog.setLikeCount(likeCount.join());
+        blog.setLikes(likes.join());
+        blog.setSaves(saves.join());
+    }
+
+    /**
+     * User IDs who liked the blog, the caller is responsible for validation
+     */
+    public List<UUID> loadBlogLikes(UUID blogId) {
+        if (likeBuffer.isEnabled()) {
+            // Includes likes not flushed to MySQL yet
+            return likeBuffer.getLikers(blogId);
+        }
+
+        String cacheKey = cacheKeys.forMethodWithId("handleGetBlogLikes", blogId);
+        List<UUID> userIds = cacheService.getCacheDataList(cacheKey, UUID.class);
+
+        if (userIds == null) {
+            log.debug("Cache miss for blog likes, fetching from database for blogId={}", blogId);
+            CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.blog(blogId));
+            userIds = likedBlogQueryRepository.findLikedBlogsByBlogId(blogId)
+                    .stream()
+                    .map(LikedBlog::getUserId)
+                    .collect(Collectors.toList());
+
+            cacheService.setCacheData(cacheKey, userIds, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
+        }
+        return userIds;
+    }
+
+    /**
+     * User IDs who saved the blog, the caller is responsible for validation
+     */
+    public List<UUID> loadBlogSaves(UUID blogId) {
+        String cacheKey = cacheKeys.forMethodWithId("handleGetBlogSaves", blogId);
+        List<UUID> userIds = cacheService.getCacheDataList(cacheKey, UUID.class);
+
+        if (userIds == null) {
+            log.debug("Cache miss for blog saves, fetching from database for blogId={}", blogId);
+            CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.blog(blogId));
+            userIds = savedBlogQueryRepository.findSavedBlogsByBlogId(blogId)
+                    .stream()
+                    .map(SavedBlog::getUserId)
+                    .collect(Collectors.toList());
+
+            cacheService.setCacheData(cacheKey, userIds, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
+        }
+        return userIds;
+    }
+
+    /**
+     * Like and save state of one viewer, cached until the viewer likes or
+     * saves something or the blog changes
+     */
+    private ViewerStateDto loadViewerState(UUID blogId, UUID viewerId) {
+        String cacheKey = cacheKeys.forMethodWithParams("handleGetViewerState", blogId, viewerId);
+        ViewerStateDto state = cacheService.getCacheData(cacheKey, ViewerStateDto.class);
+
+        if (state == null) {
+            CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.blog(blogId),
+                    CacheTags.userLikes(viewerId), CacheTags.userSaves(viewerId));
+            state = blogQueryRepository.findViewerFlags(blogId, viewerId)
+                    .map(flags -> new ViewerStateDto(flags.getLikes() > 0, flags.getSaves() > 0))
+                    .orElseGet(() -> new ViewerStateDto(false, false));
+
+            cacheService.setCacheData(cacheKey, state, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
+        }
+        return state;
+    }
+
+    /**
+     * Every fan-out task may fall through to the database, so each one waits
+     * for a permit before it can borrow a connection
+     */
+    private <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                dbPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for a database permit", e);
+            }
+            try {
+                return task.get();
+            } finally {
+                dbPermits.release();
+            }
+        }, executor);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.blogservice.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the FULLTEXT indexes used by blog search when they are missing
+ * Hibernate cannot declare FULLTEXT indexes, so ddl-auto=update never creates
+ * them (see db/migration/V3__add_blog_fulltext_indexes.sql)
+ */
+@Slf4j
+@Component
+public class BlogSearchIndexInitializer implements ApplicationRunner {
+
+    private static final Map<String, String> INDEXES = new LinkedHashMap<>();
+
+    static {
+        INDEXES.put("ft_blogs_title", "ALTER TABLE blogs ADD FULLTEXT INDEX ft_blogs_title (title)");
+        INDEXES.put("ft_blogs_search",
+                "ALTER TABLE blogs ADD FULLTEXT INDEX ft_blogs_search (title, description, content)");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${blog.search.ensure-indexes:true}")
+    private boolean ensureIndexes;
+
+    public BlogSearchIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!ensureIndexes) {
+            return;
+        }
+
+        INDEXES.forEach((name, ddl) -> {
+            try {
+                Integer existing = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM information_schema.statistics "
+                                + "WHERE table_schema = DATABASE() AND table_name = 'blogs' AND index_name = ?",
+                        Integer.class, name);
+                if (existing != null && existing > 0) {
+                    return;
+                }
+
+                long startTime = System.currentTimeMillis();
+                jdbcTemplate.execute(ddl);
+                log.info("Created FULLTEXT index {} in {} ms", name, System.currentTimeMillis() - startTime);
+            } catch (Exception e) {
+                log.error("Failed to ensure FULLTEXT index {}: {}", name, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.blogservice.services;
+
+import java.util.Arrays;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.rediscommon.services.RedisCacheService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Invalidates tagged cache entries once the surrounding transaction has
+ * committed, so readers never re-cache the pre-commit state and a rolled back
+ * write does not evict anything
+ */
+@Slf4j
+@Service
+public class CacheInvalidationService {
+
+    private final RedisCacheService cacheService;
+
+    public CacheInvalidationService(RedisCacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    public void invalidateAfterCommit(String... tags) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(tags);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(tags);
+            }
+        });
+        log.debug("Scheduled cache invalidation after commit for tags: {}", Arrays.toString(tags));
+    }
+
+    private void invalidate(String... tags) {
+        try {
+            cacheService.invalidateTags(tags);
+            log.debug("Invalidated cache tags: {}", Arrays.toString(tags));
+        } catch (Exception e) {
+            log.error("Failed to invalidate cache tags {}: {}", Arrays.toString(tags), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,575 @@
+package com.example.blogservice.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.blogservice.dtos.CommentDto;
+import com.example.blogservice.utils.BlogCursor;
+import com.example.blogservice.utils.CacheTags;
+import com.example.rediscommon.services.RedisService;
+import com.example.rediscommon.utils.RedisScripts;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-blog comment cache maintained incrementally
+ * comments:blog:{blogId}:z holds top-level comment ids and
+ * comments:thread:{commentId}:z the replies of one thread, both sorted sets
+ * scored by creation time. comments:blog:{blogId}:h maps every comment id of
+ * the blog to its JSON body and rc:{commentId} to a thread's reply count, its
+ * _loaded field marks the blog as cached.
+ *
+ * A blog is loaded from MySQL in the background after the first miss, the
+ * request that missed reads only its own page from MySQL. One instance loads
+ * a blog at a time (comments:blog:{blogId}:lock), writing a chunk of
+ * top-level comments per script call and their replies in calls of at most
+ * MAX_REPLIES_PER_CALL, so a huge thread never becomes one long blocking
+ * script. The blog is only marked loaded once every chunk is in.
+ * After that adds, edits and deletes are applied to the keys after commit, so
+ * a page read is O(log n + page) and writes never rebuild the list. Every
+ * write bumps comments:blog:{blogId}:v, a load is dropped when the version
+ * moved while it was reading MySQL so a write racing the load is never lost.
+ * Scripts only touch keys passed in KEYS.
+ */
+@Slf4j
+@Service
+public class CommentCacheStore {
+
+    private static final String BLOG_PREFIX = "comments:blog:";
+    private static final String THREAD_PREFIX = "comments:thread:";
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String REPLY_COUNT_FIELD = "rc:";
+
+    // Top-level comments read and written per load chunk
+    private static final int LOAD_CHUNK_SIZE = 200;
+    // Replies written per load script call, long threads span several calls
+    private static final int MAX_REPLIES_PER_CALL = 500;
+    // Background loads one instance runs at once, further misses just read MySQL
+    private static final int MAX_CONCURRENT_LOADS = 2;
+    // Held while loading, renewed by every chunk
+    private static final long LOAD_LOCK_TTL_MS = 30_000;
+
+    /**
+     * Loader of the comments to cache, both keyed on the comment order used by
+     * the cache (top-level newest first, replies oldest first)
+     */
+    public interface CommentLoader {
+
+        /**
+         * @param after Last top-level comment of the previous chunk, null for the first
+         */
+        List<CommentDto> loadTopLevel(CommentDto after, int limit);
+
+        List<CommentDto> loadReplies(List<UUID> parentIds);
+    }
+
+    /**
+     * Page of comment bodies after a cursor, nil when the blog is not loaded
+     * Returns [body, replyCount] pairs, replyCount is empty for replies
+     * KEYS[1] = sorted set, KEYS[2] = hash
+     * ARGV[1] = cursor id or empty, ARGV[2] = cursor score, ARGV[3] = count,
+     * ARGV[4] = desc or asc, ARGV[5] = 1 to include reply counts
+     */
+    private static final RedisScript<List<String>> PAGE_SCRIPT = RedisScripts.listScript(
+            "if redis.call('HEXISTS', KEYS[2], '" + LOADED_FIELD + "') == 0 then return false end "
+                    + "local count = tonumber(ARGV[3]) "
+                    + "local desc = ARGV[4] == 'desc' "
+                    + "local ids "
+                    + "if ARGV[1] == '' then "
+                    + "  if desc then ids = redis.call('ZREVRANGE', KEYS[1], 0, count - 1) "
+                    + "  else ids = redis.call('ZRANGE', KEYS[1], 0, count - 1) end "
+                    + "else "
+                    + "  local rank "
+                    + "  if desc then rank = redis.call('ZREVRANK', KEYS[1], ARGV[1]) "
+                    + "  else rank = redis.call('ZRANK', KEYS[1], ARGV[1]) end "
+                    + "  if rank then "
+                    + "    if desc then ids = redis.call('ZREVRANGE', KEYS[1], rank + 1, rank + count) "
+                    + "    else ids = redis.call('ZRANGE', KEYS[1], rank + 1, rank + count) end "
+                    // The cursor comment was deleted, continue strictly past its time
+                    + "  elseif desc then "
+                    + "    ids = redis.call('ZREVRANGEBYSCORE', KEYS[1], '(' .. ARGV[2], '-inf', 'LIMIT', 0, count) "
+                    + "  else "
+                    + "    ids = redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. ARGV[2], '+inf', 'LIMIT', 0, count) "
+                    + "  end "
+                    + "end "
+                    + "local result = {} "
+                    + "for _, id in ipairs(ids) do "
+                    + "  local body = redis.call('HGET', KEYS[2], id) "
+                    + "  if body then "
+                    + "    table.insert(result, body) "
+                    + "    if ARGV[5] == '1' then "
+                    + "      local replies = redis.call('HGET', KEYS[2], '" + REPLY_COUNT_FIELD + "' .. id) "
+                    + "      table.insert(result, replies or '0') "
+                    + "    else table.insert(result, '') end "
+                    + "  end "
+                    + "end "
+                    + "return result");
+
+    /**
+     * Take the load lock, clear the blog's keys and return the write version
+     * the load has to match, nil when another load holds the lock
+     * KEYS[1] = blog sorted set, KEYS[2] = hash, KEYS[3] = version, KEYS[4] = lock
+     * ARGV[1] = owner, ARGV[2] = lock ttl in ms
+     */
+    private static final RedisScript<String> BEGIN_LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[4], ARGV[1], 'NX', 'PX', ARGV[2]) then return false end "
+                    + "redis.call('DEL', KEYS[1], KEYS[2]) "
+                    + "return redis.call('GET', KEYS[3]) or '0'",
+            String.class);
+
+    /**
+     * Write one chunk of top-level comments and clear their old threads
+     * KEYS[1] = blog sorted set, KEYS[2] = hash, KEYS[3] = version, KEYS[4] = lock,
+     * KEYS[5..] = thread sorted set of each top-level comment, in ARGV order
+     * ARGV[1] = expected version, ARGV[2] = ttl in ms, ARGV[3] = owner, ARGV[4] = lock ttl in ms,
+     * ARGV[5..] = per top-level comment: id, score, body, reply count
+     * Returns 0 when the version moved or the lock was lost
+     */
+    private static final RedisScript<Long> LOAD_CHUNK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[4]) ~= ARGV[3] then return 0 end "
+                    + "if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('PEXPIRE', KEYS[4], ARGV[4]) "
+                    + "local a = 5 "
+                    + "for k = 5, #KEYS do "
+                    + "  local id = ARGV[a] "
+                    + "  redis.call('HSET', KEYS[2], id, ARGV[a + 2], '" + REPLY_COUNT_FIELD + "' .. id, ARGV[a + 3]) "
+                    + "  redis.call('ZADD', KEYS[1], ARGV[a + 1], id) "
+                    + "  redis.call('DEL', KEYS[k]) "
+                    + "  a = a + 4 "
+                    + "end "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "redis.call('PEXPIRE', KEYS[2], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    /**
+     * Write up to MAX_REPLIES_PER_CALL replies, a thread may continue in the next call
+     * KEYS[1] = blog sorted set, KEYS[2] = hash, KEYS[3] = version, KEYS[4] = lock,
+     * KEYS[5..] = thread sorted sets, in ARGV order
+     * ARGV[1] = expected version, ARGV[2] = ttl in ms, ARGV[3] = owner, ARGV[4] = lock ttl in ms,
+     * ARGV[5..] = per thread: reply count n, then n x (id, score, body)
+     * Returns 0 when the version moved or the lock was lost
+     */
+    private static final RedisScript<Long> LOAD_REPLIES_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[4]) ~= ARGV[3] then return 0 end "
+                    + "if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('PEXPIRE', KEYS[4], ARGV[4]) "
+                    + "local a = 5 "
+                    + "for k = 5, #KEYS do "
+                    + "  local replies = tonumber(ARGV[a]) "
+                    + "  a = a + 1 "
+                    + "  for r = 1, replies do "
+                    + "    redis.call('HSET', KEYS[2], ARGV[a], ARGV[a + 2]) "
+                    + "    redis.call('ZADD', KEYS[k], ARGV[a + 1], ARGV[a]) "
+                    + "    a = a + 3 "
+                    + "  end "
+                    + "  redis.call('PEXPIRE', KEYS[k], ARGV[2]) "
+                    + "end "
+                    + "return 1",
+            Long.class);
+
+    /**
+     * Mark the blog loaded if every chunk went in and no write happened since
+     * the load began, otherwise drop the partial keys. Releases the lock.
+     * KEYS[1] = blog sorted set, KEYS[2] = hash, KEYS[3] = version, KEYS[4] = lock
+     * ARGV[1] = expected version, ARGV[2] = ttl in ms, ARGV[3] = owner, ARGV[4] = 1 if complete
+     */
+    private static final RedisScript<Long> FINISH_LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[4]) ~= ARGV[3] then return 0 end "
+                    + "redis.call('DEL', KEYS[4]) "
+                    + "if ARGV[4] ~= '1' or (redis.call('GET', KEYS[3]) or '0') ~= ARGV[1] then "
+                    + "  redis.call('DEL', KEYS[1], KEYS[2]) "
+                    + "  return 0 "
+                    + "end "
+                    + "redis.call('HSET', KEYS[2], '" + LOADED_FIELD + "', '1') "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "redis.call('PEXPIRE', KEYS[2], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    /**
+     * Add or replace a comment, new sorted sets inherit the hash's remaining ttl
+     * KEYS[1] = sorted set, KEYS[2] = hash, KEYS[3] = version
+     * ARGV[1] = id, ARGV[2] = score, ARGV[3] = body, ARGV[4] = ttl in ms,
+     * ARGV[5] = parent id or empty
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[3]) "
+                    + "redis.call('PEXPIRE', KEYS[3], ARGV[4]) "
+                    + "if redis.call('EXISTS', KEYS[2]) == 0 then return 0 end "
+                    + "local created = redis.call('EXISTS', KEYS[1]) == 0 "
+                    + "redis.call('HSET', KEYS[2], ARGV[1], ARGV[3]) "
+                    + "local added = redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) "
+                    + "if added == 1 and ARGV[5] ~= '' then "
+                    + "  redis.call('HINCRBY', KEYS[2], '" + REPLY_COUNT_FIELD + "' .. ARGV[5], 1) "
+                    + "end "
+                    + "if created then "
+                    + "  local ttl = redis.call('PTTL', KEYS[2]) "
+                    + "  if ttl > 0 then redis.call('PEXPIRE', KEYS[1], ttl) end "
+                    + "end "
+                    + "return 1",
+            Long.class);
+
+    /**
+     * Replace the body of a cached comment
+     * KEYS[1] = hash, KEYS[2] = version
+     * ARGV[1] = id, ARGV[2] = body, ARGV[3] = ttl in ms
+     */
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('PEXPIRE', KEYS[2], ARGV[3]) "
+                    + "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return 0 end "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    /**
+     * Remove a comment and, for a top-level comment, its whole thread
+     * KEYS[1] = sorted set holding the comment, KEYS[2] = hash, KEYS[3] = version,
+     * KEYS[4] = the comment's own thread sorted set
+     * ARGV[1] = id, ARGV[2] = ttl in ms, ARGV[3] = parent id or empty
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[3]) "
+                    + "redis.call('PEXPIRE', KEYS[3], ARGV[2]) "
+                    + "if redis.call('EXISTS', KEYS[2]) == 0 then return 0 end "
+                    + "local removed = redis.call('ZREM', KEYS[1], ARGV[1]) "
+                    + "redis.call('HDEL', KEYS[2], ARGV[1], '" + REPLY_COUNT_FIELD + "' .. ARGV[1]) "
+                    + "if removed == 1 and ARGV[3] ~= '' then "
+                    + "  redis.call('HINCRBY', KEYS[2], '" + REPLY_COUNT_FIELD + "' .. ARGV[3], -1) "
+                    + "end "
+                    + "for _, id in ipairs(redis.call('ZRANGE', KEYS[4], 0, -1)) do "
+                    + "  redis.call('HDEL', KEYS[2], id) "
+                    + "end "
+                    + "redis.call('DEL', KEYS[4]) "
+                    + "return 1",
+            Long.class);
+
+    private final RedisService redisService;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper;
+    private final long ttlMs;
+    private final Semaphore loadPermits = new Semaphore(MAX_CONCURRENT_LOADS);
+    private final Set<UUID> loading = ConcurrentHashMap.newKeySet();
+
+    public CommentCacheStore(RedisService redisService, @Qualifier("blogReadExecutor") ExecutorService executor) {
+        this.redisService = redisService;
+        this.executor = executor;
+        this.objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        this.ttlMs = CacheTags.TTL_UNIT.toMillis(CacheTags.TTL);
+    }
+
+    /**
+     * Newest top-level comments of a blog after the cursor
+     *
+     * @return null when the blog is not cached or Redis failed
+     */
+    public List<CommentDto> readComments(UUID blogId, BlogCursor cursor, int count) {
+        return read(blogKey(blogId), hashKey(blogId), cursor, count, true);
+    }
+
+    /**
+     * Oldest replies of a thread after the cursor
+     *
+     * @return null when the blog is not cached or Redis failed
+     */
+    public List<CommentDto> readReplies(UUID blogId, UUID commentId, BlogCursor cursor, int count) {
+        return read(threadKey(commentId), hashKey(blogId), cursor, count, false);
+    }
+
+    /**
+     * Start caching all comments of a blog in the background and return
+     * The caller reads MySQL for its own page. Does nothing when this
+     * instance is already loading the blog or runs MAX_CONCURRENT_LOADS loads,
+     * a later miss tries again.
+     */
+    public void loadInBackground(UUID blogId, CommentLoader loader) {
+        if (!loadPermits.tryAcquire()) {
+            log.debug("Skipped comment cache load for blogId={}, too many loads running", blogId);
+            return;
+        }
+        if (!loading.add(blogId)) {
+            loadPermits.release();
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    load(blogId, loader);
+                } finally {
+                    loading.remove(blogId);
+                    loadPermits.release();
+                }
+            });
+        } catch (Exception e) {
+            loading.remove(blogId);
+            loadPermits.release();
+            log.warn("Failed to schedule comment cache load for blogId={}: {}", blogId, e.getMessage());
+        }
+    }
+
+    /**
+     * Cache all comments of a blog, replies included, in chunks of
+     * LOAD_CHUNK_SIZE top-level comments
+     * Does nothing when another instance is loading the blog. Failures are
+     * logged and leave the blog uncached.
+     */
+    private void load(UUID blogId, CommentLoader loader) {
+        List<String> keys = List.of(blogKey(blogId), hashKey(blogId), versionKey(blogId), lockKey(blogId));
+        String owner = UUID.randomUUID().toString();
+        String version;
+        try {
+            version = redisService.executeScript(BEGIN_LOAD_SCRIPT, keys, owner, String.valueOf(LOAD_LOCK_TTL_MS));
+        } catch (Exception e) {
+            log.warn("Failed to start comment cache load for blogId={}: {}", blogId, e.getMessage());
+            return;
+        }
+        if (version == null) {
+            log.debug("Comment cache for blogId={} is being loaded by another request", blogId);
+            return;
+        }
+
+        boolean complete = false;
+        int loaded = 0;
+        try {
+            CommentDto last = null;
+            while (true) {
+                List<CommentDto> topLevel = loader.loadTopLevel(last, LOAD_CHUNK_SIZE);
+                if (topLevel.isEmpty()) {
+                    complete = true;
+                    break;
+                }
+                if (!writeChunk(keys, version, owner, topLevel, loader)) {
+                    break;
+                }
+                loaded += topLevel.size();
+                if (topLevel.size() < LOAD_CHUNK_SIZE) {
+                    complete = true;
+                    break;
+                }
+                last = topLevel.get(topLevel.size() - 1);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load comment cache for blogId={}: {}", blogId, e.getMessage());
+        } finally {
+            finishLoad(blogId, keys, version, owner, complete, loaded);
+        }
+    }
+
+    private boolean writeChunk(List<String> baseKeys, String version, String owner, List<CommentDto> topLevel,
+            CommentLoader loader) {
+        List<UUID> parentIds = topLevel.stream().map(CommentDto::getId).collect(Collectors.toList());
+        Map<UUID, List<CommentDto>> replies = loader.loadReplies(parentIds).stream()
+                .collect(Collectors.groupingBy(CommentDto::getParentId));
+
+        List<String> keys = new ArrayList<>(baseKeys);
+        List<String> args = loadArgs(version, owner);
+        for (CommentDto comment : topLevel) {
+            keys.add(threadKey(comment.getId()));
+            args.add(comment.getId().toString());
+            args.add(String.valueOf(score(comment)));
+            args.add(toJson(comment));
+            args.add(String.valueOf(replies.getOrDefault(comment.getId(), List.of()).size()));
+        }
+        if (!runLoadScript(LOAD_CHUNK_SCRIPT, keys, args)) {
+            return false;
+        }
+
+        // Replies in batches of at most MAX_REPLIES_PER_CALL, splitting long threads
+        keys = new ArrayList<>(baseKeys);
+        args = loadArgs(version, owner);
+        int batched = 0;
+        for (CommentDto comment : topLevel) {
+            List<CommentDto> thread = replies.getOrDefault(comment.getId(), List.of());
+            int from = 0;
+            while (from < thread.size()) {
+                int to = Math.min(thread.size(), from + MAX_REPLIES_PER_CALL - batched);
+                keys.add(threadKey(comment.getId()));
+                args.add(String.valueOf(to - from));
+                for (CommentDto reply : thread.subList(from, to)) {
+                    args.add(reply.getId().toString());
+                    args.add(String.valueOf(score(reply)));
+                    args.add(toJson(reply));
+                }
+                batched += to - from;
+                from = to;
+
+                if (batched == MAX_REPLIES_PER_CALL) {
+                    if (!runLoadScript(LOAD_REPLIES_SCRIPT, keys, args)) {
+                        return false;
+                    }
+                    keys = new ArrayList<>(baseKeys);
+                    args = loadArgs(version, owner);
+                    batched = 0;
+                }
+            }
+        }
+        return batched == 0 || runLoadScript(LOAD_REPLIES_SCRIPT, keys, args);
+    }
+
+    private List<String> loadArgs(String version, String owner) {
+        List<String> args = new ArrayList<>();
+        args.add(version);
+        args.add(String.valueOf(ttlMs));
+        args.add(owner);
+        args.add(String.valueOf(LOAD_LOCK_TTL_MS));
+        return args;
+    }
+
+    private boolean runLoadScript(RedisScript<Long> script, List<String> keys, List<String> args) {
+        Long written = redisService.executeScript(script, keys, args.toArray(String[]::new));
+        return written != null && written == 1;
+    }
+
+    private void finishLoad(UUID blogId, List<String> keys, String version, String owner, boolean complete,
+            int loaded) {
+        try {
+            Long finished = redisService.executeScript(FINISH_LOAD_SCRIPT, keys, version, String.valueOf(ttlMs),
+                    owner, complete ? "1" : "0");
+            if (finished != null && finished == 1) {
+                log.debug("Loaded {} top-level comments into cache for blogId={}", loaded, blogId);
+            } else {
+                log.debug("Dropped comment cache load for blogId={}, comments changed while loading", blogId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to finish comment cache load for blogId={}: {}", blogId, e.getMessage());
+        }
+    }
+
+    public void addAfterCommit(CommentDto comment) {
+        afterCommit(comment.getBlogId(), () -> {
+            String key = comment.getParentId() == null ? blogKey(comment.getBlogId())
+                    : threadKey(comment.getParentId());
+            redisService.executeScript(ADD_SCRIPT,
+                    List.of(key, hashKey(comment.getBlogId()), versionKey(comment.getBlogId())),
+                    comment.getId().toString(), String.valueOf(score(comment)), toJson(comment),
+                    String.valueOf(ttlMs), parentArg(comment));
+        });
+    }
+
+    public void updateAfterCommit(CommentDto comment) {
+        afterCommit(comment.getBlogId(), () -> redisService.executeScript(UPDATE_SCRIPT,
+                List.of(hashKey(comment.getBlogId()), versionKey(comment.getBlogId())),
+                comment.getId().toString(), toJson(comment), String.valueOf(ttlMs)));
+    }
+
+    public void removeAfterCommit(CommentDto comment) {
+        afterCommit(comment.getBlogId(), () -> {
+            String key = comment.getParentId() == null ? blogKey(comment.getBlogId())
+                    : threadKey(comment.getParentId());
+            redisService.executeScript(REMOVE_SCRIPT,
+                    List.of(key, hashKey(comment.getBlogId()), versionKey(comment.getBlogId()),
+                            threadKey(comment.getId())),
+                    comment.getId().toString(), String.valueOf(ttlMs), parentArg(comment));
+        });
+    }
+
+    private List<CommentDto> read(String sortedSetKey, String hashKey, BlogCursor cursor, int count,
+            boolean newestFirst) {
+        try {
+            List<String> reply = redisService.executeScript(PAGE_SCRIPT, List.of(sortedSetKey, hashKey),
+                    cursor == null ? "" : cursor.getId().toString(),
+                    cursor == null ? "0" : String.valueOf(cursor.getCreatedAt().toEpochMilli()),
+                    String.valueOf(count),
+                    newestFirst ? "desc" : "asc",
+                    newestFirst ? "1" : "");
+            if (reply == null) {
+                return null;
+            }
+
+            List<CommentDto> comments = new ArrayList<>(reply.size() / 2);
+            for (int i = 0; i + 1 < reply.size(); i += 2) {
+                CommentDto comment = objectMapper.readValue(reply.get(i), CommentDto.class);
+                if (!reply.get(i + 1).isEmpty()) {
+                    comment.setReplyCount(Long.parseLong(reply.get(i + 1)));
+                }
+                comments.add(comment);
+            }
+            return comments;
+        } catch (Exception e) {
+            log.warn("Failed to read comments from cache key {}: {}", sortedSetKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void afterCommit(UUID blogId, Runnable change) {
+        Runnable safeChange = () -> {
+            try {
+                change.run();
+            } catch (Exception e) {
+                // A missed change would leave the blog stale until ttl, drop it so the next read reloads
+                log.error("Failed to apply comment cache change for blogId={}: {}", blogId, e.getMessage());
+                try {
+                    redisService.delete(hashKey(blogId));
+                } catch (Exception ex) {
+                    log.error("Failed to evict comment cache for blogId={}: {}", blogId, ex.getMessage());
+                }
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeChange.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeChange.run();
+            }
+        });
+    }
+
+    private String toJson(CommentDto comment) {
+        try {
+            return objectMapper.writeValueAsString(comment);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to serialize comment " + comment.getId(), e);
+        }
+    }
+
+    private String parentArg(CommentDto comment) {
+        return comment.getParentId() == null ? "" : comment.getParentId().toString();
+    }
+
+    private long score(CommentDto comment) {
+        return comment.getCreatedAt().toEpochMilli();
+    }
+
+    private String blogKey(UUID blogId) {
+        return BLOG_PREFIX + blogId + ":z";
+    }
+
+    private String hashKey(UUID blogId) {
+        return BLOG_PREFIX + blogId + ":h";
+    }
+
+    private String versionKey(UUID blogId) {
+        return BLOG_PREFIX + blogId + ":v";
+    }
+
+    private String lockKey(UUID blogId) {
+        return BLOG_PREFIX + blogId + ":lock";
+    }
+
+    private String threadKey(UUID commentId) {
+        return THREAD_PREFIX + commentId + ":z";
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.blogservice.services;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.blogservice.entities.Blog;
+import com.example.blogservice.repositories.blogRepositories.BlogCommandRepository;
+import com.example.blogservice.repositories.blogRepositories.BlogQueryRepository;
+import com.example.blogservice.utils.CacheTags;
+import com.example.rediscommon.services.RedisService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background migration moving inline base64 images of existing blogs to Cloudinary
+ * Walks blogs with inline images in id order, a batch per tick on one
+ * instance at a time. A blog edited while it is migrated is left alone (its
+ * uploads are deleted) and picked up again on a later pass, passes stop once
+ * one migrates nothing. The average content size before and after each pass
+ * is logged as the migration report.
+ *
+ * Configuration:
+ * blog.content-images.migration.enabled=true (default false)
+ * blog.content-images.migration.interval-ms=60000
+ * blog.content-images.migration.batch-size=20
+ */
+@Slf4j
+@Service
+public class ContentImageMigration {
+
+    private static final String LOCK_KEY = "blog_content_image_migration_lock";
+    private static final long LOCK_TTL_MS = 10 * 60_000;
+    private static final UUID START_ID = new UUID(0, 0);
+
+    /**
+     * KEYS[1] = lock key, ARGV[1] = owner, ARGV[2] = ttl in ms
+     */
+    private static final RedisScript<Long> LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 end return 0",
+            Long.class);
+
+    /**
+     * KEYS[1] = lock key, ARGV[1] = owner
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final BlogQueryRepository blogQueryRepository;
+    private final BlogCommandRepository blogCommandRepository;
+    private final ContentImageService contentImageService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // Pass state, only touched by the scheduler thread
+    private UUID cursor = START_ID;
+    private Double averageBefore;
+    private int migratedBlogs;
+    private int failedBlogs;
+    private long savedChars;
+    // Set once a pass migrates nothing, the remaining blogs only keep failing
+    private boolean finished;
+
+    @Value("${blog.content-images.migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${blog.content-images.migration.batch-size:20}")
+    private int batchSize;
+
+    public ContentImageMigration(
+            BlogQueryRepository blogQueryRepository,
+            BlogCommandRepository blogCommandRepository,
+            ContentImageService contentImageService,
+            CacheInvalidationService cacheInvalidationService,
+            RedisService redisService,
+            TransactionTemplate transactionTemplate) {
+        this.blogQueryRepository = blogQueryRepository;
+        this.blogCommandRepository = blogCommandRepository;
+        this.contentImageService = contentImageService;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.redisService = redisService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.content-images.migration.interval-ms:60000}")
+    public void migrate() {
+        if (!enabled || finished) {
+            return;
+        }
+
+        try {
+            Long locked = redisService.executeScript(LOCK_SCRIPT, List.of(LOCK_KEY), instanceId,
+                    String.valueOf(LOCK_TTL_MS));
+            if (locked == null || locked != 1) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to acquire content image migration lock: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            if (averageBefore == null) {
+                averageBefore = blogQueryRepository.findAverageContentLength();
+                log.info("Starting content image migration pass, average content size {} chars",
+                        Math.round(averageBefore));
+            }
+
+            List<byte[]> ids = blogQueryRepository.findBlogIdsWithInlineImages(cursor, batchSize);
+            if (ids.isEmpty()) {
+                finishPass();
+                return;
+            }
+
+            for (byte[] rawId : ids) {
+                UUID blogId = toUuid(rawId);
+                cursor = blogId;
+                migrateBlog(blogId);
+            }
+        } catch (Exception e) {
+            log.error("Content image migration failed: {}", e.getMessage(), e);
+        } finally {
+            try {
+                redisService.executeScript(UNLOCK_SCRIPT, List.of(LOCK_KEY), instanceId);
+            } catch (Exception e) {
+                log.warn("Failed to release content image migration lock: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void migrateBlog(UUID blogId) {
+        try {
+            Blog blog = blogQueryRepository.findBlogById(blogId).orElse(null);
+            if (blog == null) {
+                return;
+            }
+
+            ContentImageService.ExtractedContent extracted = contentImageService.extractImages(blog.getContent());
+            if (extracted.publicIds().isEmpty()) {
+                return;
+            }
+
+            Integer updated = transactionTemplate.execute(status -> {
+                int rows = blogCommandRepository.updateContentIfUnchanged(blogId, extracted.content(),
+                        blog.getUpdatedAt());
+                if (rows > 0) {
+                    contentImageService.recordImages(blogId, extracted);
+                    cacheInvalidationService.invalidateAfterCommit(CacheTags.blog(blogId), CacheTags.blogList(),
+                            CacheTags.userBlogs(blog.getAuthorId()));
+                }
+                return rows;
+            });
+
+            if (updated == null || updated == 0) {
+                log.info("Blog {} changed during content image migration, retrying on the next pass", blogId);
+                contentImageService.deleteImages(extracted.publicIds());
+                return;
+            }
+
+            migratedBlogs++;
+            savedChars += blog.getContent().length() - extracted.content().length();
+            log.debug("Migrated {} inline images of blogId={}", extracted.publicIds().size(), blogId);
+        } catch (Exception e) {
+            failedBlogs++;
+            log.error("Failed to migrate inline images of blogId={}: {}", blogId, e.getMessage());
+        }
+    }
+
+    private void finishPass() {
+        if (migratedBlogs > 0 || failedBlogs > 0) {
+            double averageAfter = blogQueryRepository.findAverageContentLength();
+            double reduction = averageBefore > 0 ? (1 - averageAfter / averageBefore) * 100 : 0;
+            log.info("Content image migration pass done: {} blogs migrated, {} failed, {} chars removed, "
+                    + "average content size {} -> {} chars ({}% smaller)", migratedBlogs, failedBlogs, savedChars,
+                    Math.round(averageBefore), Math.round(averageAfter), String.format("%.1f", reduction));
+        }
+
+        if (migratedBlogs == 0) {
+            finished = true;
+            log.info("Content image migration finished, {} blogs could not be migrated", failedBlogs);
+            return;
+        }
+
+        // Restart from the beginning to pick up blogs skipped because of concurrent edits
+        cursor = START_ID;
+        averageBefore = null;
+        migratedBlogs = 0;
+        failedBlogs = 0;
+        savedChars = 0;
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
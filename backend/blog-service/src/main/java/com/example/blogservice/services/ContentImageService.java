@@ -0,0 +1,287 @@
+package com.example.blogservice.services;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.blogservice.entities.BlogContentImage;
+import com.example.blogservice.exceptions.OurException;
+import com.example.blogservice.repositories.blogContentImageRepositories.BlogContentImageCommandRepository;
+import com.example.blogservice.repositories.blogContentImageRepositories.BlogContentImageQueryRepository;
+import com.example.cloudinarycommon.CloudinaryService;
+import com.example.cloudinarycommon.ImageValidator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves images the editor embeds as base64 data URIs out of blog content
+ * Each distinct image is uploaded to Cloudinary (in parallel, bounded) and its
+ * src is rewritten to the hosted URL, so content stores a short link instead
+ * of several MB of base64 that every scan, cache entry and response carries.
+ * Data URIs that are not a supported image (type, size or broken base64) are
+ * left inline as the editor sent them.
+ * The uploaded images of each blog are recorded in blog_content_images and
+ * deleted from Cloudinary after commit once no blog references them, when
+ * the blog is deleted or an edit drops them from its content.
+ */
+@Slf4j
+@Service
+public class ContentImageService {
+
+    // src="data:image/png;base64,...", group 1 = src prefix, 2 = mime type, 3 = payload, 4 = closing quote
+    private static final Pattern DATA_URI_PATTERN = Pattern.compile(
+            "(src\\s*=\\s*[\"'])data:(image/[a-z0-9.+-]+);base64,([a-z0-9+/=\\s]+)([\"'])",
+            Pattern.CASE_INSENSITIVE);
+
+    // Keeps one large post from opening dozens of Cloudinary connections at once
+    private static final int MAX_PARALLEL_UPLOADS = 4;
+
+    // Result key of an image that is not uploaded and stays inline
+    private static final String SKIPPED = "skipped";
+
+    private final CloudinaryService cloudinaryService;
+    private final ImageValidator imageValidator;
+    private final ExecutorService executor;
+    private final Semaphore uploadPermits = new Semaphore(MAX_PARALLEL_UPLOADS);
+
+    private final BlogContentImageQueryRepository contentImageQueryRepository;
+    private final BlogContentImageCommandRepository contentImageCommandRepository;
+
+    /**
+     * @param images Hosted URL of each uploaded image, keyed by public id
+     */
+    public record ExtractedContent(String content, Map<String, String> images) {
+        public List<String> publicIds() {
+            return new ArrayList<>(images.keySet());
+        }
+    }
+
+    public ContentImageService(
+            CloudinaryService cloudinaryService,
+            ImageValidator imageValidator,
+            BlogContentImageQueryRepository contentImageQueryRepository,
+            BlogContentImageCommandRepository contentImageCommandRepository,
+            @Qualifier("blogReadExecutor") ExecutorService executor) {
+        this.cloudinaryService = cloudinaryService;
+        this.imageValidator = imageValidator;
+        this.contentImageQueryRepository = contentImageQueryRepository;
+        this.contentImageCommandRepository = contentImageCommandRepository;
+        this.executor = executor;
+    }
+
+    public boolean hasInlineImages(String content) {
+        return content != null && DATA_URI_PATTERN.matcher(content).find();
+    }
+
+    /**
+     * Upload every valid inline image and rewrite content to the hosted URLs
+     * Invalid images stay inline. Either all valid images are uploaded or none
+     * are kept: on any upload failure the uploaded ones are deleted again and
+     * an OurException is thrown.
+     */
+    public ExtractedContent extractImages(String content) {
+        if (!hasInlineImages(content)) {
+            return new ExtractedContent(content, Map.of());
+        }
+
+        // The same image pasted twice is uploaded once
+        Map<String, CompletableFuture<Map<String, Object>>> uploads = new LinkedHashMap<>();
+        Matcher matcher = DATA_URI_PATTERN.matcher(content);
+        while (matcher.find()) {
+            String mimeType = matcher.group(2).toLowerCase();
+            String payload = matcher.group(3);
+            uploads.computeIfAbsent(mimeType + ";" + payload, key -> upload(mimeType, payload));
+        }
+
+        CompletableFuture.allOf(uploads.values().toArray(new CompletableFuture[0])).join();
+
+        Map<String, String> urls = new LinkedHashMap<>();
+        Map<String, String> images = new LinkedHashMap<>();
+        String error = null;
+        int skipped = 0;
+        for (Map.Entry<String, CompletableFuture<Map<String, Object>>> entry : uploads.entrySet()) {
+            Map<String, Object> result = entry.getValue().join();
+            if (result.containsKey(SKIPPED)) {
+                skipped++;
+                continue;
+            }
+            if (result.containsKey("error")) {
+                error = String.valueOf(result.get("error"));
+                continue;
+            }
+            urls.put(entry.getKey(), (String) result.get("url"));
+            images.put((String) result.get("publicId"), (String) result.get("url"));
+        }
+
+        if (error != null) {
+            deleteImages(images.keySet());
+            throw new OurException("Failed to upload content image: " + error, 500);
+        }
+
+        if (urls.isEmpty()) {
+            log.info("Kept {} unsupported inline images, nothing extracted", skipped);
+            return new ExtractedContent(content, Map.of());
+        }
+
+        StringBuilder rewritten = new StringBuilder(content.length());
+        matcher.reset();
+        while (matcher.find()) {
+            String url = urls.get(matcher.group(2).toLowerCase() + ";" + matcher.group(3));
+            String replacement = url != null ? matcher.group(1) + url + matcher.group(4) : matcher.group();
+            matcher.appendReplacement(rewritten, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(rewritten);
+
+        log.info("Extracted {} inline images ({} unsupported kept inline), content reduced from {} to {} chars",
+                images.size(), skipped, content.length(), rewritten.length());
+        return new ExtractedContent(rewritten.toString(), images);
+    }
+
+    /**
+     * Delete the uploaded images if the surrounding transaction rolls back, so
+     * a failed write leaves no orphans in Cloudinary
+     */
+    public void deleteOnRollback(List<String> publicIds) {
+        if (publicIds.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteImages(publicIds);
+                }
+            }
+        });
+    }
+
+    /**
+     * Record the images a write extracted into the blog's content
+     */
+    public void recordImages(UUID blogId, ExtractedContent extracted) {
+        List<BlogContentImage> rows = new ArrayList<>();
+        extracted.images().forEach((publicId, url) -> rows.add(new BlogContentImage(null, blogId, publicId, url)));
+        contentImageCommandRepository.saveAll(rows);
+    }
+
+    /**
+     * Give a duplicated blog the image records of its original, both contents
+     * point at the same uploads
+     */
+    public void copyImages(UUID fromBlogId, UUID toBlogId) {
+        List<BlogContentImage> rows = new ArrayList<>();
+        for (BlogContentImage image : contentImageQueryRepository.findContentImagesByBlogId(fromBlogId)) {
+            rows.add(new BlogContentImage(null, toBlogId, image.getPublicId(), image.getUrl()));
+        }
+        contentImageCommandRepository.saveAll(rows);
+    }
+
+    /**
+     * Forget the images the updated content no longer links to and delete
+     * those no other blog uses after commit
+     */
+    public void releaseUnusedImagesAfterCommit(UUID blogId, String content) {
+        Set<String> dropped = new HashSet<>();
+        for (BlogContentImage image : contentImageQueryRepository.findContentImagesByBlogId(blogId)) {
+            if (content == null || !content.contains(image.getUrl())) {
+                dropped.add(image.getPublicId());
+            }
+        }
+        if (dropped.isEmpty()) {
+            return;
+        }
+
+        contentImageCommandRepository.deleteContentImages(blogId, dropped);
+        deleteUnreferencedAfterCommit(dropped);
+    }
+
+    /**
+     * Forget every image of a deleted blog and delete those no other blog uses after commit
+     */
+    public void releaseAllImagesAfterCommit(UUID blogId) {
+        Set<String> publicIds = new HashSet<>();
+        contentImageQueryRepository.findContentImagesByBlogId(blogId)
+                .forEach(image -> publicIds.add(image.getPublicId()));
+        if (publicIds.isEmpty()) {
+            return;
+        }
+
+        contentImageCommandRepository.deleteContentImagesByBlogId(blogId);
+        deleteUnreferencedAfterCommit(publicIds);
+    }
+
+    private void deleteUnreferencedAfterCommit(Set<String> publicIds) {
+        publicIds.removeAll(contentImageQueryRepository.findReferencedPublicIds(publicIds));
+        if (publicIds.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteImages(publicIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteImages(publicIds);
+            }
+        });
+        log.debug("Deleting {} unused content images after commit", publicIds.size());
+    }
+
+    public void deleteImages(Collection<String> publicIds) {
+        for (String publicId : publicIds) {
+            Map<String, Object> result = cloudinaryService.deleteImage(publicId);
+            if (result.containsKey("error")) {
+                log.warn("Failed to delete content image {}: {}", publicId, result.get("error"));
+            }
+        }
+    }
+
+    private CompletableFuture<Map<String, Object>> upload(String mimeType, String payload) {
+        return CompletableFuture.supplyAsync(() -> {
+            byte[] data;
+            try {
+                // The MIME decoder tolerates line breaks inside the payload
+                data = Base64.getMimeDecoder().decode(payload);
+            } catch (IllegalArgumentException e) {
+                return Map.of(SKIPPED, "invalid base64 data");
+            }
+
+            StringBuilder errorMessage = new StringBuilder();
+            if (!imageValidator.isValidImage(data, mimeType, errorMessage, null)) {
+                log.debug("Keeping inline image: {}", errorMessage);
+                return Map.of(SKIPPED, errorMessage.toString());
+            }
+
+            try {
+                uploadPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Map.of("error", "upload interrupted");
+            }
+            try {
+                return cloudinaryService.uploadImage(data, mimeType);
+            } finally {
+                uploadPermits.release();
+            }
+        }, executor);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.blogservice.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.example.rediscommon.services.RedisService;
+import com.example.rediscommon.utils.RedisScripts;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis storage for home timelines
+ * feed:timeline:{userId} holds blog ids pushed to a follower (fan-out-on-write),
+ * feed:outbox:{authorId} holds an author's own blog ids and is read directly
+ * for authors in feed:celebrities (fan-out-on-read). Both are sorted sets
+ * scored by publish time and trimmed to the newest entries.
+ *
+ * Configuration:
+ * blog.feed.max-size=500 (entries kept per timeline/outbox)
+ * blog.feed.ttl-days=30
+ */
+@Slf4j
+@Service
+public class FeedTimelineStore {
+
+    private static final String TIMELINE_PREFIX = "feed:timeline:";
+    private static final String OUTBOX_PREFIX = "feed:outbox:";
+    private static final String CELEBRITIES_KEY = "feed:celebrities";
+
+    /**
+     * Add one blog to many sorted sets
+     * KEYS = sorted sets, ARGV[1] = blogId, ARGV[2] = score, ARGV[3] = max size, ARGV[4] = ttl in ms
+     */
+    private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>(
+            "local maxSize = tonumber(ARGV[3]) "
+                    + "for i = 1, #KEYS do "
+                    + "  redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1]) "
+                    + "  redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -maxSize - 1) "
+                    + "  redis.call('PEXPIRE', KEYS[i], ARGV[4]) "
+                    + "end "
+                    + "return #KEYS",
+            Long.class);
+
+    /**
+     * Newest entries strictly after a (score, member) cursor, in ZREVRANGE order
+     * (score desc, then member desc). Members tied with the cursor score are
+     * filtered by member so a page boundary inside one millisecond neither
+     * skips nor repeats entries.
+     * KEYS[1] = sorted set, ARGV[1] = cursor score or '+inf', ARGV[2] = count,
+     * ARGV[3] = cursor member ('' for the first page)
+     * Returns a flat list of member, score pairs
+     */
+    private static final RedisScript<List<String>> RANGE_SCRIPT = RedisScripts.listScript(
+            "local count = tonumber(ARGV[2]) "
+                    + "local result = {} "
+                    + "local max = ARGV[1] "
+                    + "if ARGV[3] ~= '' then "
+                    + "  local tied = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1]) "
+                    + "  for _, member in ipairs(tied) do "
+                    + "    if #result >= count * 2 then break end "
+                    + "    if member < ARGV[3] then "
+                    + "      result[#result + 1] = member "
+                    + "      result[#result + 1] = ARGV[1] "
+                    + "    end "
+                    + "  end "
+                    + "  max = '(' .. ARGV[1] "
+                    + "end "
+                    + "local remaining = count - #result / 2 "
+                    + "if remaining > 0 then "
+                    + "  local rest = redis.call('ZREVRANGEBYSCORE', KEYS[1], max, '-inf', "
+                    + "    'WITHSCORES', 'LIMIT', 0, remaining) "
+                    + "  for _, value in ipairs(rest) do result[#result + 1] = value end "
+                    + "end "
+                    + "return result");
+
+    /**
+     * KEYS[1] = sorted set
+     */
+    private static final RedisScript<Long> EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('EXISTS', KEYS[1])",
+            Long.class);
+
+    /**
+     * KEYS[1] = celebrities set, ARGV[1] = authorId, ARGV[2] = 1 to add, 0 to remove
+     */
+    private static final RedisScript<Long> MARK_CELEBRITY_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[2] == '1' then return redis.call('SADD', KEYS[1], ARGV[1]) end "
+                    + "return redis.call('SREM', KEYS[1], ARGV[1])",
+            Long.class);
+
+    private static final RedisScript<List<String>> MEMBERS_SCRIPT = RedisScripts.listScript(
+            "return redis.call('SMEMBERS', KEYS[1])");
+
+    private final RedisService redisService;
+
+    @Value("${blog.feed.max-size:500}")
+    private int maxSize;
+
+    @Value("${blog.feed.ttl-days:30}")
+    private long ttlDays;
+
+    public FeedTimelineStore(RedisService redisService) {
+        this.redisService = redisService;
+    }
+
+    /**
+     * Entry of a timeline or outbox
+     */
+    public record FeedEntry(UUID blogId, long score) {
+    }
+
+    /**
+     * Order of ZREVRANGE: score desc, then member (the UUID string) desc
+     * Merged pages must use the same order for the cursor to line up
+     */
+    public static final Comparator<FeedEntry> NEWEST_FIRST = Comparator.comparingLong(FeedEntry::score)
+            .thenComparing(entry -> entry.blogId().toString())
+            .reversed();
+
+    public void pushToTimelines(List<UUID> userIds, UUID blogId, long score) {
+        List<String> keys = new ArrayList<>(userIds.size());
+        userIds.forEach(userId -> keys.add(TIMELINE_PREFIX + userId));
+        push(keys, blogId, score);
+    }
+
+    public void pushToOutbox(UUID authorId, UUID blogId, long score) {
+        push(List.of(OUTBOX_PREFIX + authorId), blogId, score);
+    }
+
+    public boolean hasTimeline(UUID userId) {
+        Long exists = redisService.executeScript(EXISTS_SCRIPT, List.of(TIMELINE_PREFIX + userId));
+        return exists != null && exists > 0;
+    }
+
+    public List<FeedEntry> readTimeline(UUID userId, FeedEntry before, int count) {
+        return range(TIMELINE_PREFIX + userId, before, count);
+    }
+
+    public List<FeedEntry> readOutbox(UUID authorId, FeedEntry before, int count) {
+        return range(OUTBOX_PREFIX + authorId, before, count);
+    }
+
+    public void markCelebrity(UUID authorId, boolean celebrity) {
+        redisService.executeScript(MARK_CELEBRITY_SCRIPT, List.of(CELEBRITIES_KEY), authorId.toString(),
+                celebrity ? "1" : "0");
+    }
+
+    public Set<UUID> getCelebrities() {
+        List<String> members = redisService.executeScript(MEMBERS_SCRIPT, List.of(CELEBRITIES_KEY));
+        Set<UUID> celebrities = new HashSet<>();
+        if (members != null) {
+            members.forEach(member -> celebrities.add(UUID.fromString(member)));
+        }
+        return celebrities;
+    }
+
+    private void push(List<String> keys, UUID blogId, long score) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisService.executeScript(PUSH_SCRIPT, keys, blogId.toString(), String.valueOf(score),
+                String.valueOf(maxSize), String.valueOf(TimeUnit.DAYS.toMillis(ttlDays)));
+    }
+
+    /**
+     * @param before Last entry of the previous page, null for the first page
+     */
+    private List<FeedEntry> range(String key, FeedEntry before, int count) {
+        String max = before == null ? "+inf" : String.valueOf(before.score());
+        String member = before == null ? "" : before.blogId().toString();
+        List<String> flat = redisService.executeScript(RANGE_SCRIPT, List.of(key), max, String.valueOf(count),
+                member);
+
+        List<FeedEntry> entries = new ArrayList<>();
+        if (flat != null) {
+            for (int i = 0; i + 1 < flat.size(); i += 2) {
+                entries.add(new FeedEntry(UUID.fromString(flat.get(i)), (long) Double.parseDouble(flat.get(i + 1))));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.blogservice.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.example.blogservice.entities.LikedBlog;
+import com.example.blogservice.repositories.likedBlogRepositories.LikedBlogQueryRepository;
+import com.example.rediscommon.services.RedisService;
+import com.example.rediscommon.utils.RedisScripts;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind buffer for blog likes
+ * Each blog's likers are kept in a Redis set (seeded from MySQL on first use)
+ * that serves reads and counts immediately, while every change is appended to
+ * an operation queue that LikeBufferFlusher writes to liked_blogs in batches.
+ *
+ * Configuration:
+ * blog.likes.write-behind.enabled=true (default false)
+ * blog.likes.write-behind.set-ttl-hours=24 (idle sets are reloaded from MySQL)
+ */
+@Slf4j
+@Service
+public class LikeBuffer {
+
+    public static final String OP_LIKE = "L";
+    public static final String OP_UNLIKE = "U";
+    public static final String OP_SEPARATOR = "|";
+
+    static final String OPS_KEY = "blog_like_ops";
+    static final String PROCESSING_KEY = "blog_like_ops:processing";
+    private static final String LIKERS_PREFIX = "blog_likes:";
+
+    // Keeps a seeded set non-empty so "loaded with no likes" differs from "not loaded"
+    private static final String SENTINEL = "-";
+
+    /**
+     * Apply a like/unlike to a loaded set and queue it for MySQL when it changed
+     * KEYS[1] = likers set, KEYS[2] = operation queue
+     * ARGV[1] = userId, ARGV[2] = queued operation, ARGV[3] = op, ARGV[4] = ttl in ms
+     * Returns 1 if changed, 0 if already in that state, -1 if the set is not loaded
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "local changed "
+                    + "if ARGV[3] == 'L' then changed = redis.call('SADD', KEYS[1], ARGV[1]) "
+                    + "else changed = redis.call('SREM', KEYS[1], ARGV[1]) end "
+                    + "if changed == 1 then redis.call('RPUSH', KEYS[2], ARGV[2]) end "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+                    + "return changed",
+            Long.class);
+
+    /**
+     * Seed a likers set unless another request already did
+     * KEYS[1] = likers set, ARGV[1] = ttl in ms, ARGV[2..] = members
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "for i = 2, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 1",
+            Long.class);
+
+    /**
+     * KEYS[1] = likers set, ARGV[1] = userId
+     * Returns 1/0, or -1 if the set is not loaded
+     */
+    private static final RedisScript<Long> IS_MEMBER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "return redis.call('SISMEMBER', KEYS[1], ARGV[1])",
+            Long.class);
+
+    /**
+     * KEYS[1] = likers set
+     * Returns the number of likers, or -1 if the set is not loaded
+     */
+    private static final RedisScript<Long> COUNT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "return redis.call('SCARD', KEYS[1]) - 1",
+            Long.class);
+
+    /**
+     * KEYS[1] = likers set
+     * Returns all members including the sentinel, empty if the set is not loaded
+     */
+    private static final RedisScript<List<String>> MEMBERS_SCRIPT = RedisScripts.listScript(
+            "return redis.call('SMEMBERS', KEYS[1])");
+
+    /**
+     * Move up to ARGV[1] operations from the head of the queue to the
+     * processing list and return them. While the processing list is not empty
+     * (its batch has not been acknowledged) it is returned again instead, so an
+     * unflushed batch is retried before anything queued after it.
+     * KEYS[1] = operation queue, KEYS[2] = processing list
+     */
+    private static final RedisScript<List<String>> DRAIN_SCRIPT = RedisScripts.listScript(
+            "local pending = redis.call('LRANGE', KEYS[2], 0, -1) "
+                    + "if #pending > 0 then return pending end "
+                    + "local items = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) "
+                    + "if #items > 0 then "
+                    + "  redis.call('LTRIM', KEYS[1], #items, -1) "
+                    + "  for _, item in ipairs(items) do redis.call('RPUSH', KEYS[2], item) end "
+                    + "end "
+                    + "return items");
+
+    private final RedisService redisService;
+    private final LikedBlogQueryRepository likedBlogQueryRepository;
+
+    @Value("${blog.likes.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${blog.likes.write-behind.set-ttl-hours:24}")
+    private long setTtlHours;
+
+    public LikeBuffer(RedisService redisService, LikedBlogQueryRepository likedBlogQueryRepository) {
+        this.redisService = redisService;
+        this.likedBlogQueryRepository = likedBlogQueryRepository;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if the like was recorded, false if the user already liked the blog
+     */
+    public boolean like(UUID blogId, UUID userId) {
+        return record(blogId, userId, OP_LIKE);
+    }
+
+    /**
+     * @return true if the like was removed, false if the user had not liked the blog
+     */
+    public boolean unlike(UUID blogId, UUID userId) {
+        return record(blogId, userId, OP_UNLIKE);
+    }
+
+    public boolean isLiked(UUID blogId, UUID userId) {
+        Long result = redisService.executeScript(IS_MEMBER_SCRIPT, List.of(likersKey(blogId)), userId.toString());
+        if (result == null || result < 0) {
+            seed(blogId);
+            result = redisService.executeScript(IS_MEMBER_SCRIPT, List.of(likersKey(blogId)), userId.toString());
+        }
+        return result != null && result == 1;
+    }
+
+    public long countLikes(UUID blogId) {
+        Long count = redisService.executeScript(COUNT_SCRIPT, List.of(likersKey(blogId)));
+        if (count == null || count < 0) {
+            seed(blogId);
+            count = redisService.executeScript(COUNT_SCRIPT, List.of(likersKey(blogId)));
+        }
+        return count != null && count > 0 ? count : 0;
+    }
+
+    public List<UUID> getLikers(UUID blogId) {
+        List<String> members = redisService.executeScript(MEMBERS_SCRIPT, List.of(likersKey(blogId)));
+        if (members == null || members.isEmpty()) {
+            seed(blogId);
+            members = redisService.executeScript(MEMBERS_SCRIPT, List.of(likersKey(blogId)));
+        }
+
+        List<UUID> userIds = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                if (!SENTINEL.equals(member)) {
+                    userIds.add(UUID.fromString(member));
+                }
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * Take the next batch of at most maxItems operations, formatted
+     * op|blogId|userId. The batch stays in the processing list, and is returned
+     * again by the next call, until it is acknowledged.
+     */
+    List<String> drain(int maxItems) {
+        List<String> items = redisService.executeScript(DRAIN_SCRIPT, List.of(OPS_KEY, PROCESSING_KEY),
+                String.valueOf(maxItems));
+        return items != null ? items : List.of();
+    }
+
+    /**
+     * Drop the batch returned by drain once it has been committed to MySQL
+     */
+    void acknowledge() {
+        redisService.delete(PROCESSING_KEY);
+    }
+
+    private boolean record(UUID blogId, UUID userId, String op) {
+        List<String> keys = List.of(likersKey(blogId), OPS_KEY);
+        String operation = op + OP_SEPARATOR + blogId + OP_SEPARATOR + userId;
+        String ttlMs = String.valueOf(TimeUnit.HOURS.toMillis(setTtlHours));
+
+        Long result = redisService.executeScript(RECORD_SCRIPT, keys, userId.toString(), operation, op, ttlMs);
+        if (result == null || result < 0) {
+            seed(blogId);
+            result = redisService.executeScript(RECORD_SCRIPT, keys, userId.toString(), operation, op, ttlMs);
+        }
+        return result != null && result == 1;
+    }
+
+    private void seed(UUID blogId) {
+        List<LikedBlog> likedBlogs = likedBlogQueryRepository.findLikedBlogsByBlogId(blogId);
+
+        String[] args = new String[likedBlogs.size() + 2];
+        args[0] = String.valueOf(TimeUnit.HOURS.toMillis(setTtlHours));
+        args[1] = SENTINEL;
+        for (int i = 0; i < likedBlogs.size(); i++) {
+            args[i + 2] = likedBlogs.get(i).getUserId().toString();
+        }
+
+        Long seeded = redisService.executeScript(SEED_SCRIPT, List.of(likersKey(blogId)), args);
+        log.debug("Likers set for blogId={} {} with {} likes", blogId,
+                seeded != null && seeded == 1 ? "seeded" : "already loaded", likedBlogs.size());
+    }
+
+    private String likersKey(UUID blogId) {
+        return LIKERS_PREFIX + blogId;
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.blogservice.services;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.blogservice.utils.CacheTags;
+import com.example.persistencecommon.utils.UuidV7;
+import com.example.rediscommon.services.RedisService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes the operations queued by LikeBuffer to liked_blogs with JDBC batches
+ * Only one instance flushes at a time so likes and unlikes of the same pair
+ * are applied in order, within a batch only the last operation per pair is
+ * written. A batch is only acknowledged (removed from Redis) after its
+ * transaction commits, a failed or interrupted batch is retried before
+ * anything newer. Every statement is idempotent, so replaying a batch that
+ * committed but was not acknowledged is harmless. The lock is renewed before
+ * each batch so a long run never outlives it.
+ *
+ * Configuration:
+ * blog.likes.write-behind.flush-interval-ms=1000
+ * blog.likes.write-behind.batch-size=500
+ */
+@Slf4j
+@Service
+public class LikeBufferFlusher {
+
+    private static final String LOCK_KEY = "blog_like_ops_lock";
+    private static final long LOCK_TTL_MS = 30_000;
+
+    // Upper bound on batches per tick so one run cannot hold the lock indefinitely
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    // Only the (user_id, blog_id) duplicate is ignored, other errors still fail the batch
+    private static final String INSERT_SQL = "INSERT INTO liked_blogs (id, user_id, blog_id) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE id = id";
+    private static final String DELETE_SQL = "DELETE FROM liked_blogs WHERE user_id = ? AND blog_id = ?";
+    private static final String RECOUNT_SQL = "UPDATE blogs b SET b.like_count = "
+            + "(SELECT COUNT(*) FROM liked_blogs lb WHERE lb.blog_id = b.id) WHERE b.id = ?";
+
+    /**
+     * KEYS[1] = lock key, ARGV[1] = owner, ARGV[2] = ttl in ms
+     */
+    private static final RedisScript<Long> LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 end return 0",
+            Long.class);
+
+    /**
+     * Extend the lock if this instance still owns it
+     * KEYS[1] = lock key, ARGV[1] = owner, ARGV[2] = ttl in ms
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+                    + "return 0",
+            Long.class);
+
+    /**
+     * KEYS[1] = lock key, ARGV[1] = owner
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final LikeBuffer likeBuffer;
+    private final RedisService redisService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${blog.likes.write-behind.batch-size:500}")
+    private int batchSize;
+
+    public LikeBufferFlusher(
+            LikeBuffer likeBuffer,
+            RedisService redisService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            CacheInvalidationService cacheInvalidationService) {
+        this.likeBuffer = likeBuffer;
+        this.redisService = redisService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheInvalidationService = cacheInvalidationService;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.likes.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (!likeBuffer.isEnabled()) {
+            return;
+        }
+
+        try {
+            Long locked = redisService.executeScript(LOCK_SCRIPT, List.of(LOCK_KEY), instanceId,
+                    String.valueOf(LOCK_TTL_MS));
+            if (locked == null || locked != 1) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to acquire like flush lock: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (i > 0 && !renewLock()) {
+                    log.warn("Lost like flush lock, stopping this run");
+                    break;
+                }
+                List<String> items = likeBuffer.drain(batchSize);
+                if (items.isEmpty() || !flushBatch(items) || items.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Like flush failed: {}", e.getMessage(), e);
+        } finally {
+            try {
+                redisService.executeScript(UNLOCK_SCRIPT, List.of(LOCK_KEY), instanceId);
+            } catch (Exception e) {
+                log.warn("Failed to release like flush lock: {}", e.getMessage());
+            }
+        }
+    }
+
+    private boolean renewLock() {
+        Long renewed = redisService.executeScript(RENEW_SCRIPT, List.of(LOCK_KEY), instanceId,
+                String.valueOf(LOCK_TTL_MS));
+        return renewed != null && renewed == 1;
+    }
+
+    /**
+     * @return false if the batch failed and stays pending for the next run
+     */
+    private boolean flushBatch(List<String> items) {
+        // Last operation per (blog, user) wins
+        Map<String, String[]> latest = new LinkedHashMap<>();
+        for (String item : items) {
+            String[] parts = item.split("\\" + LikeBuffer.OP_SEPARATOR);
+            if (parts.length != 3) {
+                log.warn("Dropping malformed like operation: {}", item);
+                continue;
+            }
+            latest.put(parts[1] + parts[2], parts);
+        }
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Set<UUID> blogIds = new LinkedHashSet<>();
+        Set<UUID> userIds = new LinkedHashSet<>();
+        for (String[] parts : latest.values()) {
+            UUID blogId = UUID.fromString(parts[1]);
+            UUID userId = UUID.fromString(parts[2]);
+            blogIds.add(blogId);
+            userIds.add(userId);
+
+            if (LikeBuffer.OP_LIKE.equals(parts[0])) {
+                inserts.add(new Object[] { toBytes(UuidV7.generate()), toBytes(userId), toBytes(blogId) });
+            } else {
+                deletes.add(new Object[] { toBytes(userId), toBytes(blogId) });
+            }
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+                }
+                if (!deletes.isEmpty()) {
+                    jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+                }
+                jdbcTemplate.batchUpdate(RECOUNT_SQL, blogIds.stream()
+                        .map(blogId -> new Object[] { toBytes(blogId) })
+                        .toList());
+
+                List<String> tags = new ArrayList<>();
+                blogIds.forEach(blogId -> tags.add(CacheTags.blog(blogId)));
+                userIds.forEach(userId -> tags.add(CacheTags.userLikes(userId)));
+                cacheInvalidationService.invalidateAfterCommit(tags.toArray(new String[0]));
+            });
+
+            likeBuffer.acknowledge();
+            log.debug("Flushed {} like operations ({} inserts, {} deletes) for {} blogs in {} ms", items.size(),
+                    inserts.size(), deletes.size(), blogIds.size(), System.currentTimeMillis() - startTime);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to flush {} like operations, will retry: {}", items.size(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    // Hibernate maps UUID columns to BINARY(16) on MySQL
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.blogservice.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.blogservice.entities.Blog;
+import com.example.rediscommon.services.RedisService;
+import com.example.rediscommon.utils.RedisScripts;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Time-decayed trending scores kept in Redis sorted sets
+ * Each interaction adds its weight to trending:all and trending:cat:{category},
+ * and every decay interval all scores are multiplied by
+ * 0.5^(interval / half-life), so a blog's score is the sum of its
+ * interactions weighted by their age. Reads are a ZREVRANGE, O(log n + N).
+ *
+ * Configuration:
+ * blog.trending.half-life-hours=24
+ * blog.trending.decay-interval-minutes=60
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    private static final String ALL_KEY = "trending:all";
+    private static final String CATEGORY_PREFIX = "trending:cat:";
+    private static final String DECAY_LOCK_KEY = "trending:decay_lock";
+
+    // Scores below this are dropped during decay
+    private static final double MIN_SCORE = 0.05;
+
+    public enum Interaction {
+        VIEW(1), LIKE(3), SAVE(4), COMMENT(5);
+
+        private final double weight;
+
+        Interaction(double weight) {
+            this.weight = weight;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+    }
+
+    /**
+     * KEYS = sorted sets, ARGV[1] = blogId, ARGV[2] = increment
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do redis.call('ZINCRBY', KEYS[i], ARGV[2], ARGV[1]) end "
+                    + "return #KEYS",
+            Long.class);
+
+    /**
+     * Decay all sorted sets once per interval across instances
+     * KEYS[1] = lock key, KEYS[2..] = sorted sets
+     * ARGV[1] = lock ttl in ms, ARGV[2] = decay factor, ARGV[3] = min score
+     */
+    private static final RedisScript<Long> DECAY_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[1]) then return 0 end "
+                    + "for i = 2, #KEYS do "
+                    + "  if redis.call('EXISTS', KEYS[i]) == 1 then "
+                    + "    redis.call('ZUNIONSTORE', KEYS[i], 1, KEYS[i], 'WEIGHTS', ARGV[2]) "
+                    + "    redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', '(' .. ARGV[3]) "
+                    + "  end "
+                    + "end "
+                    + "return 1",
+            Long.class);
+
+    /**
+     * KEYS[1] = sorted set, ARGV[1] = count
+     */
+    private static final RedisScript<List<String>> TOP_SCRIPT = RedisScripts.listScript(
+            "return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)");
+
+    /**
+     * KEYS = sorted sets, ARGV[1] = blogId
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do redis.call('ZREM', KEYS[i], ARGV[1]) end "
+                    + "return #KEYS",
+            Long.class);
+
+    private final RedisService redisService;
+
+    @Value("${blog.trending.half-life-hours:24}")
+    private double halfLifeHours;
+
+    @Value("${blog.trending.decay-interval-minutes:60}")
+    private long decayIntervalMinutes;
+
+    public TrendingService(RedisService redisService) {
+        this.redisService = redisService;
+    }
+
+    /**
+     * Record an interaction, failures are logged and never fail the caller
+     *
+     * @param category Blog category, may be null
+     * @param sign     1 to add the interaction, -1 to undo it
+     */
+    public void record(UUID blogId, String category, Interaction interaction, int sign) {
+        try {
+            redisService.executeScript(INCREMENT_SCRIPT, keysFor(category), blogId.toString(),
+                    String.valueOf(sign * interaction.getWeight()));
+        } catch (Exception e) {
+            log.warn("Failed to record {} for blogId={} in trending: {}", interaction, blogId, e.getMessage());
+        }
+    }
+
+    public void record(UUID blogId, String category, Interaction interaction) {
+        record(blogId, category, interaction, 1);
+    }
+
+    /**
+     * Record once the surrounding transaction has committed, so a rolled back
+     * like, save or comment never moves the score
+     */
+    public void recordAfterCommit(UUID blogId, String category, Interaction interaction, int sign) {
+        afterCommit(() -> record(blogId, category, interaction, sign));
+    }
+
+    public void recordAfterCommit(UUID blogId, String category, Interaction interaction) {
+        recordAfterCommit(blogId, category, interaction, 1);
+    }
+
+    public void removeAfterCommit(UUID blogId) {
+        afterCommit(() -> remove(blogId));
+    }
+
+    public void remove(UUID blogId) {
+        try {
+            redisService.executeScript(REMOVE_SCRIPT, allKeys(), blogId.toString());
+        } catch (Exception e) {
+            log.warn("Failed to remove blogId={} from trending: {}", blogId, e.getMessage());
+        }
+    }
+
+    /**
+     * Highest scored blog ids, for one category or all when category is null
+     */
+    public List<UUID> getTop(Blog.Category category, int count) {
+        String key = category == null ? ALL_KEY : CATEGORY_PREFIX + category.name();
+        List<String> members = redisService.executeScript(TOP_SCRIPT, List.of(key), String.valueOf(count));
+
+        List<UUID> blogIds = new ArrayList<>();
+        if (members != null) {
+            members.forEach(member -> blogIds.add(UUID.fromString(member)));
+        }
+        return blogIds;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.trending.decay-check-interval-ms:60000}")
+    public void decay() {
+        try {
+            long intervalMs = decayIntervalMinutes * 60_000;
+            double factor = Math.pow(0.5, (decayIntervalMinutes / 60.0) / halfLifeHours);
+
+            List<String> keys = new ArrayList<>();
+            keys.add(DECAY_LOCK_KEY);
+            keys.addAll(allKeys());
+
+            // The lock expires after one interval, so exactly one instance decays per interval
+            Long decayed = redisService.executeScript(DECAY_SCRIPT, keys, String.valueOf(intervalMs),
+                    String.valueOf(factor), String.valueOf(MIN_SCORE));
+            if (decayed != null && decayed == 1) {
+                log.info("Decayed trending scores by factor {}", factor);
+            }
+        } catch (Exception e) {
+            log.error("Failed to decay trending scores: {}", e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private List<String> keysFor(String category) {
+        List<String> keys = new ArrayList<>();
+        keys.add(ALL_KEY);
+        if (category != null && !category.isBlank()) {
+            keys.add(CATEGORY_PREFIX + category.toLowerCase());
+        }
+        return keys;
+    }
+
+    private List<String> allKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(ALL_KEY);
+        for (Blog.Category category : Blog.Category.values()) {
+            keys.add(CATEGORY_PREFIX + category.name());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.blogservice.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.example.blogservice.dtos.BlogDto;
+import com.example.blogservice.dtos.CommentDto;
+import com.example.blogservice.dtos.requests.UserBatchRequest;
+import com.example.blogservice.dtos.responses.Response;
+import com.example.blogservice.dtos.responses.views.UserView;
+import com.example.blogservice.services.feigns.UserFeignClient;
+import com.example.rediscommon.services.RedisCacheService;
+import com.example.rediscommon.utils.CacheKeyBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batched user lookups for list responses
+ * Collects every user id a response needs (blog authors and comment
+ * authors), serves what it can from the local UserProjection and the
+ * validateUser cache shared with ValidateService (one MGET), and fetches
+ * the rest with one POST /api/v1/users/batch per BATCH_SIZE ids, so a page
+ * of 50 blogs costs one Redis and one user-service call instead of 50 each.
+ * Lookups never fail the caller, users that cannot be loaded are left unset.
+ */
+@Slf4j
+@Service
+public class UserLoader {
+
+    // Matches the per-request limit of user-service
+    private static final int BATCH_SIZE = 100;
+
+    private final UserFeignClient userFeignClient;
+    private final RedisCacheService cacheService;
+    private final CacheKeyBuilder cacheKeys;
+    private final UserProjection userProjection;
+
+    public UserLoader(UserFeignClient userFeignClient, RedisCacheService cacheService,
+            UserProjection userProjection) {
+        this.userFeignClient = userFeignClient;
+        this.cacheService = cacheService;
+        this.userProjection = userProjection;
+        this.cacheKeys = CacheKeyBuilder.forService("blog_comment_validate");
+    }
+
+    /**
+     * Load users by id, ids that are unknown or failed to load are absent from the result
+     */
+    public Map<UUID, UserView> loadAll(Collection<UUID> userIds) {
+        Map<UUID, UserView> users = new HashMap<>();
+        List<UUID> notLocal = new ArrayList<>();
+
+        for (UUID userId : new LinkedHashSet<>(userIds)) {
+            if (userId == null) {
+                continue;
+            }
+            UserProjection.Entry local = userProjection.get(userId);
+            if (local != null) {
+                if (!local.isDeleted()) {
+                    users.put(userId, userProjection.toView(userId, local));
+                }
+                continue;
+            }
+            notLocal.add(userId);
+        }
+
+        // One MGET for every id the projection does not know
+        List<String> keys = notLocal.stream().map(this::cacheKey).collect(Collectors.toList());
+        Map<String, UserView> cached = keys.isEmpty() ? Map.of()
+                : cacheService.getCacheDataMulti(keys, UserView.class);
+        List<UUID> misses = new ArrayList<>();
+        for (int i = 0; i < notLocal.size(); i++) {
+            UserView user = cached.get(keys.get(i));
+            if (user != null) {
+                users.put(notLocal.get(i), user);
+                userProjection.fill(user);
+            } else {
+                misses.add(notLocal.get(i));
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += BATCH_SIZE) {
+            List<UUID> batch = misses.subList(from, Math.min(from + BATCH_SIZE, misses.size()));
+            try {
+                Response response = userFeignClient.getUsersByIds(new UserBatchRequest(new ArrayList<>(batch)));
+                if (response.getStatusCode() != 200 || response.getUserViews() == null) {
+                    log.warn("Batch user lookup returned status {} for {} ids", response.getStatusCode(),
+                            batch.size());
+                    continue;
+                }
+
+                for (UserView user : response.getUserViews()) {
+                    users.put(user.getId(), user);
+                    cacheService.setCacheData(cacheKey(user.getId()), user);
+                    userProjection.fill(user);
+                }
+            } catch (Exception e) {
+                log.warn("Batch user lookup failed for {} ids: {}", batch.size(), e.getMessage());
+            }
+        }
+
+        log.debug("Loaded {} of {} users, {} from user-service", users.size(), userIds.size(), misses.size());
+        return users;
+    }
+
+    /**
+     * Set author on each blog and refresh the username of its embedded comments
+     */
+    public void attachAuthors(Collection<BlogDto> blogs) {
+        if (blogs == null || blogs.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> userIds = new LinkedHashSet<>();
+        for (BlogDto blog : blogs) {
+            userIds.add(blog.getAuthorId());
+            if (blog.getComments() != null) {
+                blog.getComments().forEach(comment -> userIds.add(comment.getUserId()));
+            }
+        }
+
+        Map<UUID, UserView> users = loadAll(userIds);
+        for (BlogDto blog : blogs) {
+            blog.setAuthor(users.get(blog.getAuthorId()));
+            if (blog.getComments() != null) {
+                applyUsernames(blog.getComments(), users);
+            }
+        }
+    }
+
+    public void attachAuthor(BlogDto blog) {
+        if (blog != null) {
+            attachAuthors(List.of(blog));
+        }
+    }
+
+    /**
+     * Replace the username stored with each comment by the current one
+     */
+    public void attachCommentAuthors(Collection<CommentDto> comments) {
+        if (comments == null || comments.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> userIds = new LinkedHashSet<>();
+        comments.forEach(comment -> userIds.add(comment.getUserId()));
+        applyUsernames(comments, loadAll(userIds));
+    }
+
+    private void applyUsernames(Collection<CommentDto> comments, Map<UUID, UserView> users) {
+        for (CommentDto comment : comments) {
+            UserView user = users.get(comment.getUserId());
+            if (user != null && user.getUsername() != null) {
+                comment.setUsername(user.getUsername());
+            }
+        }
+    }
+
+    private String cacheKey(UUID userId) {
+        return cacheKeys.forMethodWithId("validateUser", userId);
+    }
+}
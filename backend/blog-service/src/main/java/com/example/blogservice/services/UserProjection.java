@@ -0,0 +1,136 @@
+package com.example.blogservice.services;
+
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.blogservice.dtos.responses.views.UserView;
+import com.example.blogservice.utils.UuidOpenHashMap;
+import com.example.rabbitcommon.dtos.UserEventMessage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory copy of the users blog-service needs, id -> username, avatar, status
+ * Kept current by user events from user-service and filled with users
+ * fetched on a miss, so user validation is a local lookup. Each entry
+ * carries the time of the event that wrote it and older events are dropped,
+ * entries filled from a fetch have version 0 so any event replaces them.
+ * Events in the same millisecond all apply in arrival order, except that a
+ * deletion or ban is never replaced by a less restrictive event of that time.
+ * Deleted users are kept as tombstones so they are rejected locally.
+ *
+ * Configuration:
+ * blog.users.projection.max-entries=1000000
+ */
+@Slf4j
+@Service
+public class UserProjection {
+
+    private static final String DELETED = "deleted";
+    private static final String BANNED = "banned";
+
+    public record Entry(String username, String avatarUrl, String status, long version) {
+        public boolean isDeleted() {
+            return DELETED.equals(status);
+        }
+    }
+
+    private final UuidOpenHashMap<Entry> users = new UuidOpenHashMap<>(1024);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Value("${blog.users.projection.max-entries:1000000}")
+    private int maxEntries;
+
+    public Entry get(UUID userId) {
+        lock.readLock().lock();
+        try {
+            return users.get(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a user event unless a newer one was already applied
+     */
+    public void apply(UserEventMessage event) {
+        Entry entry = event.getType() == UserEventMessage.Type.DELETED
+                ? new Entry(event.getUsername(), null, DELETED, event.getOccurredAt())
+                : new Entry(event.getUsername(), event.getAvatarUrl(), event.getStatus(), event.getOccurredAt());
+
+        lock.writeLock().lock();
+        try {
+            Entry current = users.get(event.getUserId());
+            if (current != null && isStale(current, entry)) {
+                log.debug("Skipped stale {} event for userId={}", event.getType(), event.getUserId());
+                return;
+            }
+            if (current == null && users.size() >= maxEntries) {
+                return;
+            }
+            users.put(event.getUserId(), entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean isStale(Entry current, Entry incoming) {
+        if (current.version() != incoming.version()) {
+            return current.version() > incoming.version();
+        }
+        return restriction(incoming) < restriction(current);
+    }
+
+    /**
+     * Deleted outranks banned outranks any other status on a same-millisecond tie
+     */
+    private static int restriction(Entry entry) {
+        if (entry.isDeleted()) {
+            return 2;
+        }
+        return BANNED.equalsIgnoreCase(entry.status()) ? 1 : 0;
+    }
+
+    /**
+     * Remember a user fetched from user-service, never overwrites an event
+     */
+    public void fill(UserView user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (users.get(user.getId()) == null && users.size() < maxEntries) {
+                users.put(user.getId(), new Entry(user.getUsername(), user.getAvatarUrl(), user.getStatus(), 0));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop everything, used when events may have been missed
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            log.info("Clearing user projection with {} entries", users.size());
+            users.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public UserView toView(UUID userId, Entry entry) {
+        UserView user = new UserView();
+        user.setId(userId);
+        user.setUsername(entry.username());
+        user.setAvatarUrl(entry.avatarUrl());
+        user.setStatus(entry.status());
+        return user;
+    }
+}
@@ -15,6 +15,8 @@ import com.example.blogservice.mappers.CommentMapper;
 import com.example.blogservice.repositories.blogRepositories.BlogQueryRepository;
 import com.example.blogservice.repositories.commentRepositories.CommentQueryRepository;
 import com.example.blogservice.services.feigns.UserFeignClient;
+import com.example.blogservice.utils.CacheTags;
+import com.example.rediscommon.dtos.CacheTagVersions;
 import com.example.rediscommon.services.RedisCacheService;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 
@@ -31,13 +33,15 @@ public class ValidateService {
     private final CommentQueryRepository commentQueryRepository;
     private final BlogMapper blogMapper;
     private final CommentMapper commentMapper;
+    private final UserProjection userProjection;
 
     public ValidateService(RedisCacheService cacheService,
             UserFeignClient userFeignClient,
             BlogQueryRepository blogQueryRepository,
             CommentQueryRepository commentQueryRepository,
             BlogMapper blogMapper,
-            CommentMapper commentMapper) {
+            CommentMapper commentMapper,
+            UserProjection userProjection) {
         this.userFeignClient = userFeignClient;
         this.cacheService = cacheService;
         this.cacheKeys = CacheKeyBuilder.forService("blog_comment_validate");
@@ -45,10 +49,20 @@ public class ValidateService {
         this.commentQueryRepository = commentQueryRepository;
         this.blogMapper = blogMapper;
         this.commentMapper = commentMapper;
+        this.userProjection = userProjection;
     }
 
     public UserView validateUser(UUID userId) {
         try {
+            // Kept current by user events, only a miss goes to Redis and user-service
+            UserProjection.Entry local = userProjection.get(userId);
+            if (local != null) {
+                if (local.isDeleted()) {
+                    throw new OurException("User not found", 404);
+                }
+                return userProjection.toView(userId, local);
+            }
+
             String cacheKey = cacheKeys.forMethodWithId("validateUser", userId);
             UserView user = cacheService.getCacheData(cacheKey, UserView.class);
 
@@ -61,6 +75,7 @@ public class ValidateService {
                 user = response.getUserView();
                 cacheService.setCacheData(cacheKey, user);
             }
+            userProjection.fill(user);
 
             return user;
         } catch (OurException e) {
@@ -70,6 +85,13 @@ public class ValidateService {
         }
     }
 
+    /**
+     * Drop the cached copy of a user after it changed in user-service
+     */
+    public void evictUser(UUID userId) {
+        cacheService.deleteCacheData(cacheKeys.forMethodWithId("validateUser", userId));
+    }
+
     @Transactional(readOnly = true)
     public BlogDto validateBlog(UUID blogId) {
         try {
@@ -77,10 +99,11 @@ public class ValidateService {
             BlogDto blog = cacheService.getCacheData(cacheKey, BlogDto.class);
 
             if (blog == null) {
+                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.blog(blogId));
                 blog = blogQueryRepository.findBlogById(blogId).map(blogMapper::toDto)
                         .orElseThrow(() -> new OurException("Blog not found", 404));
 
-                cacheService.setCacheData(cacheKey, blog);
+                cacheService.setCacheData(cacheKey, blog, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
             }
 
             return blog;
@@ -98,10 +121,11 @@ public class ValidateService {
             CommentDto comment = cacheService.getCacheData(cacheKey, CommentDto.class);
 
             if (comment == null) {
+                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.comment(commentId));
                 comment = commentQueryRepository.findCommentById(commentId).map(commentMapper::toDto)
                         .orElseThrow(() -> new OurException("Comment not found", 404));
 
-                cacheService.setCacheData(cacheKey, comment);
+                cacheService.setCacheData(cacheKey, comment, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
             }
 
             return comment;
@@ -0,0 +1,149 @@
+package com.example.blogservice.services;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.persistencecommon.utils.UuidV7;
+import com.example.rediscommon.services.RedisService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes the day counters collected by ViewCounter to blog_views with JDBC batches
+ * Counters are written as absolute values, so a pair flushed twice or
+ * requeued after a failure converges to the same row. GREATEST keeps a row
+ * from going backwards if its Redis keys expired before the last flush.
+ *
+ * Configuration:
+ * blog.views.flush-interval-ms=10000
+ * blog.views.batch-size=500
+ */
+@Slf4j
+@Service
+public class ViewCountFlusher {
+
+    private static final String LOCK_KEY = "blog_views_flush_lock";
+    private static final long LOCK_TTL_MS = 30_000;
+
+    // Upper bound on batches per tick so one run cannot hold the lock indefinitely
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private static final String UPSERT_SQL = "INSERT INTO blog_views (id, blog_id, view_date, views, unique_viewers) "
+            + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+            + "views = GREATEST(views, VALUES(views)), unique_viewers = GREATEST(unique_viewers, VALUES(unique_viewers))";
+
+    /**
+     * KEYS[1] = lock key, ARGV[1] = owner, ARGV[2] = ttl in ms
+     */
+    private static final RedisScript<Long> LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 end return 0",
+            Long.class);
+
+    /**
+     * KEYS[1] = lock key, ARGV[1] = owner
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final ViewCounter viewCounter;
+    private final RedisService redisService;
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${blog.views.batch-size:500}")
+    private int batchSize;
+
+    public ViewCountFlusher(ViewCounter viewCounter, RedisService redisService, JdbcTemplate jdbcTemplate) {
+        this.viewCounter = viewCounter;
+        this.redisService = redisService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval-ms:10000}")
+    public void flush() {
+        try {
+            Long locked = redisService.executeScript(LOCK_SCRIPT, List.of(LOCK_KEY), instanceId,
+                    String.valueOf(LOCK_TTL_MS));
+            if (locked == null || locked != 1) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to acquire view flush lock: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                List<String> entries = viewCounter.drain(batchSize);
+                if (entries.isEmpty() || !flushBatch(entries) || entries.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("View flush failed: {}", e.getMessage(), e);
+        } finally {
+            try {
+                redisService.executeScript(UNLOCK_SCRIPT, List.of(LOCK_KEY), instanceId);
+            } catch (Exception e) {
+                log.warn("Failed to release view flush lock: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @param entries "blogId:date|views|uniqueViewers"
+     * @return false if the batch failed and was requeued
+     */
+    private boolean flushBatch(List<String> entries) {
+        List<String> members = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (String entry : entries) {
+            String[] parts = entry.split("\\|");
+            String[] pair = parts[0].split(":");
+            if (parts.length != 3 || pair.length != 2) {
+                log.warn("Dropping malformed view entry: {}", entry);
+                continue;
+            }
+            members.add(parts[0]);
+            rows.add(new Object[] {
+                    toBytes(UuidV7.generate()),
+                    toBytes(UUID.fromString(pair[0])),
+                    Date.valueOf(LocalDate.parse(pair[1])),
+                    Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]) });
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+
+            log.debug("Flushed view counters for {} blog days in {} ms", rows.size(),
+                    System.currentTimeMillis() - startTime);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to flush {} view counters, requeueing: {}", rows.size(), e.getMessage(), e);
+            viewCounter.requeue(members);
+            return false;
+        }
+    }
+
+    // Hibernate maps UUID columns to BINARY(16) on MySQL
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
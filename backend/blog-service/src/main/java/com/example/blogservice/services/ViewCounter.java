@@ -0,0 +1,267 @@
+package com.example.blogservice.services;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.blogservice.dtos.BlogDto;
+import com.example.blogservice.repositories.blogViewRepositories.BlogViewQueryRepository;
+import com.example.blogservice.repositories.projections.DailyViewTotals;
+import com.example.blogservice.repositories.projections.ViewTotals;
+import com.example.rediscommon.services.RedisService;
+import com.example.rediscommon.utils.RedisScripts;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Blog view counters kept in Redis, MySQL is only written by ViewCountFlusher
+ * Per blog and UTC day a HyperLogLog counts unique viewers and a counter
+ * counts views, each touched (blog, day) pair is added to a dirty set for the
+ * flusher. All-time totals live in a hash per blog that serves reads and is
+ * seeded from blog_views and the unflushed day counters when missing.
+ */
+@Slf4j
+@Service
+public class ViewCounter {
+
+    static final String DIRTY_KEY = "blog_views:dirty";
+    static final String UNIQUE_PREFIX = "blog_views:uv:";
+    static final String COUNT_PREFIX = "blog_views:count:";
+    private static final String TOTALS_PREFIX = "blog_views:totals:";
+
+    // Day keys outlive their day so the last views are still flushed after midnight
+    private static final long DAY_KEY_TTL_MS = TimeUnit.HOURS.toMillis(48);
+    // Days whose keys can still exist: today and the two before it
+    private static final int LIVE_DAYS = 3;
+
+    /**
+     * KEYS[1] = day HyperLogLog, KEYS[2] = day counter, KEYS[3] = totals hash, KEYS[4] = dirty set
+     * ARGV[1] = viewer, ARGV[2] = day key ttl in ms, ARGV[3] = dirty member
+     * Returns [new unique viewer 0/1, total views, total unique viewers], totals are -1 if not loaded
+     */
+    private static final RedisScript<List<String>> RECORD_SCRIPT = RedisScripts.listScript(
+            "local added = redis.call('PFADD', KEYS[1], ARGV[1]) "
+                    + "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "redis.call('PEXPIRE', KEYS[2], ARGV[2]) "
+                    + "redis.call('SADD', KEYS[4], ARGV[3]) "
+                    + "if redis.call('EXISTS', KEYS[3]) == 0 then return {tostring(added), '-1', '-1'} end "
+                    + "local views = redis.call('HINCRBY', KEYS[3], 'views', 1) "
+                    + "local uniques = redis.call('HINCRBY', KEYS[3], 'unique', added) "
+                    + "return {tostring(added), tostring(views), tostring(uniques)}");
+
+    /**
+     * Seed a totals hash unless another request already did
+     * Days whose Redis keys may still be live are not trusted from MySQL alone,
+     * the flusher may lag behind them, so each takes the larger of its Redis
+     * counter and its row. Reading the counters here, atomically with the
+     * EXISTS check, includes every view recorded before the hash existed.
+     * KEYS[1] = totals hash, KEYS[2..] = day HyperLogLog, day counter pairs
+     * ARGV[1] = views before the live days, ARGV[2] = unique viewers before them,
+     * ARGV[3..] = stored views, unique viewers pairs of the live days
+     * Returns [total views, total unique viewers]
+     */
+    private static final RedisScript<List<String>> SEED_SCRIPT = RedisScripts.listScript(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then "
+                    + "  local views = tonumber(ARGV[1]) "
+                    + "  local uniques = tonumber(ARGV[2]) "
+                    + "  for i = 2, #KEYS, 2 do "
+                    + "    local arg = i + 1 "
+                    + "    local dayUniques = redis.call('PFCOUNT', KEYS[i]) "
+                    + "    local dayViews = tonumber(redis.call('GET', KEYS[i + 1]) or '0') "
+                    + "    views = views + math.max(dayViews, tonumber(ARGV[arg])) "
+                    + "    uniques = uniques + math.max(dayUniques, tonumber(ARGV[arg + 1])) "
+                    + "  end "
+                    + "  redis.call('HSET', KEYS[1], 'views', views, 'unique', uniques) "
+                    + "end "
+                    + "return redis.call('HMGET', KEYS[1], 'views', 'unique')");
+
+    /**
+     * Pop dirty (blog, day) members
+     * KEYS[1] = dirty set, ARGV[1] = count
+     */
+    private static final RedisScript<List<String>> POP_SCRIPT = RedisScripts.listScript(
+            "return redis.call('SPOP', KEYS[1], tonumber(ARGV[1]))");
+
+    /**
+     * Read the day counters of popped members
+     * KEYS = day HyperLogLog, day counter pairs
+     * Returns views, unique viewers pairs in KEYS order
+     */
+    private static final RedisScript<List<String>> READ_DAYS_SCRIPT = RedisScripts.listScript(
+            "local result = {} "
+                    + "for i = 1, #KEYS, 2 do "
+                    + "  table.insert(result, redis.call('GET', KEYS[i + 1]) or '0') "
+                    + "  table.insert(result, tostring(redis.call('PFCOUNT', KEYS[i]))) "
+                    + "end "
+                    + "return result");
+
+    /**
+     * KEYS[1] = dirty set, ARGV = members
+     */
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end return #ARGV",
+            Long.class);
+
+    private final RedisService redisService;
+    private final BlogViewQueryRepository blogViewQueryRepository;
+
+    public ViewCounter(RedisService redisService, BlogViewQueryRepository blogViewQueryRepository) {
+        this.redisService = redisService;
+        this.blogViewQueryRepository = blogViewQueryRepository;
+    }
+
+    /**
+     * Count a view and fill the blog's view counts, failures are logged and
+     * leave the counts unset rather than failing the read
+     *
+     * @param viewer user id, or "ip:{address}" for anonymous viewers
+     * @return true if this is the viewer's first view of the blog today
+     */
+    public boolean recordView(BlogDto blog, String viewer) {
+        UUID blogId = blog.getId();
+        try {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            String member = dayMember(blogId, today);
+            List<String> keys = List.of(UNIQUE_PREFIX + member, COUNT_PREFIX + member, TOTALS_PREFIX + blogId,
+                    DIRTY_KEY);
+            List<String> result = redisService.executeScript(RECORD_SCRIPT, keys, viewer,
+                    String.valueOf(DAY_KEY_TTL_MS), member);
+
+            long views = Long.parseLong(result.get(1));
+            long uniqueViewers = Long.parseLong(result.get(2));
+            if (views < 0) {
+                List<String> totals = seedTotals(blogId, today);
+                views = Long.parseLong(totals.get(0));
+                uniqueViewers = Long.parseLong(totals.get(1));
+            }
+
+            blog.setViewCount(views);
+            blog.setUniqueViewCount(uniqueViewers);
+            return "1".equals(result.get(0));
+        } catch (Exception e) {
+            log.warn("Failed to record view for blogId={}: {}", blogId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Build the totals hash from blog_views plus the day counters not flushed
+     * yet, the current view is already in today's counter
+     *
+     * @return [total views, total unique viewers] as stored in the hash
+     */
+    private List<String> seedTotals(UUID blogId, LocalDate today) {
+        // Read only, the views table is written by the flusher
+        LocalDate firstLiveDay = today.minusDays(LIVE_DAYS - 1);
+        ViewTotals older = blogViewQueryRepository.findViewTotalsByBlogIdBefore(blogId, firstLiveDay);
+        Map<LocalDate, DailyViewTotals> stored = blogViewQueryRepository.findDailyViewsByBlogId(blogId, firstLiveDay)
+                .stream()
+                .collect(Collectors.toMap(DailyViewTotals::getViewDate, Function.identity()));
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        keys.add(TOTALS_PREFIX + blogId);
+        args.add(String.valueOf(older.getViews()));
+        args.add(String.valueOf(older.getUniqueViewers()));
+        for (LocalDate day = firstLiveDay; !day.isAfter(today); day = day.plusDays(1)) {
+            String member = dayMember(blogId, day);
+            DailyViewTotals row = stored.get(day);
+            keys.add(UNIQUE_PREFIX + member);
+            keys.add(COUNT_PREFIX + member);
+            args.add(String.valueOf(row != null ? row.getViews() : 0));
+            args.add(String.valueOf(row != null ? row.getUniqueViewers() : 0));
+        }
+
+        List<String> totals = redisService.executeScript(SEED_SCRIPT, keys, args.toArray(new String[0]));
+        log.debug("Seeded view totals for blogId={}: views={}, uniqueViewers={}", blogId, totals.get(0),
+                totals.get(1));
+        return totals;
+    }
+
+    /**
+     * Drop the blog's totals once its deletion commits, a view recorded
+     * before the commit would otherwise seed them again
+     */
+    public void removeAfterCommit(UUID blogId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(blogId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(blogId);
+            }
+        });
+    }
+
+    public void remove(UUID blogId) {
+        try {
+            redisService.delete(TOTALS_PREFIX + blogId);
+        } catch (Exception e) {
+            log.warn("Failed to remove view totals for blogId={}: {}", blogId, e.getMessage());
+        }
+    }
+
+    /**
+     * Pop up to count dirty (blog, day) pairs with their current counters
+     * Popping and reading are two scripts so each declares the keys it
+     * touches, members popped but not read are requeued
+     *
+     * @return "member|views|uniqueViewers" entries
+     */
+    List<String> drain(int count) {
+        List<String> members = redisService.executeScript(POP_SCRIPT, List.of(DIRTY_KEY), String.valueOf(count));
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<String> keys = new ArrayList<>(members.size() * 2);
+            for (String member : members) {
+                keys.add(UNIQUE_PREFIX + member);
+                keys.add(COUNT_PREFIX + member);
+            }
+            List<String> counters = redisService.executeScript(READ_DAYS_SCRIPT, keys);
+
+            List<String> entries = new ArrayList<>(members.size());
+            for (int i = 0; i < members.size(); i++) {
+                entries.add(members.get(i) + "|" + counters.get(2 * i) + "|" + counters.get(2 * i + 1));
+            }
+            return entries;
+        } catch (RuntimeException e) {
+            requeue(members);
+            throw e;
+        }
+    }
+
+    /**
+     * Mark pairs dirty again after a failed flush, the counters are absolute so
+     * they are simply re-read on the next run
+     */
+    void requeue(Collection<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        redisService.executeScript(REQUEUE_SCRIPT, List.of(DIRTY_KEY), members.toArray(new String[0]));
+    }
+
+    static String dayMember(UUID blogId, LocalDate day) {
+        return blogId + ":" + day;
+    }
+}
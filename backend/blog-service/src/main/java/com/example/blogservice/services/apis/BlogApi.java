@@ -1,7 +1,10 @@
 package com.example.blogservice.services.apis;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.blogservice.dtos.*;
 import com.example.blogservice.dtos.requests.*;
@@ -9,8 +12,16 @@ import com.example.blogservice.dtos.responses.*;
 import com.example.blogservice.dtos.responses.views.BlogView;
 import com.example.blogservice.exceptions.OurException;
 import com.example.blogservice.mappers.*;
+import com.example.blogservice.services.UserLoader;
 import com.example.blogservice.services.apis.handlers.BlogHandler;
-import com.example.rediscommon.services.RateLimiterService;
+import com.example.blogservice.services.apis.handlers.BlogSearchHandler;
+import com.example.blogservice.services.apis.handlers.BlogViewHandler;
+import com.example.blogservice.services.apis.handlers.ExportHandler;
+import com.example.blogservice.services.apis.handlers.FeedHandler;
+import com.example.blogservice.services.apis.handlers.TrendingHandler;
+import com.example.blogservice.utils.ExportWriter;
+import com.example.rediscommon.services.RateLimitPolicyService;
+import com.example.securitycommon.utils.SecurityUtils;
 import com.example.rediscommon.services.RedisCacheService;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,20 +37,38 @@ import lombok.extern.slf4j.Slf4j;
 public class BlogApi {
 
     private final ObjectMapper objectMapper;
-    private final RateLimiterService rateLimiterService;
+    private final RateLimitPolicyService rateLimitPolicyService;
     private final BlogHandler blogHandler;
+    private final BlogSearchHandler blogSearchHandler;
+    private final FeedHandler feedHandler;
+    private final TrendingHandler trendingHandler;
+    private final BlogViewHandler blogViewHandler;
+    private final ExportHandler exportHandler;
+    private final UserLoader userLoader;
     private final BlogMapper blogMapper;
     private final CacheKeyBuilder cacheKeys;
 
     public BlogApi(
             BlogMapper blogMapper,
-            RateLimiterService rateLimiterService,
+            RateLimitPolicyService rateLimitPolicyService,
             RedisCacheService cacheService,
             CommentApi commentApi,
-            BlogHandler blogHandler) {
+            BlogHandler blogHandler,
+            BlogSearchHandler blogSearchHandler,
+            FeedHandler feedHandler,
+            TrendingHandler trendingHandler,
+            BlogViewHandler blogViewHandler,
+            ExportHandler exportHandler,
+            UserLoader userLoader) {
         this.blogMapper = blogMapper;
-        this.rateLimiterService = rateLimiterService;
+        this.rateLimitPolicyService = rateLimitPolicyService;
         this.blogHandler = blogHandler;
+        this.blogSearchHandler = blogSearchHandler;
+        this.feedHandler = feedHandler;
+        this.trendingHandler = trendingHandler;
+        this.blogViewHandler = blogViewHandler;
+        this.exportHandler = exportHandler;
+        this.userLoader = userLoader;
         this.objectMapper = new ObjectMapper();
         this.cacheKeys = CacheKeyBuilder.forService("blog");
     }
@@ -55,7 +84,8 @@ public class BlogApi {
     }
 
     private void checkRateLimit(String rateLimitKey, int maxRequests, int timeWindowSeconds) {
-        if (!rateLimiterService.isAllowed(rateLimitKey, maxRequests, timeWindowSeconds)) {
+        if (!rateLimitPolicyService.isAllowed(rateLimitKey, SecurityUtils.getPrincipalKey(),
+                SecurityUtils.getCurrentUserRole(), maxRequests, timeWindowSeconds)) {
             throw new OurException("Rate limit exceeded. Please try again later.", 429);
         }
     }
@@ -133,6 +163,7 @@ public class BlogApi {
                         .collect(Collectors.toList());
                 response.setBlogViews(blogViews);
             } else {
+                userLoader.attachAuthors(blogs);
                 response.setBlogs(blogs);
             }
             return response;
@@ -145,17 +176,210 @@ public class BlogApi {
         }
     }
 
-    public Response getBlog(UUID blogId) {
+    public ResponseEntity<?> exportBlogs(Boolean isVisibility, String format) {
+        long startTime = requestStart("Export blogs attempt with visibility: " + isVisibility + ", format: " + format);
+
+        try {
+            String rateLimitKey = cacheKeys.forMethod("exportBlogs");
+            checkRateLimit(rateLimitKey, 5, 60);
+
+            ExportWriter.Format exportFormat = ExportWriter.Format.from(format);
+            // Runs on an async request thread after this method returns
+            StreamingResponseBody body = out -> {
+                long exportStart = System.currentTimeMillis();
+                long count = exportHandler.handleExportBlogs(isVisibility, exportFormat, out);
+                log.info("Exported {} blogs in {} ms", count, System.currentTimeMillis() - exportStart);
+            };
+
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.getMediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"blogs." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (OurException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(new Response(e.getMessage(), e.getStatusCode()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(new Response("Internal Server Error", 500));
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
+    public Response getBlogsPage(Boolean isVisibility, String category, String cursor, Integer size,
+            Boolean isView) {
+        long startTime = requestStart("Get blogs page attempt with visibility: " + isVisibility
+                + ", category: " + category + ", cursor: " + cursor);
+
+        try {
+            String rateLimitKey = cacheKeys.forMethodWithParam("getBlogsPage",
+                    isVisibility == null ? "all" : isVisibility.toString());
+            checkRateLimit(rateLimitKey, 45, 60);
+
+            BlogPageDto page = blogHandler.handleGetBlogsPage(isVisibility, category, cursor, size);
+
+            log.info("Blogs page retrieved: count={}, hasNext={}", page.getBlogs().size(), page.isHasNext());
+
+            Response response = new Response("Blogs retrieved successfully");
+            if (isView != null && isView) {
+                List<BlogView> blogViews = page.getBlogs().stream()
+                        .map(blogMapper::toView)
+                        .collect(Collectors.toList());
+                response.setBlogViews(blogViews);
+            } else {
+                userLoader.attachAuthors(page.getBlogs());
+                response.setBlogs(page.getBlogs());
+            }
+
+            Pagination pagination = new Pagination();
+            pagination.setPageSize(page.getPageSize());
+            pagination.setNextCursor(page.getNextCursor());
+            pagination.setHasNext(page.isHasNext());
+            response.setPagination(pagination);
+            return response;
+        } catch (OurException e) {
+            return new Response(e.getMessage(), e.getStatusCode());
+        } catch (Exception e) {
+            return new Response("Internal Server Error", 500);
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
+    public Response getFeed(UUID userId, String cursor, Integer size, Boolean isView) {
+        long startTime = requestStart("Get feed attempt for user: " + userId + ", cursor: " + cursor);
+
+        try {
+            String rateLimitKey = cacheKeys.forMethodWithId("getFeed", userId);
+            checkRateLimit(rateLimitKey, 60, 60);
+
+            BlogPageDto page = feedHandler.handleGetFeed(userId, cursor, size);
+
+            log.info("Feed retrieved: count={}, hasNext={}", page.getBlogs().size(), page.isHasNext());
+
+            Response response = new Response("Feed retrieved successfully");
+            if (isView != null && isView) {
+                List<BlogView> blogViews = page.getBlogs().stream()
+                        .map(blogMapper::toView)
+                        .collect(Collectors.toList());
+                response.setBlogViews(blogViews);
+            } else {
+                userLoader.attachAuthors(page.getBlogs());
+                response.setBlogs(page.getBlogs());
+            }
+
+            Pagination pagination = new Pagination();
+            pagination.setPageSize(page.getPageSize());
+            pagination.setNextCursor(page.getNextCursor());
+            pagination.setHasNext(page.isHasNext());
+            response.setPagination(pagination);
+            return response;
+        } catch (OurException e) {
+            return new Response(e.getMessage(), e.getStatusCode());
+        } catch (Exception e) {
+            return new Response("Internal Server Error", 500);
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
+    public Response getTrendingBlogs(String category, Integer size, Boolean isView) {
+        long startTime = requestStart("Get trending blogs attempt with category: " + category + ", size: " + size);
+
+        try {
+            String rateLimitKey = cacheKeys.forMethod("getTrendingBlogs");
+            checkRateLimit(rateLimitKey, 60, 60);
+
+            List<BlogDto> blogs = trendingHandler.handleGetTrendingBlogs(category, size);
+
+            log.info("Trending blogs retrieved: count={}", blogs.size());
+
+            Response response = new Response("Trending blogs retrieved successfully");
+            if (isView != null && isView) {
+                List<BlogView> blogViews = blogs.stream()
+                        .map(blogMapper::toView)
+                        .collect(Collectors.toList());
+                response.setBlogViews(blogViews);
+            } else {
+                userLoader.attachAuthors(blogs);
+                response.setBlogs(blogs);
+            }
+            return response;
+        } catch (OurException e) {
+            return new Response(e.getMessage(), e.getStatusCode());
+        } catch (Exception e) {
+            return new Response("Internal Server Error", 500);
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
+    public Response getDailyViews(Integer days) {
+        long startTime = requestStart("Get daily views attempt for days: " + days);
+
+        try {
+            String rateLimitKey = cacheKeys.forMethod("getDailyViews");
+            checkRateLimit(rateLimitKey, 60, 60);
+
+            List<DailyViewStatDto> dailyViews = blogViewHandler.handleGetDailyViews(days);
+
+            log.info("Daily views retrieved: days={}", dailyViews.size());
+
+            Response response = new Response("Daily views retrieved successfully");
+            response.setDailyViews(dailyViews);
+            return response;
+        } catch (OurException e) {
+            return new Response(e.getMessage(), e.getStatusCode());
+        } catch (Exception e) {
+            return new Response("Internal Server Error", 500);
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
+    public Response searchBlogs(String query, Boolean isVisibility, String category, Integer page, Integer size) {
+        long startTime = requestStart("Search blogs attempt with query: " + query + ", visibility: " + isVisibility
+                + ", category: " + category + ", page: " + page);
+
+        try {
+            String rateLimitKey = cacheKeys.forMethod("searchBlogs");
+            checkRateLimit(rateLimitKey, 60, 60);
+
+            BlogSearchPageDto result = blogSearchHandler.handleSearchBlogs(query, isVisibility, category, page, size);
+
+            log.info("Blog search completed: hits={}, hasNext={}", result.getHits().size(), result.isHasNext());
+
+            Response response = new Response("Blogs searched successfully");
+            response.setSearchResults(result.getHits());
+
+            Pagination pagination = new Pagination();
+            pagination.setCurrentPage(result.getPage());
+            pagination.setPageSize(result.getPageSize());
+            pagination.setHasNext(result.isHasNext());
+            response.setPagination(pagination);
+            return response;
+        } catch (OurException e) {
+            return new Response(e.getMessage(), e.getStatusCode());
+        } catch (Exception e) {
+            return new Response("Internal Server Error", 500);
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
+    public Response getBlog(UUID blogId, Boolean includeIds) {
         long startTime = requestStart("Get blog attempt for blog: " + blogId);
 
         try {
             String rateLimitKey = cacheKeys.forMethodWithId("getBlog", blogId);
             checkRateLimit(rateLimitKey, 45, 60);
 
-            BlogDto blog = blogHandler.handleGetBlog(blogId);
+            BlogDto blog = blogHandler.handleGetBlog(blogId, SecurityUtils.getCurrentUserId(),
+                    Boolean.TRUE.equals(includeIds));
 
             log.info("Blog retrieved successfully: blogId={}", blogId);
 
+            userLoader.attachAuthor(blog);
+
             Response response = new Response("Blog retrieved successfully");
             response.setBlog(blog);
             return response;
@@ -180,6 +404,7 @@ public class BlogApi {
             log.info("User blogs retrieved: count={}", blogs.size());
 
             Response response = new Response("User blogs retrieved successfully");
+            userLoader.attachAuthors(blogs);
             response.setBlogs(blogs);
             return response;
         } catch (OurException e) {
@@ -298,6 +523,7 @@ public class BlogApi {
             log.info("User saved blogs retrieved: count={}", blogs.size());
 
             Response response = new Response("Saved blogs retrieved successfully");
+            userLoader.attachAuthors(blogs);
             response.setBlogs(blogs);
             return response;
         } catch (OurException e) {
@@ -366,6 +592,7 @@ public class BlogApi {
             log.info("User liked blogs retrieved: count={}", blogs.size());
 
             Response response = new Response("Liked blogs retrieved successfully");
+            userLoader.attachAuthors(blogs);
             response.setBlogs(blogs);
             return response;
         } catch (OurException e) {
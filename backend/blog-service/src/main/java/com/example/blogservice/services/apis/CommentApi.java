@@ -1,14 +1,22 @@
 package com.example.blogservice.services.apis;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.blogservice.dtos.*;
 import com.example.blogservice.dtos.requests.*;
+import com.example.blogservice.dtos.responses.Pagination;
 import com.example.blogservice.dtos.responses.Response;
 import com.example.blogservice.exceptions.OurException;
+import com.example.blogservice.services.UserLoader;
 import com.example.blogservice.services.ValidateService;
 import com.example.blogservice.services.apis.handlers.CommentHandler;
-import com.example.rediscommon.services.RateLimiterService;
+import com.example.blogservice.services.apis.handlers.ExportHandler;
+import com.example.blogservice.utils.ExportWriter;
+import com.example.rediscommon.services.RateLimitPolicyService;
+import com.example.securitycommon.utils.SecurityUtils;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -22,18 +30,24 @@ import lombok.extern.slf4j.Slf4j;
 public class CommentApi {
 
     private final ObjectMapper objectMapper;
-    private final RateLimiterService rateLimiterService;
+    private final RateLimitPolicyService rateLimitPolicyService;
     private final CommentHandler commentHandler;
+    private final ExportHandler exportHandler;
     private final ValidateService validateService;
+    private final UserLoader userLoader;
     private final CacheKeyBuilder cacheKeys;
 
     public CommentApi(
-            RateLimiterService rateLimiterService,
+            RateLimitPolicyService rateLimitPolicyService,
             CommentHandler commentHandler,
-            ValidateService validateService) {
-        this.rateLimiterService = rateLimiterService;
+            ExportHandler exportHandler,
+            ValidateService validateService,
+            UserLoader userLoader) {
+        this.rateLimitPolicyService = rateLimitPolicyService;
         this.commentHandler = commentHandler;
+        this.exportHandler = exportHandler;
         this.validateService = validateService;
+        this.userLoader = userLoader;
         this.objectMapper = new ObjectMapper();
         this.cacheKeys = CacheKeyBuilder.forService("comment");
     }
@@ -49,7 +63,8 @@ public class CommentApi {
     }
 
     private void checkRateLimit(String rateLimitKey, int maxRequests, int timeWindowSeconds) {
-        if (!rateLimiterService.isAllowed(rateLimitKey, maxRequests, timeWindowSeconds)) {
+        if (!rateLimitPolicyService.isAllowed(rateLimitKey, SecurityUtils.getPrincipalKey(),
+                SecurityUtils.getCurrentUserRole(), maxRequests, timeWindowSeconds)) {
             throw new OurException("Rate limit exceeded. Please try again later.", 429);
         }
     }
@@ -63,7 +78,8 @@ public class CommentApi {
             String rateLimitKey = cacheKeys.forMethodWithParams("addComment", blogId, userId);
             checkRateLimit(rateLimitKey, 45, 60);
 
-            CommentDto comment = commentHandler.handleAddComment(blogId, userId, request.getContent());
+            CommentDto comment = commentHandler.handleAddComment(blogId, userId, request.getContent(),
+                    request.getParentId());
 
             Response response = new Response("Comment added successfully", 201);
             response.setComment(comment);
@@ -77,17 +93,42 @@ public class CommentApi {
         }
     }
 
-    public Response getBlogComments(UUID blogId) {
-        long startTime = requestStart("Get blog comments attempt for blog: " + blogId);
+    public Response getBlogComments(UUID blogId, String cursor, Integer size) {
+        long startTime = requestStart("Get blog comments attempt for blog: " + blogId + ", cursor: " + cursor);
 
         try {
             String rateLimitKey = cacheKeys.forMethodWithId("getBlogComments", blogId);
             checkRateLimit(rateLimitKey, 45, 60);
 
-            List<CommentDto> comments = commentHandler.handleGetBlogComments(blogId);
+            CommentPageDto page = commentHandler.handleGetBlogComments(blogId, cursor, size);
 
             Response response = new Response("Blog comments retrieved successfully");
-            response.setComments(comments);
+            userLoader.attachCommentAuthors(page.getComments());
+            response.setComments(page.getComments());
+            response.setPagination(toPagination(page));
+            return response;
+        } catch (OurException e) {
+            return new Response(e.getMessage(), e.getStatusCode());
+        } catch (Exception e) {
+            return new Response("Internal Server Error", 500);
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
+    public Response getCommentReplies(UUID commentId, String cursor, Integer size) {
+        long startTime = requestStart("Get comment replies attempt for comment: " + commentId + ", cursor: " + cursor);
+
+        try {
+            String rateLimitKey = cacheKeys.forMethodWithId("getCommentReplies", commentId);
+            checkRateLimit(rateLimitKey, 45, 60);
+
+            CommentPageDto page = commentHandler.handleGetCommentReplies(commentId, cursor, size);
+
+            Response response = new Response("Comment replies retrieved successfully");
+            userLoader.attachCommentAuthors(page.getComments());
+            response.setComments(page.getComments());
+            response.setPagination(toPagination(page));
             return response;
         } catch (OurException e) {
             return new Response(e.getMessage(), e.getStatusCode());
@@ -181,4 +222,42 @@ public class CommentApi {
             requestEnd(startTime);
         }
     }
+
+    public ResponseEntity<?> exportComments(String format) {
+        long startTime = requestStart("Export comments attempt with format: " + format);
+
+        try {
+            String rateLimitKey = cacheKeys.forMethod("exportComments");
+            checkRateLimit(rateLimitKey, 5, 60);
+
+            ExportWriter.Format exportFormat = ExportWriter.Format.from(format);
+            // Runs on an async request thread after this method returns
+            StreamingResponseBody body = out -> {
+                long exportStart = System.currentTimeMillis();
+                long count = exportHandler.handleExportComments(exportFormat, out);
+                log.info("Exported {} comments in {} ms", count, System.currentTimeMillis() - exportStart);
+            };
+
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.getMediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"comments." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (OurException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(new Response(e.getMessage(), e.getStatusCode()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(new Response("Internal Server Error", 500));
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
+    private Pagination toPagination(CommentPageDto page) {
+        Pagination pagination = new Pagination();
+        pagination.setTotalItems(page.getTotalCount());
+        pagination.setPageSize(page.getPageSize());
+        pagination.setNextCursor(page.getNextCursor());
+        pagination.setHasNext(page.isHasNext());
+        return pagination;
+    }
 }
@@ -1,29 +1,43 @@
 package com.example.blogservice.services.apis.handlers;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.blogservice.dtos.BlogDto;
-import com.example.blogservice.dtos.CommentDto;
+import com.example.blogservice.dtos.BlogPageDto;
 import com.example.blogservice.entities.Blog;
-import com.example.blogservice.entities.LikedBlog;
-import com.example.blogservice.entities.SavedBlog;
 import com.example.blogservice.exceptions.OurException;
 import com.example.blogservice.mappers.BlogMapper;
 import com.example.blogservice.repositories.blogRepositories.BlogCommandRepository;
 import com.example.blogservice.repositories.blogRepositories.BlogQueryRepository;
 import com.example.blogservice.repositories.likedBlogRepositories.LikedBlogCommandRepository;
 import com.example.blogservice.repositories.likedBlogRepositories.LikedBlogQueryRepository;
+import com.example.blogservice.repositories.projections.BlogSummary;
 import com.example.blogservice.repositories.savedBlogRepositories.SavedBlogCommandRepository;
 import com.example.blogservice.repositories.savedBlogRepositories.SavedBlogQueryRepository;
+import com.example.blogservice.services.BlogDetailAggregator;
+import com.example.blogservice.services.CacheInvalidationService;
+import com.example.blogservice.services.ContentImageService;
+import com.example.blogservice.services.LikeBuffer;
+import com.example.blogservice.services.TrendingService;
 import com.example.blogservice.services.ValidateService;
+import com.example.blogservice.services.ViewCounter;
+import com.example.blogservice.services.rabbitmqs.producers.FeedProducer;
 import com.example.blogservice.services.rabbitmqs.producers.NotiProducer;
+import com.example.blogservice.utils.BlogCursor;
+import com.example.blogservice.utils.CacheTags;
 import com.example.cloudinarycommon.CloudinaryService;
+import com.example.persistencecommon.utils.UuidV7;
+import com.example.rabbitcommon.dtos.FeedFanoutMessage;
 import com.example.rabbitcommon.dtos.NotificationMessage;
+import com.example.rediscommon.dtos.CacheTagVersions;
 import com.example.rediscommon.services.RedisCacheService;
 import com.example.rediscommon.utils.CacheKeyBuilder;
+import com.example.securitycommon.utils.SecurityUtils;
 
 import java.time.Instant;
 import java.util.List;
@@ -37,6 +51,9 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class BlogHandler {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final BlogQueryRepository blogQueryRepository;
     private final BlogCommandRepository blogCommandRepository;
     private final SavedBlogCommandRepository savedBlogCommandRepository;
@@ -48,8 +65,14 @@ public class BlogHandler {
     private final CacheKeyBuilder cacheKeys;
     private final ValidateService validateService;
     private final BlogMapper blogMapper;
-    private final CommentHandler commentHandler;
     private final NotiProducer notiProducer;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final BlogDetailAggregator blogDetailAggregator;
+    private final LikeBuffer likeBuffer;
+    private final FeedProducer feedProducer;
+    private final TrendingService trendingService;
+    private final ViewCounter viewCounter;
+    private final ContentImageService contentImageService;
 
     public BlogHandler(
             BlogQueryRepository blogQueryRepository,
@@ -62,8 +85,14 @@ public class BlogHandler {
             RedisCacheService cacheService,
             ValidateService validateService,
             BlogMapper blogMapper,
-            CommentHandler commentHandler,
-            NotiProducer notiProducer) {
+            NotiProducer notiProducer,
+            CacheInvalidationService cacheInvalidationService,
+            BlogDetailAggregator blogDetailAggregator,
+            LikeBuffer likeBuffer,
+            FeedProducer feedProducer,
+            TrendingService trendingService,
+            ViewCounter viewCounter,
+            ContentImageService contentImageService) {
         this.blogQueryRepository = blogQueryRepository;
         this.blogCommandRepository = blogCommandRepository;
         this.savedBlogCommandRepository = savedBlogCommandRepository;
@@ -75,8 +104,14 @@ public class BlogHandler {
         this.cacheKeys = CacheKeyBuilder.forService("blog");
         this.validateService = validateService;
         this.blogMapper = blogMapper;
-        this.commentHandler = commentHandler;
         this.notiProducer = notiProducer;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.blogDetailAggregator = blogDetailAggregator;
+        this.likeBuffer = likeBuffer;
+        this.feedProducer = feedProducer;
+        this.trendingService = trendingService;
+        this.viewCounter = viewCounter;
+        this.contentImageService = contentImageService;
     }
 
     private BlogDto builderBlog(UUID blogId,
@@ -118,7 +153,7 @@ public class BlogHandler {
             validateService.validateUser(userId);
             log.debug("User validation passed for userId={}", userId);
 
-            UUID blogId = UUID.randomUUID();
+            UUID blogId = UuidV7.generate();
             Instant now = Instant.now();
 
             String thumbnailUrl = null;
@@ -136,6 +171,11 @@ public class BlogHandler {
                 log.debug("Thumbnail uploaded successfully for blogId={}, url={}", blogId, thumbnailUrl);
             }
 
+            // Inline base64 images are stored in Cloudinary, content keeps their URLs
+            ContentImageService.ExtractedContent extracted = contentImageService.extractImages(content);
+            contentImageService.deleteOnRollback(extracted.publicIds());
+            String storedContent = extracted.content();
+
             blogCommandRepository.insertBlog(
                     blogId,
                     userId,
@@ -144,14 +184,26 @@ public class BlogHandler {
                     category,
                     thumbnailUrl,
                     thumbnailPublicId,
-                    content,
+                    storedContent,
                     isVisibility,
                     now,
                     now);
+            contentImageService.recordImages(blogId, extracted);
             log.info("Blog created successfully: blogId={}", blogId);
 
+            cacheInvalidationService.invalidateAfterCommit(CacheTags.blogList(), CacheTags.userBlogs(userId));
+
+            // Followers' timelines are filled asynchronously
+            if (Boolean.TRUE.equals(isVisibility)) {
+                feedProducer.sendFeedFanoutAfterCommit(FeedFanoutMessage.builder()
+                        .blogId(blogId)
+                        .authorId(userId)
+                        .publishedAt(now.toEpochMilli())
+                        .build());
+            }
+
             return builderBlog(blogId, userId, title, description,
-                    category, content,
+                    category, storedContent,
                     isVisibility, now, now);
         } catch (OurException e) {
             log.error("OurException in handleCreateBlog for userId={}: {}", userId, e.getMessage());
@@ -173,7 +225,7 @@ public class BlogHandler {
             log.debug("Blog validation passed for blogId={}", blogId);
 
             Instant now = Instant.now();
-            UUID newBlogId = UUID.randomUUID();
+            UUID newBlogId = UuidV7.generate();
 
             blogCommandRepository.insertBlog(
                     newBlogId,
@@ -187,8 +239,12 @@ public class BlogHandler {
                     originalBlog.getIsVisibility(),
                     now,
                     now);
+            // The copy links to the same content images as the original
+            contentImageService.copyImages(blogId, newBlogId);
             log.info("Blog duplicated successfully: originalBlogId={}, newBlogId={}", blogId, newBlogId);
 
+            cacheInvalidationService.invalidateAfterCommit(CacheTags.blogList(), CacheTags.userBlogs(userId));
+
             return builderBlog(newBlogId, userId, originalBlog.getTitle(), originalBlog.getDescription(),
                     originalBlog.getCategory(), originalBlog.getContent(),
                     originalBlog.getIsVisibility(), now, now);
@@ -215,18 +271,12 @@ public class BlogHandler {
 
             if (blogs == null) {
                 log.debug("Cache miss for handleGetAllBlogs, fetching from database");
-                blogs = blogQueryRepository.findAllBlogs(Pageable.unpaged()).stream()
+                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.blogList());
+                blogs = blogQueryRepository.findBlogSummaries(isVisibility).stream()
                         .map(blogMapper::toDto)
-                        .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
                         .collect(Collectors.toList());
 
-                if (isVisibility != null) {
-                    blogs = blogs.stream()
-                            .filter(blog -> blog.getIsVisibility().equals(isVisibility))
-                            .collect(Collectors.toList());
-                }
-
-                cacheService.setCacheData(cacheKey, blogs);
+                cacheService.setCacheData(cacheKey, blogs, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
                 log.debug("Fetched {} blogs from database and cached", blogs.size());
             }
             log.info("Retrieved {} blogs", blogs.size());
@@ -242,29 +292,110 @@ public class BlogHandler {
     }
 
     @Transactional(readOnly = true)
-    public BlogDto handleGetBlog(UUID blogId) {
+    public BlogPageDto handleGetBlogsPage(Boolean isVisibility, String category, String cursor, Integer size) {
         try {
-            log.info("Starting handleGetBlog for blogId={}", blogId);
+            log.info("Starting handleGetBlogsPage with isVisibility={}, category={}, cursor={}, size={}",
+                    isVisibility, category, cursor, size);
+
+            int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+            Blog.Category categoryEnum = null;
+            if (category != null && !category.isBlank()) {
+                try {
+                    categoryEnum = Blog.Category.valueOf(category.toLowerCase());
+                } catch (IllegalArgumentException e) {
+                    throw new OurException("Invalid category: " + category, 400);
+                }
+            }
+
+            BlogCursor blogCursor = BlogCursor.decode(cursor);
+
+            String cacheKey = cacheKeys.forMethodWithParams("handleGetBlogsPage",
+                    isVisibility == null ? "all" : isVisibility,
+                    categoryEnum == null ? "all" : categoryEnum.name(),
+                    blogCursor == null ? "first" : cursor,
+                    pageSize);
+            BlogPageDto page = cacheService.getCacheData(cacheKey, BlogPageDto.class);
+
+            if (page == null) {
+                log.debug("Cache miss for handleGetBlogsPage, fetching from database");
+                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.blogList());
+
+                // Fetch one extra row to know whether a next page exists
+                Pageable limit = PageRequest.of(0, pageSize + 1);
+                List<BlogSummary> rows = blogCursor == null
+                        ? blogQueryRepository.findBlogsFirstPage(isVisibility, categoryEnum, limit)
+                        : blogQueryRepository.findBlogsAfterCursor(isVisibility, categoryEnum,
+                                blogCursor.getCreatedAt(), blogCursor.getId(), limit);
+
+                boolean hasNext = rows.size() > pageSize;
+                if (hasNext) {
+                    rows = rows.subList(0, pageSize);
+                }
+
+                List<BlogDto> blogs = rows.stream()
+                        .map(blogMapper::toDto)
+                        .collect(Collectors.toList());
+
+                String nextCursor = null;
+                if (hasNext) {
+                    BlogSummary last = rows.get(rows.size() - 1);
+                    nextCursor = BlogCursor.of(last.getCreatedAt(), last.getId()).encode();
+                }
+
+                page = BlogPageDto.builder()
+                        .blogs(blogs)
+                        .nextCursor(nextCursor)
+                        .hasNext(hasNext)
+                        .pageSize(pageSize)
+                        .build();
+
+                cacheService.setCacheData(cacheKey, page, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
+                log.debug("Fetched {} blogs for page from database and cached", blogs.size());
+            }
+            log.info("Retrieved page of {} blogs, hasNext={}", page.getBlogs().size(), page.isHasNext());
+
+            return page;
+        } catch (OurException e) {
+            log.error("OurException in handleGetBlogsPage: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected exception in handleGetBlogsPage: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs without a transaction of its own, the detail fan-out borrows a
+     * connection per task and a caller holding one while it waits would let
+     * pool-size concurrent reads starve their own lookups
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BlogDto handleGetBlog(UUID blogId, UUID viewerId, boolean includeIds) {
+        try {
+            log.info("Starting handleGetBlog for blogId={}, viewerId={}", blogId, viewerId);
 
             String cacheKey = cacheKeys.forMethodWithId("handleGetBlog", blogId);
             BlogDto blog = cacheService.getCacheData(cacheKey, BlogDto.class);
 
             if (blog == null) {
-                log.debug("Cache miss for handleGetBlog, validating blogId={}", blogId);
-                blog = validateService.validateBlog(blogId);
-
-                List<CommentDto> comments = commentHandler.handleGetBlogComments(blogId);
-                blog.setComments(comments);
-                log.debug("Retrieved {} comments for blogId={}", comments.size(), blogId);
+                log.debug("Cache miss for handleGetBlog, assembling detail for blogId={}", blogId);
+                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.blog(blogId));
+                blog = blogDetailAggregator.loadBlogDetail(blogId);
 
-                List<UUID> likes = handleGetBlogLikes(blogId);
-                blog.setLikes(likes);
+                cacheService.setCacheData(cacheKey, blog, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
+                log.debug("Blog cached for blogId={}", blogId);
+            }
 
-                List<UUID> saves = handleGetBlogSaves(blogId);
-                blog.setSaves(saves);
+            blogDetailAggregator.applyViewerState(blog, viewerId, includeIds);
 
-                cacheService.setCacheData(cacheKey, blog);
-                log.debug("Blog cached for blogId={}", blogId);
+            // Counted in Redis only, ViewCountFlusher writes the totals to MySQL.
+            // Anonymous viewers are told apart by the address the gateway saw, and
+            // only signed-in viewers move trending, an address is cheap to rotate
+            String clientIp = viewerId == null ? SecurityUtils.getClientIp() : null;
+            String viewer = viewerId != null ? viewerId.toString() : clientIp != null ? "ip:" + clientIp : null;
+            if (viewer != null && viewCounter.recordView(blog, viewer) && viewerId != null) {
+                trendingService.record(blogId, blog.getCategory(), TrendingService.Interaction.VIEW);
             }
             log.info("Retrieved blog: blogId={}", blogId);
 
@@ -292,13 +423,13 @@ public class BlogHandler {
 
             if (blogs == null) {
                 log.debug("Cache miss for handleGetUserBlogs, fetching from database for userId={}", userId);
-                blogs = blogQueryRepository.findBlogsByUserId(userId)
+                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.userBlogs(userId));
+                blogs = blogQueryRepository.findBlogSummariesByUserId(userId)
                         .stream()
                         .map(blogMapper::toDto)
-                        .sorted((a, b) -> b.getUpdatedAt().compareTo(a.getUpdatedAt()))
                         .collect(Collectors.toList());
 
-                cacheService.setCacheData(cacheKey, blogs);
+                cacheService.setCacheData(cacheKey, blogs, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
                 log.debug("Fetched {} blogs from database and cached for userId={}", blogs.size(), userId);
             }
             log.info("Retrieved {} blogs for userId={}", blogs.size(), userId);
@@ -356,19 +487,36 @@ public class BlogHandler {
                     ? Blog.Category.valueOf(category.toLowerCase())
                     : Blog.Category.valueOf(existingBlog.getCategory());
 
+            String storedContent = content;
+            ContentImageService.ExtractedContent extracted = null;
+            if (content != null) {
+                extracted = contentImageService.extractImages(content);
+                contentImageService.deleteOnRollback(extracted.publicIds());
+                storedContent = extracted.content();
+            }
+
             blogCommandRepository.updateBlog(
                     blogId,
                     title != null ? title : existingBlog.getTitle(),
                     description != null ? description : existingBlog.getDescription(),
                     categoryEnum,
-                    content != null ? content : existingBlog.getContent(),
+                    storedContent != null ? storedContent : existingBlog.getContent(),
                     thumbnailUrl,
                     thumbnailPublicId,
                     isVisibility != null ? isVisibility : existingBlog.getIsVisibility(),
                     now);
+            if (extracted != null) {
+                // Images the new content no longer links to are deleted once the update commits
+                contentImageService.recordImages(blogId, extracted);
+                contentImageService.releaseUnusedImagesAfterCommit(blogId, storedContent);
+            }
             log.info("Blog updated successfully: blogId={}", blogId);
 
-            return builderBlog(blogId, existingBlog.getAuthorId(), title, description, categoryEnum.toString(), content,
+            cacheInvalidationService.invalidateAfterCommit(CacheTags.blog(blogId), CacheTags.blogList(),
+                    CacheTags.userBlogs(existingBlog.getAuthorId()));
+
+            return builderBlog(blogId, existingBlog.getAuthorId(), title, description, categoryEnum.toString(),
+                    storedContent,
                     isVisibility, existingBlog.getCreatedAt(), now);
         } catch (OurException e) {
             log.error("OurException in handleUpdateBlog for blogId={}: {}", blogId, e.getMessage());
@@ -395,7 +543,13 @@ public class BlogHandler {
             }
 
             blogCommandRepository.deleteBlogById(blogId);
+            contentImageService.releaseAllImagesAfterCommit(blogId);
             log.info("Blog deleted successfully: blogId={}", blogId);
+            trendingService.removeAfterCommit(blogId);
+            viewCounter.removeAfterCommit(blogId);
+
+            cacheInvalidationService.invalidateAfterCommit(CacheTags.blog(blogId), CacheTags.blogList(),
+                    CacheTags.userBlogs(blog.getAuthorId()));
             return true;
         } catch (OurException e) {
             log.error("OurException in handleDeleteBlog for blogId={}: {}", blogId, e.getMessage());
@@ -414,21 +568,20 @@ public class BlogHandler {
             validateService.validateUser(userId);
             log.debug("User validation passed for userId={}", userId);
 
-            validateService.validateBlog(blogId);
+            BlogDto blog = validateService.validateBlog(blogId);
             log.debug("Blog validation passed for blogId={}", blogId);
 
-            // Check if already saved
-            boolean alreadySaved = savedBlogQueryRepository.findSavedBlogsByUserId(userId)
-                    .stream()
-                    .anyMatch(sb -> sb.getBlogId().equals(blogId));
-            if (alreadySaved) {
+            // The unique (user_id, blog_id) constraint makes the insert a no-op when already saved
+            UUID savedBlogId = UuidV7.generate();
+            if (savedBlogCommandRepository.saveSavedBlog(savedBlogId, userId, blogId) == 0) {
                 log.warn("Blog already saved for userId={}, blogId={}", userId, blogId);
                 throw new OurException("Blog already saved", 400);
             }
-
-            UUID savedBlogId = UUID.randomUUID();
-            savedBlogCommandRepository.saveSavedBlog(savedBlogId, userId, blogId);
+            blogCommandRepository.incrementSaveCount(blogId, 1);
             log.info("Blog saved successfully: savedBlogId={}", savedBlogId);
+            trendingService.recordAfterCommit(blogId, blog.getCategory(), TrendingService.Interaction.SAVE);
+
+            cacheInvalidationService.invalidateAfterCommit(CacheTags.blog(blogId), CacheTags.userSaves(userId));
 
             return true;
         } catch (OurException e) {
@@ -454,13 +607,15 @@ public class BlogHandler {
 
             if (blogs == null) {
                 log.debug("Cache miss for handleGetUserSavedBlogs, fetching from database for userId={}", userId);
-                blogs = savedBlogQueryRepository.findBlogsByUserSaved(userId)
+                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.userSaves(userId),
+                        CacheTags.blogList());
+                blogs = savedBlogQueryRepository.findSavedBlogSummariesByUserId(userId)
                         .stream()
                         .map(blogMapper::toDto)
-                        .sorted((a, b) -> b.getUpdatedAt().compareTo(a.getUpdatedAt()))
                         .collect(Collectors.toList());
 
-                cacheService.setCacheData(cacheKey, blogs);
+                // Saved blog summaries go stale when any blog changes, hence the list tag
+                cacheService.setCacheData(cacheKey, blogs, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
                 log.debug("Fetched {} saved blogs from database and cached for userId={}", blogs.size(), userId);
             }
             log.info("Retrieved {} saved blogs for userId={}", blogs.size(), userId);
@@ -483,18 +638,17 @@ public class BlogHandler {
             validateService.validateUser(userId);
             log.debug("User validation passed for userId={}", userId);
 
-            validateService.validateBlog(blogId);
+            BlogDto blog = validateService.validateBlog(blogId);
             log.debug("Blog validation passed for blogId={}", blogId);
 
-            SavedBlog savedBlog = savedBlogQueryRepository.findSavedBlogsByUserId(userId)
-                    .stream()
-                    .filter(sb -> sb.getBlogId().equals(blogId))
-                    .findFirst()
-                    .orElseThrow(() -> new OurException("Saved blog not found", 404));
-            log.debug("Found saved blog for deletion: savedBlogId={}", savedBlog.getId());
-
-            savedBlogCommandRepository.deleteById(savedBlog.getId());
+            if (savedBlogCommandRepository.deleteByUserIdAndBlogId(userId, blogId) == 0) {
+                throw new OurException("Saved blog not found", 404);
+            }
+            blogCommandRepository.incrementSaveCount(blogId, -1);
             log.info("Blog unsaved successfully for blogId={}, userId={}", blogId, userId);
+            trendingService.recordAfterCommit(blogId, blog.getCategory(), TrendingService.Interaction.SAVE, -1);
+
+            cacheInvalidationService.invalidateAfterCommit(CacheTags.blog(blogId), CacheTags.userSaves(userId));
 
             return true;
         } catch (OurException e) {
@@ -516,19 +670,7 @@ public class BlogHandler {
             validateService.validateBlog(blogId);
             log.debug("Blog validation passed for blogId={}", blogId);
 
-            String cacheKey = cacheKeys.forMethodWithId("handleGetBlogLikes", blogId);
-            List<UUID> userIds = cacheService.getCacheDataList(cacheKey, UUID.class);
-
-            if (userIds == null) {
-                log.debug("Cache miss for handleGetBlogLikes, fetching from database for blogId={}", blogId);
-                userIds = likedBlogQueryRepository.findLikedBlogsByBlogId(blogId)
-                        .stream()
-                        .map(LikedBlog::getUserId)
-                        .collect(Collectors.toList());
-
-                cacheService.setCacheData(cacheKey, userIds);
-                log.debug("Fetched {} user IDs who liked blogId={} from database and cached", userIds.size(), blogId);
-            }
+            List<UUID> userIds = blogDetailAggregator.loadBlogLikes(blogId);
 
             log.info("Retrieved {} users who liked blogId={}", userIds.size(), blogId);
             return userIds;
@@ -549,19 +691,7 @@ public class BlogHandler {
             validateService.validateBlog(blogId);
             log.debug("Blog validation passed for blogId={}", blogId);
 
-            String cacheKey = cacheKeys.forMethodWithId("handleGetBlogSaves", blogId);
-            List<UUID> userIds = cacheService.getCacheDataList(cacheKey, UUID.class);
-
-            if (userIds == null) {
-                log.debug("Cache miss for handleGetBlogSaves, fetching from database for blogId={}", blogId);
-                userIds = savedBlogQueryRepository.findSavedBlogsByBlogId(blogId)
-                        .stream()
-                        .map(SavedBlog::getUserId)
-                        .collect(Collectors.toList());
-
-                cacheService.setCacheData(cacheKey, userIds);
-                log.debug("Fetched {} user IDs who saved blogId={} from database and cached", userIds.size(), blogId);
-            }
+            List<UUID> userIds = blogDetailAggregator.loadBlogSaves(blogId);
 
             log.info("Retrieved {} users who saved blogId={}", userIds.size(), blogId);
             return userIds;
@@ -585,18 +715,26 @@ public class BlogHandler {
             BlogDto blog = validateService.validateBlog(blogId);
             log.debug("Blog validation passed for blogId={}", blogId);
 
-            // Check if already liked
-            boolean alreadyLiked = likedBlogQueryRepository.findLikedBlogsByUserId(userId)
-                    .stream()
-                    .anyMatch(lb -> lb.getBlogId().equals(blogId));
-            if (alreadyLiked) {
-                log.warn("Blog already liked for userId={}, blogId={}", userId, blogId);
-                throw new OurException("Blog already liked", 400);
-            }
+            if (likeBuffer.isEnabled()) {
+                // Visible immediately through the buffer, LikeBufferFlusher writes it to MySQL
+                if (!likeBuffer.like(blogId, userId)) {
+                    log.warn("Blog already liked for userId={}, blogId={}", userId, blogId);
+                    throw new OurException("Blog already liked", 400);
+                }
+                log.info("Blog like buffered for blogId={}, userId={}", blogId, userId);
+            } else {
+                // The unique (user_id, blog_id) constraint makes the insert a no-op when already liked
+                UUID likedBlogId = UuidV7.generate();
+                if (likedBlogCommandRepository.likeBlog(likedBlogId, userId, blogId) == 0) {
+                    log.warn("Blog already liked for userId={}, blogId={}", userId, blogId);
+                    throw new OurException("Blog already liked", 400);
+                }
+                blogCommandRepository.incrementLikeCount(blogId, 1);
+                log.info("Blog liked successfully: likedBlogId={}", likedBlogId);
 
-            UUID likedBlogId = UUID.randomUUID();
-            likedBlogCommandRepository.likeBlog(likedBlogId, userId, blogId);
-            log.info("Blog liked successfully: likedBlogId={}", likedBlogId);
+                cacheInvalidationService.invalidateAfterCommit(CacheTags.blog(blogId), CacheTags.userLikes(userId));
+            }
+            trendingService.recordAfterCommit(blogId, blog.getCategory(), TrendingService.Interaction.LIKE);
 
             // Send notification to blog owner if liker is not the owner
             if (!blog.getAuthorId().equals(userId)) {
@@ -640,12 +778,15 @@ public class BlogHandler {
 
             if (blogs == null) {
                 log.debug("Cache miss for handleGetUserLikedBlogs:{}, fetching from database", userId);
-                List<Blog> likedBlogs = likedBlogQueryRepository.findLikedBlogsDetailsByUserId(userId);
+                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.userLikes(userId),
+                        CacheTags.blogList());
+                List<BlogSummary> likedBlogs = likedBlogQueryRepository.findLikedBlogSummariesByUserId(userId);
                 blogs = likedBlogs.stream()
                         .map(blogMapper::toDto)
                         .collect(Collectors.toList());
 
-                cacheService.setCacheData(cacheKey, blogs);
+                // Liked blog summaries go stale when any blog changes, hence the list tag
+                cacheService.setCacheData(cacheKey, blogs, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
                 log.debug("Fetched {} liked blogs for userId={} from database and cached", blogs.size(), userId);
             }
 
@@ -668,24 +809,25 @@ public class BlogHandler {
             validateService.validateUser(userId);
             log.debug("User validation passed for userId={}", userId);
 
-            validateService.validateBlog(blogId);
+            BlogDto blog = validateService.validateBlog(blogId);
             log.debug("Blog validation passed for blogId={}", blogId);
 
-            LikedBlog likedBlog = likedBlogQueryRepository.findLikedBlogsByUserId(userId)
-                    .stream()
-                    .filter(lb -> lb.getBlogId().equals(blogId))
-                    .findFirst()
-                    .orElseThrow(() -> new OurException("Liked blog not found", 404));
-            log.debug("Found liked blog for deletion: likedBlogId={}", likedBlog.getId());
-
-            likedBlogCommandRepository.deleteById(likedBlog.getId());
-            log.info("Blog unliked successfully for blogId={}, userId={}", blogId, userId);
-
-            // Invalidate cache
-            // String cacheKey = cacheKeys.forMethodWithId("handleGetUserLikedBlogs",
-            // userId);
-            // cacheService.deleteCacheData(cacheKey);
-            log.debug("Cache invalidated for handleGetUserLikedBlogs:{}", userId);
+            if (likeBuffer.isEnabled()) {
+                if (!likeBuffer.unlike(blogId, userId)) {
+                    throw new OurException("Liked blog not found", 404);
+                }
+                log.info("Blog unlike buffered for blogId={}, userId={}", blogId, userId);
+            } else {
+                if (likedBlogCommandRepository.deleteByUserIdAndBlogId(userId, blogId) == 0) {
+                    throw new OurException("Liked blog not found", 404);
+                }
+                blogCommandRepository.incrementLikeCount(blogId, -1);
+                log.info("Blog unliked successfully for blogId={}, userId={}", blogId, userId);
+
+                cacheInvalidationService.invalidateAfterCommit(CacheTags.blog(blogId), CacheTags.userLikes(userId));
+                log.debug("Cache invalidation scheduled for blogId={}, userId={}", blogId, userId);
+            }
+            trendingService.recordAfterCommit(blogId, blog.getCategory(), TrendingService.Interaction.LIKE, -1);
 
             return true;
         } catch (OurException e) {
@@ -0,0 +1,175 @@
+package com.example.blogservice.services.apis.handlers;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.blogservice.dtos.BlogDto;
+import com.example.blogservice.dtos.BlogSearchHitDto;
+import com.example.blogservice.dtos.BlogSearchPageDto;
+import com.example.blogservice.entities.Blog;
+import com.example.blogservice.exceptions.OurException;
+import com.example.blogservice.mappers.BlogMapper;
+import com.example.blogservice.repositories.blogRepositories.BlogQueryRepository;
+import com.example.blogservice.repositories.projections.BlogSearchRow;
+import com.example.blogservice.repositories.projections.BlogSearchSummary;
+import com.example.blogservice.utils.CacheTags;
+import com.example.blogservice.utils.SearchHighlighter;
+import com.example.rediscommon.dtos.CacheTagVersions;
+import com.example.rediscommon.services.RedisCacheService;
+import com.example.rediscommon.utils.CacheKeyBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class BlogSearchHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    // Relevance ranking is offset based, deep pages get expensive
+    private static final int MAX_PAGE = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int SNIPPET_LENGTH = 200;
+
+    private final BlogQueryRepository blogQueryRepository;
+    private final BlogMapper blogMapper;
+    private final RedisCacheService cacheService;
+    private final CacheKeyBuilder cacheKeys;
+
+    public BlogSearchHandler(
+            BlogQueryRepository blogQueryRepository,
+            BlogMapper blogMapper,
+            RedisCacheService cacheService) {
+        this.blogQueryRepository = blogQueryRepository;
+        this.blogMapper = blogMapper;
+        this.cacheService = cacheService;
+        this.cacheKeys = CacheKeyBuilder.forService("blog");
+    }
+
+    @Transactional(readOnly = true)
+    public BlogSearchPageDto handleSearchBlogs(String query, Boolean isVisibility, String category, Integer page,
+            Integer size) {
+        try {
+            log.info("Starting handleSearchBlogs with query={}, isVisibility={}, category={}, page={}, size={}",
+                    query, isVisibility, category, page, size);
+
+            String normalizedQuery = query == null ? "" : query.trim();
+            if (normalizedQuery.isEmpty()) {
+                throw new OurException("Search query is required", 400);
+            }
+            if (normalizedQuery.length() > MAX_QUERY_LENGTH) {
+                throw new OurException("Search query must be at most " + MAX_QUERY_LENGTH + " characters", 400);
+            }
+
+            List<String> terms = SearchHighlighter.terms(normalizedQuery);
+            if (terms.isEmpty()) {
+                throw new OurException("Search query is too short", 400);
+            }
+
+            int pageNumber = page == null || page < 0 ? 0 : page;
+            if (pageNumber >= MAX_PAGE) {
+                throw new OurException("Page must be less than " + MAX_PAGE, 400);
+            }
+            int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+            Blog.Category categoryEnum = null;
+            if (category != null && !category.isBlank()) {
+                try {
+                    categoryEnum = Blog.Category.valueOf(category.toLowerCase());
+                } catch (IllegalArgumentException e) {
+                    throw new OurException("Invalid category: " + category, 400);
+                }
+            }
+
+            // Search on the normalized terms so equivalent queries share a cache entry
+            String searchText = String.join(" ", terms);
+            String cacheKey = cacheKeys.forMethodWithParams("handleSearchBlogs",
+                    searchText,
+                    isVisibility == null ? "all" : isVisibility,
+                    categoryEnum == null ? "all" : categoryEnum.name(),
+                    pageNumber,
+                    pageSize);
+            BlogSearchPageDto result = cacheService.getCacheData(cacheKey, BlogSearchPageDto.class);
+
+            if (result == null) {
+                log.debug("Cache miss for handleSearchBlogs, querying FULLTEXT index");
+                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.blogList());
+                result = search(searchText, terms, isVisibility, categoryEnum, pageNumber, pageSize);
+
+                cacheService.setCacheData(cacheKey, result, CacheTags.TTL, CacheTags.TTL_UNIT, tagVersions);
+            }
+            log.info("Search returned {} hits, hasNext={}", result.getHits().size(), result.isHasNext());
+
+            return result;
+        } catch (OurException e) {
+            log.error("OurException in handleSearchBlogs: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected exception in handleSearchBlogs: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private BlogSearchPageDto search(String query, List<String> terms, Boolean isVisibility,
+            Blog.Category category, int pageNumber, int pageSize) {
+        // Rank on the index only (ids and scores), fetch one extra row to know whether a next page exists
+        List<BlogSearchRow> rows = blogQueryRepository.searchBlogs(query, isVisibility,
+                category == null ? null : category.name(), pageSize + 1, pageNumber * pageSize);
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<BlogSearchHitDto> hits = new ArrayList<>();
+        if (!rows.isEmpty()) {
+            List<UUID> ids = rows.stream().map(row -> toUuid(row.getId())).collect(Collectors.toList());
+
+            // Summaries for the page only, with a content window around the longest term
+            Map<UUID, BlogSearchSummary> summaries = blogQueryRepository.findSearchSummariesByIds(ids, terms.get(0))
+                    .stream()
+                    .collect(Collectors.toMap(BlogSearchSummary::getId, Function.identity()));
+
+            for (int i = 0; i < rows.size(); i++) {
+                BlogSearchSummary summary = summaries.get(ids.get(i));
+                if (summary == null) {
+                    // Deleted between the two queries
+                    continue;
+                }
+
+                BlogDto blog = blogMapper.toDto(summary);
+                String snippet = SearchHighlighter.snippet(summary.getSnippet(), terms, SNIPPET_LENGTH);
+                if (snippet == null) {
+                    snippet = SearchHighlighter.highlight(summary.getDescription(), terms);
+                }
+
+                hits.add(BlogSearchHitDto.builder()
+                        .blog(blog)
+                        .score(rows.get(i).getScore())
+                        .titleHighlight(SearchHighlighter.highlight(summary.getTitle(), terms))
+                        .snippet(snippet)
+                        .build());
+            }
+        }
+
+        return BlogSearchPageDto.builder()
+                .hits(hits)
+                .page(pageNumber)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
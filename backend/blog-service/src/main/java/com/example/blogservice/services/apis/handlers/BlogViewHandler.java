@@ -0,0 +1,73 @@
+package com.example.blogservice.services.apis.handlers;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.blogservice.dtos.DailyViewStatDto;
+import com.example.blogservice.exceptions.OurException;
+import com.example.blogservice.repositories.blogViewRepositories.BlogViewQueryRepository;
+import com.example.rediscommon.services.RedisCacheService;
+import com.example.rediscommon.utils.CacheKeyBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class BlogViewHandler {
+
+    private static final int DEFAULT_DAYS = 30;
+    private static final int MAX_DAYS = 366;
+    // blog_views only changes when ViewCountFlusher runs
+    private static final long CACHE_TTL_MINUTES = 5;
+
+    private final BlogViewQueryRepository blogViewQueryRepository;
+    private final RedisCacheService cacheService;
+    private final CacheKeyBuilder cacheKeys;
+
+    public BlogViewHandler(BlogViewQueryRepository blogViewQueryRepository, RedisCacheService cacheService) {
+        this.blogViewQueryRepository = blogViewQueryRepository;
+        this.cacheService = cacheService;
+        this.cacheKeys = CacheKeyBuilder.forService("blog");
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyViewStatDto> handleGetDailyViews(Integer days) {
+        try {
+            log.info("Starting handleGetDailyViews with days={}", days);
+
+            int dayCount = days == null || days <= 0 ? DEFAULT_DAYS : Math.min(days, MAX_DAYS);
+
+            String cacheKey = cacheKeys.forMethodWithParam("handleGetDailyViews", dayCount);
+            List<DailyViewStatDto> stats = cacheService.getCacheDataList(cacheKey, DailyViewStatDto.class);
+
+            if (stats == null) {
+                log.debug("Cache miss for handleGetDailyViews, fetching from database");
+                LocalDate fromDate = LocalDate.now(ZoneOffset.UTC).minusDays(dayCount - 1L);
+                stats = blogViewQueryRepository.findDailyViewTotals(fromDate).stream()
+                        .map(row -> DailyViewStatDto.builder()
+                                .date(row.getViewDate())
+                                .views(row.getViews())
+                                .uniqueViewers(row.getUniqueViewers())
+                                .build())
+                        .collect(Collectors.toList());
+
+                cacheService.setCacheData(cacheKey, stats, CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+            }
+            log.info("Retrieved daily views for {} days", stats.size());
+
+            return stats;
+        } catch (OurException e) {
+            log.error("OurException in handleGetDailyViews: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected exception in handleGetDailyViews: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
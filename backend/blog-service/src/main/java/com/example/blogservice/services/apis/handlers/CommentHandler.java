@@ -1,20 +1,33 @@
 package com.example.blogservice.services.apis.handlers;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.blogservice.dtos.BlogDto;
 import com.example.blogservice.dtos.CommentDto;
+import com.example.blogservice.dtos.CommentPageDto;
 import com.example.blogservice.dtos.requests.UpdateCommentRequest;
 import com.example.blogservice.dtos.responses.views.UserView;
 import com.example.blogservice.exceptions.OurException;
 import com.example.blogservice.mappers.CommentMapper;
 import com.example.blogservice.repositories.commentRepositories.CommentCommandRepository;
 import com.example.blogservice.repositories.commentRepositories.CommentQueryRepository;
+import com.example.blogservice.services.CacheInvalidationService;
+import com.example.blogservice.services.CommentCacheStore;
+import com.example.blogservice.services.TrendingService;
 import com.example.blogservice.services.ValidateService;
 import com.example.blogservice.services.rabbitmqs.producers.NotiProducer;
 import com.example.blogservice.entities.Blog;
+import com.example.blogservice.entities.Comment;
+import com.example.blogservice.repositories.blogRepositories.BlogCommandRepository;
 import com.example.blogservice.repositories.blogRepositories.BlogQueryRepository;
+import com.example.blogservice.utils.BlogCursor;
+import com.example.blogservice.utils.CacheTags;
+import com.example.persistencecommon.utils.UuidV7;
 import com.example.rabbitcommon.dtos.NotificationMessage;
+import com.example.rediscommon.dtos.CacheTagVersions;
 import com.example.rediscommon.services.RedisCacheService;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 
@@ -29,6 +42,9 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class CommentHandler {
 
+        private static final int DEFAULT_PAGE_SIZE = 20;
+        private static final int MAX_PAGE_SIZE = 50;
+
         private final CommentQueryRepository commentQueryRepository;
         private final CommentCommandRepository commentCommandRepository;
         private final CommentMapper commentMapper;
@@ -37,6 +53,10 @@ public class CommentHandler {
         private final ValidateService validateService;
         private final NotiProducer notiProducer;
         private final BlogQueryRepository blogQueryRepository;
+        private final BlogCommandRepository blogCommandRepository;
+        private final CacheInvalidationService cacheInvalidationService;
+        private final TrendingService trendingService;
+        private final CommentCacheStore commentCacheStore;
 
         public CommentHandler(
                         CommentQueryRepository commentQueryRepository,
@@ -45,7 +65,11 @@ public class CommentHandler {
                         ValidateService validateService,
                         RedisCacheService cacheService,
                         NotiProducer notiProducer,
-                        BlogQueryRepository blogQueryRepository) {
+                        BlogQueryRepository blogQueryRepository,
+                        BlogCommandRepository blogCommandRepository,
+                        CacheInvalidationService cacheInvalidationService,
+                        TrendingService trendingService,
+                        CommentCacheStore commentCacheStore) {
                 this.commentQueryRepository = commentQueryRepository;
                 this.commentCommandRepository = commentCommandRepository;
                 this.commentMapper = commentMapper;
@@ -54,11 +78,17 @@ public class CommentHandler {
                 this.validateService = validateService;
                 this.notiProducer = notiProducer;
                 this.blogQueryRepository = blogQueryRepository;
+                this.blogCommandRepository = blogCommandRepository;
+                this.cacheInvalidationService = cacheInvalidationService;
+                this.trendingService = trendingService;
+                this.commentCacheStore = commentCacheStore;
         }
 
         // ========== Private Helper Methods ==========
 
         private CommentDto handleBuildComment(UUID commentId, UUID blogId, UUID userId, String username, String content,
+                        UUID parentId,
+                        Long replyCount,
                         Instant createdAt,
                         Instant updatedAt) {
                 return CommentDto.builder()
@@ -67,6 +97,8 @@ public class CommentHandler {
                                 .userId(userId)
                                 .username(username)
                                 .content(content)
+                                .parentId(parentId)
+                                .replyCount(replyCount)
                                 .createdAt(createdAt)
                                 .updatedAt(updatedAt)
                                 .build();
@@ -75,17 +107,28 @@ public class CommentHandler {
         // ========== Business Logic Methods ==========
 
         @Transactional
-        public CommentDto handleAddComment(UUID blogId, UUID userId, String content) {
+        public CommentDto handleAddComment(UUID blogId, UUID userId, String content, UUID parentId) {
                 try {
-                        log.info("Starting handleAddComment for blogId: {}, userId: {}", blogId, userId);
+                        log.info("Starting handleAddComment for blogId: {}, userId: {}, parentId: {}", blogId, userId,
+                                        parentId);
 
                         // Validate user and blog
                         log.debug("Validating user and blog");
                         UserView user = validateService.validateUser(userId);
-                        validateService.validateBlog(blogId);
+                        BlogDto blogDto = validateService.validateBlog(blogId);
+
+                        // Threads are one level deep, a reply to a reply joins its thread
+                        UUID threadId = null;
+                        if (parentId != null) {
+                                CommentDto parent = validateService.validateComment(parentId);
+                                if (!parent.getBlogId().equals(blogId)) {
+                                        throw new OurException("Parent comment belongs to another blog", 400);
+                                }
+                                threadId = parent.getParentId() != null ? parent.getParentId() : parentId;
+                        }
 
                         // Create comment
-                        UUID commentId = UUID.randomUUID();
+                        UUID commentId = UuidV7.generate();
                         Instant now = Instant.now();
                         log.debug("Creating comment with ID: {}", commentId);
 
@@ -95,9 +138,20 @@ public class CommentHandler {
                                         userId,
                                         user.getUsername(),
                                         content,
+                                        threadId,
                                         now,
                                         now);
+                        blogCommandRepository.incrementCommentCount(blogId, 1);
+                        if (threadId != null) {
+                                commentCommandRepository.incrementReplyCount(threadId, 1);
+                                cacheInvalidationService.invalidateAfterCommit(CacheTags.comment(threadId));
+                        }
                         log.debug("Comment inserted into database");
+                        trendingService.recordAfterCommit(blogId, blogDto.getCategory(),
+                                        TrendingService.Interaction.COMMENT);
+
+                        cacheInvalidationService.invalidateAfterCommit(CacheTags.blog(blogId),
+                                        CacheTags.commentList());
 
                         // Send comment notification to blog owner
                         try {
@@ -128,8 +182,11 @@ public class CommentHandler {
                                         userId,
                                         user.getUsername(),
                                         content,
+                                        threadId,
+                                        0L,
                                         now,
                                         now);
+                        commentCacheStore.addAfterCommit(result);
                         log.info("Completed handleAddComment for commentId: {}", commentId);
 
                         return result;
@@ -143,37 +200,148 @@ public class CommentHandler {
         }
 
         @Transactional(readOnly = true)
-        public List<CommentDto> handleGetBlogComments(UUID blogId) {
+        public CommentPageDto handleGetBlogComments(UUID blogId, String cursor, Integer size) {
                 try {
-                        log.info("Starting handleGetBlogComments for blogId: {}", blogId);
+                        log.info("Starting handleGetBlogComments for blogId: {}, cursor: {}, size: {}", blogId, cursor,
+                                        size);
 
-                        String cacheKey = cacheKeys.forMethodWithId("handleGetBlogComments", blogId);
-                        List<CommentDto> comments = cacheService.getCacheDataList(cacheKey, CommentDto.class);
+                        BlogDto blog = validateService.validateBlog(blogId);
+                        CommentPageDto page = getBlogCommentsPage(blogId, cursor, size, blog.getCommentCount());
+                        log.info("Completed handleGetBlogComments with {} comments, hasNext={}",
+                                        page.getComments().size(), page.isHasNext());
 
-                        if (comments == null) {
-                                log.debug("Cache miss, validating blog and fetching from database");
-                                validateService.validateBlog(blogId);
+                        return page;
+                } catch (OurException e) {
+                        log.warn("OurException in handleGetBlogComments: {}", e.getMessage());
+                        throw e;
+                } catch (Exception e) {
+                        log.error("Error in handleGetBlogComments: {}", e.getMessage(), e);
+                        throw e;
+                }
+        }
 
-                                comments = commentQueryRepository.findCommentsByBlogId(blogId)
-                                                .stream()
-                                                .map(commentMapper::toDto)
-                                                .collect(Collectors.toList());
+        /**
+         * First page of a blog's comments for callers that already validated the blog
+         */
+        @Transactional(readOnly = true)
+        public CommentPageDto handleGetValidatedBlogComments(UUID blogId, Long commentCount) {
+                return getBlogCommentsPage(blogId, null, null, commentCount);
+        }
 
-                                cacheService.setCacheData(cacheKey, comments);
-                                log.debug("Fetched {} comments from database and cached", comments.size());
+        private CommentPageDto getBlogCommentsPage(UUID blogId, String cursor, Integer size, Long totalCount) {
+                int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+                BlogCursor commentCursor = BlogCursor.decode(cursor);
+
+                // Fetch one extra row to know whether a next page exists
+                List<CommentDto> rows = commentCacheStore.readComments(blogId, commentCursor, pageSize + 1);
+
+                if (rows == null) {
+                        log.debug("Cache miss, fetching comment page from database for blogId: {}", blogId);
+                        loadCommentCache(blogId);
+
+                        Pageable limit = PageRequest.of(0, pageSize + 1);
+                        rows = toDtos(commentCursor == null
+                                        ? commentQueryRepository.findTopLevelCommentsFirstPage(blogId, limit)
+                                        : commentQueryRepository.findTopLevelCommentsAfterCursor(blogId,
+                                                        commentCursor.getCreatedAt(), commentCursor.getId(), limit));
+                }
+
+                return toPage(rows, pageSize, totalCount != null ? totalCount : 0);
+        }
+
+        /**
+         * Cache every comment of the blog once in the background, in chunks read
+         * with the same keyset queries as the pages. The caller reads its own
+         * page from MySQL, later writes are applied to the cache incrementally
+         * by CommentCacheStore
+         */
+        private void loadCommentCache(UUID blogId) {
+                commentCacheStore.loadInBackground(blogId, new CommentCacheStore.CommentLoader() {
+                        @Override
+                        public List<CommentDto> loadTopLevel(CommentDto after, int limit) {
+                                Pageable page = PageRequest.of(0, limit);
+                                return toDtos(after == null
+                                                ? commentQueryRepository.findTopLevelCommentsFirstPage(blogId, page)
+                                                : commentQueryRepository.findTopLevelCommentsAfterCursor(blogId,
+                                                                after.getCreatedAt(), after.getId(), page));
                         }
-                        log.info("Completed handleGetBlogComments with {} comments", comments.size());
 
-                        return comments;
+                        @Override
+                        public List<CommentDto> loadReplies(List<UUID> parentIds) {
+                                return toDtos(commentQueryRepository.findRepliesByParentIds(parentIds));
+                        }
+                });
+        }
+
+        @Transactional(readOnly = true)
+        public CommentPageDto handleGetCommentReplies(UUID commentId, String cursor, Integer size) {
+                try {
+                        log.info("Starting handleGetCommentReplies for commentId: {}, cursor: {}, size: {}", commentId,
+                                        cursor, size);
+
+                        CommentDto parent = validateService.validateComment(commentId);
+                        if (parent.getParentId() != null) {
+                                throw new OurException("Replies are listed on the top-level comment", 400);
+                        }
+
+                        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+                        BlogCursor replyCursor = BlogCursor.decode(cursor);
+
+                        List<CommentDto> rows = commentCacheStore.readReplies(parent.getBlogId(), commentId,
+                                        replyCursor, pageSize + 1);
+
+                        if (rows == null) {
+                                log.debug("Cache miss, fetching replies from database for commentId: {}", commentId);
+                                loadCommentCache(parent.getBlogId());
+
+                                Pageable limit = PageRequest.of(0, pageSize + 1);
+                                rows = toDtos(replyCursor == null
+                                                ? commentQueryRepository.findRepliesFirstPage(commentId, limit)
+                                                : commentQueryRepository.findRepliesAfterCursor(commentId,
+                                                                replyCursor.getCreatedAt(), replyCursor.getId(),
+                                                                limit));
+                        }
+
+                        CommentPageDto page = toPage(rows, pageSize,
+                                        parent.getReplyCount() != null ? parent.getReplyCount() : 0);
+                        log.info("Completed handleGetCommentReplies with {} replies, hasNext={}",
+                                        page.getComments().size(), page.isHasNext());
+
+                        return page;
                 } catch (OurException e) {
-                        log.warn("OurException in handleGetBlogComments: {}", e.getMessage());
+                        log.warn("OurException in handleGetCommentReplies: {}", e.getMessage());
                         throw e;
                 } catch (Exception e) {
-                        log.error("Error in handleGetBlogComments: {}", e.getMessage(), e);
+                        log.error("Error in handleGetCommentReplies: {}", e.getMessage(), e);
                         throw e;
                 }
         }
 
+        private List<CommentDto> toDtos(List<Comment> comments) {
+                return comments.stream().map(commentMapper::toDto).collect(Collectors.toList());
+        }
+
+        private CommentPageDto toPage(List<CommentDto> rows, int pageSize, long totalCount) {
+                boolean hasNext = rows.size() > pageSize;
+                if (hasNext) {
+                        rows = rows.subList(0, pageSize);
+                }
+
+                String nextCursor = null;
+                if (hasNext) {
+                        CommentDto last = rows.get(rows.size() - 1);
+                        nextCursor = BlogCursor.of(last.getCreatedAt(), last.getId()).encode();
+                }
+
+                return CommentPageDto.builder()
+                                .comments(rows)
+                                .nextCursor(nextCursor)
+                                .hasNext(hasNext)
+                                .pageSize(pageSize)
+                                .totalCount(totalCount)
+                                .build();
+        }
+
         @Transactional
         public CommentDto handleUpdateComment(UUID commentId, UpdateCommentRequest request) {
                 try {
@@ -189,14 +357,20 @@ public class CommentHandler {
                                         request.getContent(),
                                         now);
 
+                        cacheInvalidationService.invalidateAfterCommit(CacheTags.comment(commentId),
+                                        CacheTags.blog(existingComment.getBlogId()), CacheTags.commentList());
+
                         CommentDto result = handleBuildComment(
                                         commentId,
                                         existingComment.getBlogId(),
                                         existingComment.getUserId(),
                                         existingComment.getUsername(),
                                         request.getContent(),
-                                        now,
+                                        existingComment.getParentId(),
+                                        existingComment.getReplyCount(),
+                                        existingComment.getCreatedAt(),
                                         now);
+                        commentCacheStore.updateAfterCommit(result);
 
                         log.info("Completed handleUpdateComment for commentId: {}", commentId);
 
@@ -216,11 +390,33 @@ public class CommentHandler {
                         log.info("Starting handleDeleteComment for commentId: {}", commentId);
 
                         log.debug("Validating comment");
-                        validateService.validateComment(commentId);
+                        CommentDto existingComment = validateService.validateComment(commentId);
 
                         log.debug("Deleting comment from database");
                         int deleted = commentCommandRepository.deleteCommentById(commentId);
                         boolean result = deleted > 0;
+                        if (result) {
+                                long removed = 1;
+                                if (existingComment.getParentId() == null) {
+                                        // Deleting a thread removes its replies
+                                        List<UUID> replyIds = commentQueryRepository.findReplyIdsByParentId(commentId);
+                                        if (!replyIds.isEmpty()) {
+                                                removed += commentCommandRepository.deleteRepliesByParentId(commentId);
+                                                cacheInvalidationService.invalidateAfterCommit(replyIds.stream()
+                                                                .map(CacheTags::comment)
+                                                                .toArray(String[]::new));
+                                        }
+                                } else {
+                                        commentCommandRepository.incrementReplyCount(existingComment.getParentId(), -1);
+                                        cacheInvalidationService.invalidateAfterCommit(
+                                                        CacheTags.comment(existingComment.getParentId()));
+                                }
+                                blogCommandRepository.incrementCommentCount(existingComment.getBlogId(), -removed);
+                                commentCacheStore.removeAfterCommit(existingComment);
+                        }
+
+                        cacheInvalidationService.invalidateAfterCommit(CacheTags.comment(commentId),
+                                        CacheTags.blog(existingComment.getBlogId()), CacheTags.commentList());
 
                         log.info("Completed handleDeleteComment for commentId: {}, deleted: {}", commentId, result);
 
@@ -244,12 +440,14 @@ public class CommentHandler {
 
                         if (comments == null) {
                                 log.debug("Cache miss, fetching all comments from database");
+                                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.commentList());
                                 comments = commentQueryRepository.findAllComments()
                                                 .stream()
                                                 .map(commentMapper::toDto)
                                                 .collect(Collectors.toList());
 
-                                cacheService.setCacheData(cacheKey, comments);
+                                cacheService.setCacheData(cacheKey, comments, CacheTags.TTL, CacheTags.TTL_UNIT,
+                                                tagVersions);
                                 log.debug("Fetched {} comments from database and cached", comments.size());
                         }
 
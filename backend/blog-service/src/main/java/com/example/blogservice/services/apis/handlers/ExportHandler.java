@@ -0,0 +1,129 @@
+package com.example.blogservice.services.apis.handlers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.blogservice.dtos.BlogDto;
+import com.example.blogservice.dtos.CommentDto;
+import com.example.blogservice.entities.Comment;
+import com.example.blogservice.mappers.BlogMapper;
+import com.example.blogservice.mappers.CommentMapper;
+import com.example.blogservice.repositories.blogRepositories.BlogQueryRepository;
+import com.example.blogservice.repositories.commentRepositories.CommentQueryRepository;
+import com.example.blogservice.repositories.projections.BlogSummary;
+import com.example.blogservice.utils.ExportWriter;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streaming exports of all blogs and comments
+ * Rows are read from a streamed result set and written to the response as
+ * they arrive, nothing is collected or cached, so memory use does not grow
+ * with the number of rows. Runs inside one read-only transaction that stays
+ * open until the last row is written.
+ */
+@Slf4j
+@Service
+public class ExportHandler {
+
+    private static final List<String> BLOG_COLUMNS = List.of("id", "authorId", "title", "category",
+            "description", "thumbnailUrl", "isVisibility", "createdAt", "updatedAt");
+
+    private static final List<String> COMMENT_COLUMNS = List.of("id", "blogId", "parentId", "userId",
+            "username", "content", "replyCount", "createdAt", "updatedAt");
+
+    private final BlogQueryRepository blogQueryRepository;
+    private final CommentQueryRepository commentQueryRepository;
+    private final BlogMapper blogMapper;
+    private final CommentMapper commentMapper;
+    private final EntityManager entityManager;
+
+    public ExportHandler(
+            BlogQueryRepository blogQueryRepository,
+            CommentQueryRepository commentQueryRepository,
+            BlogMapper blogMapper,
+            CommentMapper commentMapper,
+            EntityManager entityManager) {
+        this.blogQueryRepository = blogQueryRepository;
+        this.commentQueryRepository = commentQueryRepository;
+        this.blogMapper = blogMapper;
+        this.commentMapper = commentMapper;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Write every blog (without content) matching the visibility filter
+     *
+     * @return Number of blogs written
+     */
+    @Transactional(readOnly = true)
+    public long handleExportBlogs(Boolean isVisibility, ExportWriter.Format format, OutputStream out)
+            throws IOException {
+        try {
+            log.info("Starting handleExportBlogs with isVisibility={}, format={}", isVisibility, format);
+
+            ExportWriter<BlogDto> writer = ExportWriter.open(format, out, BLOG_COLUMNS,
+                    blog -> Arrays.asList(blog.getId(), blog.getAuthorId(), blog.getTitle(), blog.getCategory(),
+                            blog.getDescription(), blog.getThumbnailUrl(), blog.getIsVisibility(),
+                            blog.getCreatedAt(), blog.getUpdatedAt()));
+
+            try (Stream<BlogSummary> blogs = blogQueryRepository.streamBlogSummaries(isVisibility)) {
+                Iterator<BlogSummary> iterator = blogs.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(blogMapper.toDto(iterator.next()));
+                }
+            }
+
+            long count = writer.finish();
+            log.info("Completed handleExportBlogs with {} blogs", count);
+
+            return count;
+        } catch (Exception e) {
+            log.error("Error in handleExportBlogs: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Write every comment, replies included, oldest first
+     *
+     * @return Number of comments written
+     */
+    @Transactional(readOnly = true)
+    public long handleExportComments(ExportWriter.Format format, OutputStream out) throws IOException {
+        try {
+            log.info("Starting handleExportComments with format={}", format);
+
+            ExportWriter<CommentDto> writer = ExportWriter.open(format, out, COMMENT_COLUMNS,
+                    comment -> Arrays.asList(comment.getId(), comment.getBlogId(), comment.getParentId(),
+                            comment.getUserId(), comment.getUsername(), comment.getContent(),
+                            comment.getReplyCount(), comment.getCreatedAt(), comment.getUpdatedAt()));
+
+            try (Stream<Comment> comments = commentQueryRepository.streamAllComments()) {
+                Iterator<Comment> iterator = comments.iterator();
+                while (iterator.hasNext()) {
+                    Comment comment = iterator.next();
+                    writer.write(commentMapper.toDto(comment));
+                    // Streamed entities stay in the persistence context unless detached
+                    entityManager.detach(comment);
+                }
+            }
+
+            long count = writer.finish();
+            log.info("Completed handleExportComments with {} comments", count);
+
+            return count;
+        } catch (Exception e) {
+            log.error("Error in handleExportComments: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
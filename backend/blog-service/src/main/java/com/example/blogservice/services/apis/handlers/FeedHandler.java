@@ -0,0 +1,239 @@
+package com.example.blogservice.services.apis.handlers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.blogservice.dtos.BlogDto;
+import com.example.blogservice.dtos.BlogPageDto;
+import com.example.blogservice.dtos.responses.Response;
+import com.example.blogservice.exceptions.OurException;
+import com.example.blogservice.mappers.BlogMapper;
+import com.example.blogservice.repositories.blogRepositories.BlogQueryRepository;
+import com.example.blogservice.repositories.projections.BlogSummary;
+import com.example.blogservice.services.FeedTimelineStore;
+import com.example.blogservice.services.FeedTimelineStore.FeedEntry;
+import com.example.blogservice.services.ValidateService;
+import com.example.blogservice.services.feigns.UserFeignClient;
+import com.example.blogservice.utils.BlogCursor;
+import com.example.rediscommon.services.RedisCacheService;
+import com.example.rediscommon.utils.CacheKeyBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Home timeline of blogs from followed authors
+ * Blogs are pushed to followers' timelines when published, authors with more
+ * followers than blog.feed.celebrity-threshold are read from their outbox at
+ * request time instead, and both sources are merged by publish time
+ */
+@Slf4j
+@Service
+public class FeedHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int FANOUT_CHUNK_SIZE = 500;
+    // Bounds the outbox reads when a timeline has to be rebuilt on read
+    private static final int MAX_PULL_AUTHORS = 200;
+    private static final long FOLLOWING_CACHE_TTL_MINUTES = 5;
+
+    private final FeedTimelineStore feedTimelineStore;
+    private final UserFeignClient userFeignClient;
+    private final BlogQueryRepository blogQueryRepository;
+    private final BlogMapper blogMapper;
+    private final ValidateService validateService;
+    private final RedisCacheService cacheService;
+    private final CacheKeyBuilder cacheKeys;
+    private final ExecutorService executor;
+
+    @Value("${blog.feed.celebrity-threshold:5000}")
+    private int celebrityThreshold;
+
+    public FeedHandler(
+            FeedTimelineStore feedTimelineStore,
+            UserFeignClient userFeignClient,
+            BlogQueryRepository blogQueryRepository,
+            BlogMapper blogMapper,
+            ValidateService validateService,
+            RedisCacheService cacheService,
+            @Qualifier("blogReadExecutor") ExecutorService executor) {
+        this.feedTimelineStore = feedTimelineStore;
+        this.userFeignClient = userFeignClient;
+        this.blogQueryRepository = blogQueryRepository;
+        this.blogMapper = blogMapper;
+        this.validateService = validateService;
+        this.cacheService = cacheService;
+        this.cacheKeys = CacheKeyBuilder.forService("blog");
+        this.executor = executor;
+    }
+
+    public void handleFanOut(UUID blogId, UUID authorId, long publishedAt) {
+        try {
+            log.info("Starting handleFanOut for blogId={}, authorId={}", blogId, authorId);
+            long startTime = System.currentTimeMillis();
+
+            feedTimelineStore.pushToOutbox(authorId, blogId, publishedAt);
+
+            List<UUID> followerIds = fetchUserIds(userFeignClient.getUserFollowers(authorId), "followers", authorId);
+            if (followerIds.size() > celebrityThreshold) {
+                // Too many followers to push to, readers pull from the outbox instead
+                feedTimelineStore.markCelebrity(authorId, true);
+                log.info("Skipped fan-out for blogId={}: author {} has {} followers", blogId, authorId,
+                        followerIds.size());
+                return;
+            }
+            feedTimelineStore.markCelebrity(authorId, false);
+
+            for (int from = 0; from < followerIds.size(); from += FANOUT_CHUNK_SIZE) {
+                List<UUID> chunk = followerIds.subList(from, Math.min(from + FANOUT_CHUNK_SIZE, followerIds.size()));
+                feedTimelineStore.pushToTimelines(chunk, blogId, publishedAt);
+            }
+
+            log.info("Fanned out blogId={} to {} followers in {} ms", blogId, followerIds.size(),
+                    System.currentTimeMillis() - startTime);
+        } catch (OurException e) {
+            log.error("OurException in handleFanOut for blogId={}: {}", blogId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected exception in handleFanOut for blogId={}: {}", blogId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public BlogPageDto handleGetFeed(UUID userId, String cursor, Integer size) {
+        try {
+            log.info("Starting handleGetFeed for userId={}, cursor={}, size={}", userId, cursor, size);
+
+            validateService.validateUser(userId);
+            log.debug("User validation passed for userId={}", userId);
+
+            int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+            BlogCursor blogCursor = BlogCursor.decode(cursor);
+            FeedEntry before = blogCursor == null ? null
+                    : new FeedEntry(blogCursor.getId(), blogCursor.getCreatedAt().toEpochMilli());
+
+            // One extra entry per source to know whether a next page exists
+            int fetch = pageSize + 1;
+            List<FeedEntry> entries = new ArrayList<>(feedTimelineStore.readTimeline(userId, before, fetch));
+            for (CompletableFuture<List<FeedEntry>> outbox : readPullOutboxes(userId, before, fetch)) {
+                entries.addAll(outbox.join());
+            }
+
+            List<FeedEntry> merged = merge(entries, fetch);
+            boolean hasNext = merged.size() > pageSize;
+            if (hasNext) {
+                merged = merged.subList(0, pageSize);
+            }
+
+            // Hydrate the whole page in one query, deleted or hidden blogs are skipped
+            List<UUID> ids = merged.stream().map(FeedEntry::blogId).collect(Collectors.toList());
+            Map<UUID, BlogSummary> summaries = ids.isEmpty() ? Map.of()
+                    : blogQueryRepository.findBlogSummariesByIds(ids).stream()
+                            .collect(Collectors.toMap(BlogSummary::getId, Function.identity()));
+
+            List<BlogDto> blogs = new ArrayList<>();
+            for (UUID id : ids) {
+                BlogSummary summary = summaries.get(id);
+                if (summary != null && Boolean.TRUE.equals(summary.getIsVisibility())) {
+                    blogs.add(blogMapper.toDto(summary));
+                }
+            }
+
+            String nextCursor = null;
+            if (hasNext) {
+                FeedEntry last = merged.get(merged.size() - 1);
+                nextCursor = BlogCursor.of(Instant.ofEpochMilli(last.score()), last.blogId()).encode();
+            }
+
+            log.info("Retrieved feed page of {} blogs for userId={}, hasNext={}", blogs.size(), userId, hasNext);
+            return BlogPageDto.builder()
+                    .blogs(blogs)
+                    .nextCursor(nextCursor)
+                    .hasNext(hasNext)
+                    .pageSize(pageSize)
+                    .build();
+        } catch (OurException e) {
+            log.error("OurException in handleGetFeed for userId={}: {}", userId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected exception in handleGetFeed for userId={}: {}", userId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Outboxes read at request time: followed celebrities, or every followed
+     * author when the user has no timeline yet (new or expired)
+     */
+    private List<CompletableFuture<List<FeedEntry>>> readPullOutboxes(UUID userId, FeedEntry before, int fetch) {
+        List<UUID> followingIds = loadFollowingIds(userId);
+        if (followingIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> authors = new LinkedHashSet<>();
+        if (feedTimelineStore.hasTimeline(userId)) {
+            Set<UUID> celebrities = feedTimelineStore.getCelebrities();
+            followingIds.stream().filter(celebrities::contains).forEach(authors::add);
+        } else {
+            authors.addAll(followingIds);
+        }
+
+        return authors.stream()
+                .limit(MAX_PULL_AUTHORS)
+                .map(authorId -> CompletableFuture.supplyAsync(
+                        () -> feedTimelineStore.readOutbox(authorId, before, fetch), executor))
+                .collect(Collectors.toList());
+    }
+
+    private List<UUID> loadFollowingIds(UUID userId) {
+        String cacheKey = cacheKeys.forMethodWithId("feedFollowingIds", userId);
+        List<UUID> followingIds = cacheService.getCacheDataList(cacheKey, UUID.class);
+
+        if (followingIds == null) {
+            log.debug("Cache miss for feed following ids, fetching from user-service for userId={}", userId);
+            followingIds = fetchUserIds(userFeignClient.getUserFollowing(userId), "following", userId);
+            cacheService.setCacheData(cacheKey, followingIds, FOLLOWING_CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+        }
+        return followingIds;
+    }
+
+    private List<UUID> fetchUserIds(Response response, String relation, UUID userId) {
+        if (response == null || response.getStatusCode() != 200) {
+            throw new OurException("Failed to load " + relation + " for user " + userId, 502);
+        }
+        return response.getUserIds() != null ? response.getUserIds() : List.of();
+    }
+
+    /**
+     * Newest first, one entry per blog (a blog can be both pushed and pulled)
+     */
+    private List<FeedEntry> merge(List<FeedEntry> entries, int limit) {
+        Map<UUID, FeedEntry> byBlog = new HashMap<>();
+        for (FeedEntry entry : entries) {
+            byBlog.merge(entry.blogId(), entry, (a, b) -> a.score() >= b.score() ? a : b);
+        }
+
+        return byBlog.values().stream()
+                .sorted(FeedTimelineStore.NEWEST_FIRST)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+}
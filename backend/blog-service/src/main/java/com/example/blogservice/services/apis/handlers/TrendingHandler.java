@@ -0,0 +1,111 @@
+package com.example.blogservice.services.apis.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.blogservice.dtos.BlogDto;
+import com.example.blogservice.entities.Blog;
+import com.example.blogservice.exceptions.OurException;
+import com.example.blogservice.mappers.BlogMapper;
+import com.example.blogservice.repositories.blogRepositories.BlogQueryRepository;
+import com.example.blogservice.repositories.projections.BlogSummary;
+import com.example.blogservice.services.TrendingService;
+import com.example.blogservice.utils.CacheTags;
+import com.example.rediscommon.dtos.CacheTagVersions;
+import com.example.rediscommon.services.RedisCacheService;
+import com.example.rediscommon.utils.CacheKeyBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class TrendingHandler {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+    // Scores move continuously, a short TTL keeps the list fresh
+    private static final long CACHE_TTL_SECONDS = 60;
+
+    private final TrendingService trendingService;
+    private final BlogQueryRepository blogQueryRepository;
+    private final BlogMapper blogMapper;
+    private final RedisCacheService cacheService;
+    private final CacheKeyBuilder cacheKeys;
+
+    public TrendingHandler(
+            TrendingService trendingService,
+            BlogQueryRepository blogQueryRepository,
+            BlogMapper blogMapper,
+            RedisCacheService cacheService) {
+        this.trendingService = trendingService;
+        this.blogQueryRepository = blogQueryRepository;
+        this.blogMapper = blogMapper;
+        this.cacheService = cacheService;
+        this.cacheKeys = CacheKeyBuilder.forService("blog");
+    }
+
+    @Transactional(readOnly = true)
+    public List<BlogDto> handleGetTrendingBlogs(String category, Integer size) {
+        try {
+            log.info("Starting handleGetTrendingBlogs with category={}, size={}", category, size);
+
+            int limit = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+
+            Blog.Category categoryEnum = null;
+            if (category != null && !category.isBlank()) {
+                try {
+                    categoryEnum = Blog.Category.valueOf(category.toLowerCase());
+                } catch (IllegalArgumentException e) {
+                    throw new OurException("Invalid category: " + category, 400);
+                }
+            }
+
+            String cacheKey = cacheKeys.forMethodWithParams("handleGetTrendingBlogs",
+                    categoryEnum == null ? "all" : categoryEnum.name(), limit);
+            List<BlogDto> blogs = cacheService.getCacheDataList(cacheKey, BlogDto.class);
+
+            if (blogs == null) {
+                log.debug("Cache miss for handleGetTrendingBlogs, reading ranking");
+                CacheTagVersions tagVersions = cacheService.readTagVersions(CacheTags.blogList());
+
+                // Read extra ids since hidden, deleted or recategorized blogs are skipped
+                List<UUID> ids = trendingService.getTop(categoryEnum, limit * 2);
+                Map<UUID, BlogSummary> summaries = ids.isEmpty() ? Map.of()
+                        : blogQueryRepository.findBlogSummariesByIds(ids).stream()
+                                .collect(Collectors.toMap(BlogSummary::getId, Function.identity()));
+
+                blogs = new ArrayList<>();
+                for (UUID id : ids) {
+                    BlogSummary summary = summaries.get(id);
+                    if (summary == null || !Boolean.TRUE.equals(summary.getIsVisibility())
+                            || (categoryEnum != null && summary.getCategory() != categoryEnum)) {
+                        continue;
+                    }
+                    blogs.add(blogMapper.toDto(summary));
+                    if (blogs.size() == limit) {
+                        break;
+                    }
+                }
+
+                cacheService.setCacheData(cacheKey, blogs, CACHE_TTL_SECONDS, TimeUnit.SECONDS, tagVersions);
+            }
+            log.info("Retrieved {} trending blogs", blogs.size());
+
+            return blogs;
+        } catch (OurException e) {
+            log.error("OurException in handleGetTrendingBlogs: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected exception in handleGetTrendingBlogs: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -5,7 +5,10 @@ import java.util.UUID;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import com.example.blogservice.dtos.requests.UserBatchRequest;
 import com.example.blogservice.dtos.responses.Response;
 
 @FeignClient(name = "${USER_SERVICE_NAME}", url = "${USER_SERVICE_URL}")
@@ -14,6 +17,12 @@ public interface UserFeignClient {
     @GetMapping("/api/v1/users/{userId}")
     Response getUserById(@PathVariable("userId") UUID userId);
 
-    @GetMapping("/api/v1/users/{userId}/followers")
+    @PostMapping("/api/v1/users/batch")
+    Response getUsersByIds(@RequestBody UserBatchRequest request);
+
+    @GetMapping("/api/v1/users/{userId}/follower-ids")
     Response getUserFollowers(@PathVariable("userId") UUID userId);
-}
\ No newline at end of file
+
+    @GetMapping("/api/v1/users/{userId}/following-ids")
+    Response getUserFollowing(@PathVariable("userId") UUID userId);
+}
@@ -0,0 +1,45 @@
+package com.example.blogservice.services.rabbitmqs.consumers;
+
+import org.springframework.amqp.rabbit.annotation.Argument;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Service;
+
+import com.example.blogservice.configs.RabbitConfig;
+import com.example.blogservice.services.apis.handlers.FeedHandler;
+import com.example.rabbitcommon.dtos.FeedFanoutMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeedFanoutConsumer {
+
+    private final FeedHandler feedHandler;
+
+    // Failures are rethrown: the listener retries (pushes are idempotent ZADDs)
+    // and then rejects the message to the dead letter queue
+    @RabbitListener(bindings = @QueueBinding(
+        value = @Queue(name = "blog.feed.fanout.queue", durable = "true", autoDelete = "false", arguments = {
+            @Argument(name = "x-dead-letter-exchange", value = RabbitConfig.FEED_DEAD_LETTER_EXCHANGE),
+            @Argument(name = "x-dead-letter-routing-key", value = RabbitConfig.FEED_FANOUT_DEAD_LETTER_KEY)
+        }),
+        exchange = @Exchange(name = "blog.feed.exchange", type = "topic", durable = "true"),
+        key = "blog.feed.fanout"
+    ))
+    public void handleFeedFanout(@Payload FeedFanoutMessage message) {
+        try {
+            log.info("Received feed fan-out: blogId={}, authorId={}", message.getBlogId(), message.getAuthorId());
+
+            feedHandler.handleFanOut(message.getBlogId(), message.getAuthorId(), message.getPublishedAt());
+        } catch (Exception e) {
+            log.error("Error handling feed fan-out for blogId={}: {}", message.getBlogId(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
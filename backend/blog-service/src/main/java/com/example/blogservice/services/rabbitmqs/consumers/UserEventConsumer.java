@@ -0,0 +1,56 @@
+package com.example.blogservice.services.rabbitmqs.consumers;
+
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerRestartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Service;
+
+import com.example.blogservice.services.UserProjection;
+import com.example.blogservice.services.ValidateService;
+import com.example.rabbitcommon.dtos.UserEventMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventConsumer {
+
+    private final UserProjection userProjection;
+    private final ValidateService validateService;
+
+    // Every instance keeps its own projection, so each binds its own
+    // exclusive queue and receives all events instead of sharing a queue
+    @RabbitListener(bindings = @QueueBinding(
+        value = @Queue(durable = "false", exclusive = "true", autoDelete = "true"),
+        exchange = @Exchange(name = "user.events.exchange", type = "topic", durable = "true"),
+        key = "user.events.#"
+    ))
+    public void handleUserEvent(@Payload UserEventMessage message) {
+        try {
+            log.debug("Received user event: type={}, userId={}", message.getType(), message.getUserId());
+
+            userProjection.apply(message);
+            if (message.getType() != UserEventMessage.Type.CREATED) {
+                validateService.evictUser(message.getUserId());
+            }
+        } catch (Exception e) {
+            log.error("Error handling user event: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The auto-delete queue goes away with the connection, events published
+     * while reconnecting are lost, so start over from fetched users
+     */
+    @EventListener
+    public void onConsumerRestarted(AsyncConsumerRestartedEvent event) {
+        log.warn("User event consumer restarted, clearing user projection");
+        userProjection.clear();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.blogservice.services.rabbitmqs.producers;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.rabbitcommon.dtos.FeedFanoutMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedProducer {
+    public static final String EXCHANGE = "blog.feed.exchange";
+    public static final String FANOUT_ROUTING_KEY = "blog.feed.fanout";
+
+    private final RabbitTemplate rabbitTemplate;
+
+    /**
+     * Publish once the blog insert has committed, so a rolled back blog is never fanned out
+     */
+    public void sendFeedFanoutAfterCommit(FeedFanoutMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendFeedFanout(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sendFeedFanout(message);
+            }
+        });
+    }
+
+    public void sendFeedFanout(FeedFanoutMessage message) {
+        try {
+            rabbitTemplate.convertAndSend(EXCHANGE, FANOUT_ROUTING_KEY, message);
+            log.info("Sent feed fan-out: blogId={}, authorId={}", message.getBlogId(), message.getAuthorId());
+        } catch (Exception e) {
+            log.error("Error sending feed fan-out: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.blogservice.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.example.blogservice.exceptions.OurException;
+
+/**
+ * Opaque keyset cursor over (createdAt, id)
+ * The cursor points at the last row of the previous page, the next page
+ * starts strictly after it in the listing's order ((createdAt DESC, id DESC)
+ * for blogs and comments, ascending for comment replies)
+ */
+public final class BlogCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final Instant createdAt;
+    private final UUID id;
+
+    private BlogCursor(Instant createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static BlogCursor of(Instant createdAt, UUID id) {
+        return new BlogCursor(createdAt, id);
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()}
+     *
+     * @param cursor Base64 (URL safe) encoded cursor, may be null or blank
+     * @return The decoded cursor or null for the first page
+     */
+    public static BlogCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+
+            Instant createdAt = Instant.parse(raw.substring(0, separatorIndex));
+            UUID id = UUID.fromString(raw.substring(separatorIndex + 1));
+            return new BlogCursor(createdAt, id);
+        } catch (Exception e) {
+            throw new OurException("Invalid cursor", 400);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id.toString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.blogservice.utils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache tag names shared by readers (when caching) and writers (when
+ * invalidating)
+ * Every cached value is tagged with the entities it was built from, so a
+ * mutation only has to name the entities it touched
+ */
+public final class CacheTags {
+
+    // Tagged entries are invalidated on write, so they can live much longer
+    public static final long TTL = 6;
+    public static final TimeUnit TTL_UNIT = TimeUnit.HOURS;
+
+    private CacheTags() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Anything built from a single blog row or its likes/saves/comments
+     */
+    public static String blog(UUID blogId) {
+        return "blog:" + blogId;
+    }
+
+    /**
+     * Global blog listings (all blogs, keyset pages)
+     */
+    public static String blogList() {
+        return "blog:list";
+    }
+
+    public static String userBlogs(UUID userId) {
+        return "user_blogs:" + userId;
+    }
+
+    public static String userLikes(UUID userId) {
+        return "user_likes:" + userId;
+    }
+
+    public static String userSaves(UUID userId) {
+        return "user_saves:" + userId;
+    }
+
+    public static String comment(UUID commentId) {
+        return "comment:" + commentId;
+    }
+
+    /**
+     * Global comment listing
+     */
+    public static String commentList() {
+        return "comment:list";
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.blogservice.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.http.MediaType;
+
+import com.example.blogservice.exceptions.OurException;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Writes export records one at a time to a response stream
+ * NDJSON writes each record as one JSON line, CSV writes a header row and
+ * then the record's column values. Output is flushed every FLUSH_EVERY
+ * records so memory stays constant however many rows are exported.
+ */
+public final class ExportWriter<T> {
+
+    private static final int FLUSH_EVERY = 500;
+
+    // Leading characters spreadsheets treat as the start of a formula
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    public enum Format {
+        NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+        CSV("csv", MediaType.parseMediaType("text/csv; charset=UTF-8"));
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * @param format ndjson or csv, null or blank means ndjson
+         */
+        public static Format from(String format) {
+            if (format == null || format.isBlank()) {
+                return NDJSON;
+            }
+            try {
+                return valueOf(format.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new OurException("Invalid export format: " + format, 400);
+            }
+        }
+    }
+
+    private final Format format;
+    private final Writer writer;
+    private final Function<T, List<Object>> columnValues;
+    private long count;
+
+    private ExportWriter(Format format, OutputStream out, Function<T, List<Object>> columnValues) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.columnValues = columnValues;
+    }
+
+    /**
+     * @param columns      CSV header, ignored for NDJSON
+     * @param columnValues CSV values of a record in column order
+     */
+    public static <T> ExportWriter<T> open(Format format, OutputStream out, List<String> columns,
+            Function<T, List<Object>> columnValues) throws IOException {
+        ExportWriter<T> exportWriter = new ExportWriter<>(format, out, columnValues);
+        if (format == Format.CSV) {
+            exportWriter.writeCsvRow(columns);
+        }
+        return exportWriter;
+    }
+
+    public void write(T record) throws IOException {
+        if (format == Format.NDJSON) {
+            writer.write(OBJECT_MAPPER.writeValueAsString(record));
+            writer.write('\n');
+        } else {
+            writeCsvRow(columnValues.apply(record));
+        }
+
+        if (++count % FLUSH_EVERY == 0) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Flush remaining output, the response stream itself is closed by the container
+     *
+     * @return Number of records written
+     */
+    public long finish() throws IOException {
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 quoting, values containing a separator, quote or line break are quoted
+     * Text starting with a formula character gets a leading ' so spreadsheets
+     * show user content as text instead of evaluating it
+     */
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
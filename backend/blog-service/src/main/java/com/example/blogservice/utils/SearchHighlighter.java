@@ -0,0 +1,138 @@
+package com.example.blogservice.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Builds highlighted snippets for search results
+ * Output is HTML-escaped text where matched terms are wrapped in mark tags
+ */
+public final class SearchHighlighter {
+
+    private static final Pattern TERM_SPLITTER = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_TERMS = 10;
+    private static final String ELLIPSIS = "...";
+
+    private SearchHighlighter() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Distinct lowercase terms of a query, longest first
+     */
+    public static List<String> terms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(TERM_SPLITTER.split(query.toLowerCase(Locale.ROOT)))
+                .filter(term -> term.length() >= MIN_TERM_LENGTH)
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .limit(MAX_TERMS)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Escape text for HTML and wrap every occurrence of a term in mark tags
+     * Terms are matched on the raw text and each segment is escaped on its
+     * own, so a term can never match inside an entity such as &amp;amp;
+     */
+    public static String highlight(String text, List<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        if (terms.isEmpty()) {
+            return escapeHtml(text);
+        }
+
+        String alternation = terms.stream().map(Pattern::quote).collect(Collectors.joining("|"));
+        Matcher matcher = Pattern.compile(alternation, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)
+                .matcher(text);
+
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        int last = 0;
+        while (matcher.find()) {
+            result.append(escapeHtml(text.substring(last, matcher.start())))
+                    .append("<mark>")
+                    .append(escapeHtml(matcher.group()))
+                    .append("</mark>");
+            last = matcher.end();
+        }
+        return result.append(escapeHtml(text.substring(last))).toString();
+    }
+
+    /**
+     * Turn a window of HTML content into a plain text snippet of at most
+     * maxLength characters around the first matched term, then highlight it
+     */
+    public static String snippet(String htmlWindow, List<String> terms, int maxLength) {
+        if (htmlWindow == null || htmlWindow.isEmpty()) {
+            return null;
+        }
+
+        String text = WHITESPACE.matcher(unescapeHtml(stripTags(htmlWindow))).replaceAll(" ").trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        int start = 0;
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (String term : terms) {
+            int index = lower.indexOf(term);
+            if (index >= 0) {
+                start = Math.max(0, index - maxLength / 3);
+                break;
+            }
+        }
+        int end = Math.min(text.length(), start + maxLength);
+        start = Math.max(0, Math.min(start, end - maxLength));
+
+        String window = text.substring(start, end);
+        return (start > 0 ? ELLIPSIS : "") + highlight(window, terms) + (end < text.length() ? ELLIPSIS : "");
+    }
+
+    private static String stripTags(String html) {
+        String text = html;
+
+        // The window may start or end inside a tag
+        int firstClose = text.indexOf('>');
+        int firstOpen = text.indexOf('<');
+        if (firstClose >= 0 && (firstOpen < 0 || firstClose < firstOpen)) {
+            text = text.substring(firstClose + 1);
+        }
+        int lastOpen = text.lastIndexOf('<');
+        if (lastOpen >= 0 && text.indexOf('>', lastOpen) < 0) {
+            text = text.substring(0, lastOpen);
+        }
+
+        return TAG.matcher(text).replaceAll(" ");
+    }
+
+    /**
+     * Decode the entities an editor emits for plain text, the snippet is
+     * escaped again by highlight
+     */
+    private static String unescapeHtml(String text) {
+        return text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private static String escapeHtml(String text) {
+        return text.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.blogservice.utils;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Open-addressing hash map keyed by UUIDs stored as two primitive longs
+ * Saves the UUID object and map node a HashMap keeps per entry, a key costs
+ * 16 bytes in two flat arrays. Linear probing with backward-shift deletion,
+ * so there are no tombstones. Null values are not allowed. Not thread safe.
+ */
+public final class UuidOpenHashMap<V> {
+
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] mostBits;
+    private long[] leastBits;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    public UuidOpenHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(UUID key) {
+        int index = indexOf(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * @return The previous value, or null when the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V put(UUID key, V value) {
+        Objects.requireNonNull(value, "value");
+        long most = key.getMostSignificantBits();
+        long least = key.getLeastSignificantBits();
+
+        int slot = slot(most, least);
+        while (values[slot] != null) {
+            if (mostBits[slot] == most && leastBits[slot] == least) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        mostBits[slot] = most;
+        leastBits[slot] = least;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            resize(values.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * @return The removed value, or null when the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(UUID key) {
+        int gap = indexOf(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        if (gap < 0) {
+            return null;
+        }
+        V removed = (V) values[gap];
+
+        // Shift later entries of the probe run back so lookups never hit an early empty slot
+        int next = gap;
+        while (true) {
+            next = (next + 1) & mask;
+            if (values[next] == null) {
+                break;
+            }
+            int home = slot(mostBits[next], leastBits[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                mostBits[gap] = mostBits[next];
+                leastBits[gap] = leastBits[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int indexOf(long most, long least) {
+        int slot = slot(most, least);
+        while (values[slot] != null) {
+            if (mostBits[slot] == most && leastBits[slot] == least) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slot(long most, long least) {
+        long hash = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMost = mostBits;
+        long[] oldLeast = leastBits;
+        Object[] oldValues = values;
+
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) {
+                continue;
+            }
+            int slot = slot(oldMost[i], oldLeast[i]);
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            mostBits[slot] = oldMost[i];
+            leastBits[slot] = oldLeast[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostBits = new long[capacity];
+        leastBits = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, MIN_CAPACITY) / LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
@@ -0,0 +1,22 @@
+-- Enforce one like/save per (user, blog) and index the per-blog lookups
+-- Remove duplicates first so the unique constraints can be created
+
+DELETE lb1 FROM liked_blogs lb1
+JOIN liked_blogs lb2
+  ON lb1.user_id = lb2.user_id
+ AND lb1.blog_id = lb2.blog_id
+ AND lb1.id > lb2.id;
+
+DELETE sb1 FROM saved_blogs sb1
+JOIN saved_blogs sb2
+  ON sb1.user_id = sb2.user_id
+ AND sb1.blog_id = sb2.blog_id
+ AND sb1.id > sb2.id;
+
+ALTER TABLE liked_blogs
+ADD CONSTRAINT uk_liked_blogs_user_blog UNIQUE (user_id, blog_id),
+ADD INDEX idx_liked_blogs_blog_id (blog_id);
+
+ALTER TABLE saved_blogs
+ADD CONSTRAINT uk_saved_blogs_user_blog UNIQUE (user_id, blog_id),
+ADD INDEX idx_saved_blogs_blog_id (blog_id);
@@ -0,0 +1,8 @@
+-- Full-text indexes for blog search
+-- ft_blogs_title ranks title matches higher, ft_blogs_search covers all searchable text
+
+ALTER TABLE blogs
+ADD FULLTEXT INDEX ft_blogs_title (title);
+
+ALTER TABLE blogs
+ADD FULLTEXT INDEX ft_blogs_search (title, description, content);
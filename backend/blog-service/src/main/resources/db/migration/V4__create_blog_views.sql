@@ -0,0 +1,13 @@
+-- Daily view counters per blog, flushed from Redis in batches
+-- unique_viewers comes from a HyperLogLog and is approximate (~0.81% error)
+
+CREATE TABLE IF NOT EXISTS blog_views (
+    id BINARY(16) NOT NULL,
+    blog_id BINARY(16) NOT NULL,
+    view_date DATE NOT NULL,
+    views BIGINT NOT NULL DEFAULT 0,
+    unique_viewers BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_blog_views_blog_date UNIQUE (blog_id, view_date),
+    INDEX idx_blog_views_view_date (view_date)
+);
@@ -0,0 +1,9 @@
+-- Threaded replies (one level) and keyset pagination for comments
+-- Top-level comments are paged by (blog_id, parent_id IS NULL, created_at, id),
+-- replies by (parent_id, created_at, id)
+
+ALTER TABLE comments
+ADD COLUMN parent_id BINARY(16) NULL,
+ADD COLUMN reply_count BIGINT NOT NULL DEFAULT 0,
+ADD INDEX idx_comments_blog_parent_created_at_id (blog_id, parent_id, created_at, id),
+ADD INDEX idx_comments_parent_created_at_id (parent_id, created_at, id);
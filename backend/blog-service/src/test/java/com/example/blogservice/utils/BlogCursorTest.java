@@ -0,0 +1,66 @@
+package com.example.blogservice.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.example.blogservice.exceptions.OurException;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BlogCursor
+ * Tests encoding round trips and rejection of malformed cursors
+ */
+class BlogCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        Instant createdAt = Instant.parse("2024-05-01T10:15:30.123456Z");
+        UUID id = UUID.randomUUID();
+
+        BlogCursor decoded = BlogCursor.decode(BlogCursor.of(createdAt, id).encode());
+
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(id, decoded.getId());
+    }
+
+    @Test
+    void testEncodedCursorIsUrlSafe() {
+        String encoded = BlogCursor.of(Instant.now(), UUID.randomUUID()).encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testBlankCursorIsFirstPage() {
+        assertNull(BlogCursor.decode(null));
+        assertNull(BlogCursor.decode(""));
+        assertNull(BlogCursor.decode("   "));
+    }
+
+    @Test
+    void testInvalidBase64IsRejected() {
+        OurException e = assertThrows(OurException.class, () -> BlogCursor.decode("not a cursor!"));
+
+        assertEquals(400, e.getStatusCode());
+    }
+
+    @Test
+    void testMissingSeparatorIsRejected() {
+        String encoded = encode("2024-05-01T10:15:30Z");
+
+        assertThrows(OurException.class, () -> BlogCursor.decode(encoded));
+    }
+
+    @Test
+    void testMalformedPartsAreRejected() {
+        assertThrows(OurException.class, () -> BlogCursor.decode(encode("yesterday|" + UUID.randomUUID())));
+        assertThrows(OurException.class, () -> BlogCursor.decode(encode("2024-05-01T10:15:30Z|not-a-uuid")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.blogservice.utils;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SearchHighlighter
+ * Tests term parsing, escaping and mark placement
+ */
+class SearchHighlighterTest {
+
+    @Test
+    void testTermsAreLowercaseDistinctAndLongestFirst() {
+        List<String> terms = SearchHighlighter.terms("Spring a BOOT spring-boot");
+
+        assertEquals(List.of("spring", "boot"), terms);
+    }
+
+    @Test
+    void testTermsOfNullQuery() {
+        assertTrue(SearchHighlighter.terms(null).isEmpty());
+    }
+
+    @Test
+    void testHighlightEscapesTextWithoutTerms() {
+        assertEquals("&lt;b&gt; &amp; &quot;x&quot;", SearchHighlighter.highlight("<b> & \"x\"", List.of()));
+    }
+
+    @Test
+    void testHighlightKeepsOriginalCase() {
+        String result = SearchHighlighter.highlight("Java and JAVA", List.of("java"));
+
+        assertEquals("<mark>Java</mark> and <mark>JAVA</mark>", result);
+    }
+
+    @Test
+    void testHighlightNeverMatchesInsideEntities() {
+        // Each of these terms is part of an entity produced by escaping
+        String result = SearchHighlighter.highlight("a & b < c > d \" amp lt gt quot",
+                List.of("quot", "amp", "lt", "gt"));
+
+        assertEquals("a &amp; b &lt; c &gt; d &quot; <mark>amp</mark> <mark>lt</mark> "
+                + "<mark>gt</mark> <mark>quot</mark>", result);
+    }
+
+    @Test
+    void testHighlightEscapesAroundMarks() {
+        String result = SearchHighlighter.highlight("<tag>java</tag>", List.of("java"));
+
+        assertEquals("&lt;tag&gt;<mark>java</mark>&lt;/tag&gt;", result);
+    }
+
+    @Test
+    void testSnippetStripsTagsAndDecodesEntitiesOnce() {
+        String result = SearchHighlighter.snippet("<p>Tom &amp; Jerry</p>", List.of("jerry"), 100);
+
+        assertEquals("Tom &amp; <mark>Jerry</mark>", result);
+    }
+
+    @Test
+    void testSnippetDropsPartialTagsAtWindowEdges() {
+        String result = SearchHighlighter.snippet("ss=\"x\">hello world<span cla", List.of("world"), 100);
+
+        assertEquals("hello <mark>world</mark>", result);
+    }
+
+    @Test
+    void testSnippetCentersOnFirstMatch() {
+        String text = "x".repeat(50) + " needle " + "y".repeat(50);
+
+        String result = SearchHighlighter.snippet(text, List.of("needle"), 30);
+
+        assertTrue(result.startsWith("..."));
+        assertTrue(result.endsWith("..."));
+        assertTrue(result.contains("<mark>needle</mark>"));
+    }
+
+    @Test
+    void testSnippetOfEmptyWindow() {
+        assertNull(SearchHighlighter.snippet("<p></p>", List.of("java"), 100));
+        assertNull(SearchHighlighter.snippet(null, List.of("java"), 100));
+    }
+}
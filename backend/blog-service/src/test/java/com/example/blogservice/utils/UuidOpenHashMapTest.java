@@ -0,0 +1,143 @@
+package com.example.blogservice.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UuidOpenHashMap
+ * Tests put/get/remove, growth and backward-shift deletion on probe runs
+ * that wrap past the end of the table
+ */
+class UuidOpenHashMapTest {
+
+    // new UuidOpenHashMap<>(16) allocates 32 slots and grows past 19 entries
+    private static final int CAPACITY = 32;
+
+    private UuidOpenHashMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new UuidOpenHashMap<>(16);
+    }
+
+    @Test
+    void testPutGetAndReplace() {
+        UUID id = UUID.randomUUID();
+
+        assertNull(map.put(id, "a"));
+        assertEquals("a", map.put(id, "b"));
+        assertEquals("b", map.get(id));
+        assertEquals(1, map.size());
+        assertNull(map.get(UUID.randomUUID()));
+    }
+
+    @Test
+    void testNullValueIsRejected() {
+        assertThrows(NullPointerException.class, () -> map.put(UUID.randomUUID(), null));
+    }
+
+    @Test
+    void testRemove() {
+        UUID id = UUID.randomUUID();
+        map.put(id, "a");
+
+        assertEquals("a", map.remove(id));
+        assertNull(map.remove(id));
+        assertNull(map.get(id));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void testWrappedProbeRunSurvivesRemoval() {
+        // Four keys homed on the last slot occupy 31, 0, 1, 2
+        List<UUID> run = keysWithHome(CAPACITY - 1, 4);
+        for (UUID id : run) {
+            map.put(id, id.toString());
+        }
+
+        assertEquals(run.get(0).toString(), map.remove(run.get(0)));
+        assertEquals(run.get(2).toString(), map.remove(run.get(2)));
+
+        assertNull(map.get(run.get(0)));
+        assertNull(map.get(run.get(2)));
+        assertEquals(run.get(1).toString(), map.get(run.get(1)));
+        assertEquals(run.get(3).toString(), map.get(run.get(3)));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testRemovalKeepsKeysHomedAfterTheWrap() {
+        // Slot 0 is taken by the wrapped run, so the key homed there moves to 3
+        List<UUID> run = keysWithHome(CAPACITY - 1, 3);
+        UUID homedAtZero = keysWithHome(0, 1).get(0);
+        for (UUID id : run) {
+            map.put(id, id.toString());
+        }
+        map.put(homedAtZero, "zero");
+
+        map.remove(run.get(1));
+        map.remove(run.get(0));
+
+        assertEquals("zero", map.get(homedAtZero));
+        assertEquals(run.get(2).toString(), map.get(run.get(2)));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testResizeKeepsEveryEntry() {
+        List<UUID> run = keysWithHome(CAPACITY - 1, 5);
+        Map<UUID, String> expected = new HashMap<>();
+        for (UUID id : run) {
+            expected.put(id, id.toString());
+        }
+        Random random = new Random(42);
+        while (expected.size() < 1000) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            expected.put(id, id.toString());
+        }
+
+        expected.forEach(map::put);
+        assertEquals(expected.size(), map.size());
+        expected.forEach((id, value) -> assertEquals(value, map.get(id)));
+
+        for (UUID id : run) {
+            assertEquals(id.toString(), map.remove(id));
+        }
+        assertEquals(expected.size() - run.size(), map.size());
+        expected.keySet().stream().filter(id -> !run.contains(id))
+                .forEach(id -> assertEquals(id.toString(), map.get(id)));
+    }
+
+    @Test
+    void testClear() {
+        UUID id = UUID.randomUUID();
+        map.put(id, "a");
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertNull(map.get(id));
+    }
+
+    /**
+     * Keys whose home slot in a 32 slot table is the given slot, mirrors the map's hash
+     */
+    private static List<UUID> keysWithHome(int home, int count) {
+        List<UUID> keys = new ArrayList<>();
+        for (long bits = 1; keys.size() < count; bits++) {
+            long hash = bits * 0x9E3779B97F4A7C15L;
+            if (((int) (hash ^ (hash >>> 32)) & (CAPACITY - 1)) == home) {
+                keys.add(new UUID(0, bits));
+            }
+        }
+        return keys;
+    }
+}
@@ -11,7 +11,8 @@ import com.example.chatservice.entities.User;
 import com.example.chatservice.exceptions.OurException;
 import com.example.chatservice.mappers.UserMapper;
 import com.example.chatservice.services.apis.handlers.UserHandler;
-import com.example.rediscommon.services.RateLimiterService;
+import com.example.rediscommon.services.RateLimitPolicyService;
+import com.example.securitycommon.utils.SecurityUtils;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -33,17 +34,17 @@ public class UserApi {
     private final UserHandler userHandler;
     private final UserMapper userMapper;
     private final ObjectMapper objectMapper;
-    private final RateLimiterService rateLimiterService;
+    private final RateLimitPolicyService rateLimitPolicyService;
     private final CacheKeyBuilder cacheKeys;
 
     public UserApi(
             UserHandler userHandler,
             UserMapper userMapper,
-            RateLimiterService rateLimiterService) {
+            RateLimitPolicyService rateLimitPolicyService) {
         this.userHandler = userHandler;
         this.userMapper = userMapper;
         this.objectMapper = new ObjectMapper();
-        this.rateLimiterService = rateLimiterService;
+        this.rateLimitPolicyService = rateLimitPolicyService;
         this.cacheKeys = CacheKeyBuilder.forService("user");
     }
 
@@ -58,7 +59,8 @@ public class UserApi {
     }
 
     private void checkRateLimit(String rateLimitKey, int maxRequests, int timeWindowSeconds) {
-        if (!rateLimiterService.isAllowed(rateLimitKey, maxRequests, timeWindowSeconds)) {
+        if (!rateLimitPolicyService.isAllowed(rateLimitKey, SecurityUtils.getPrincipalKey(),
+                SecurityUtils.getCurrentUserRole(), maxRequests, timeWindowSeconds)) {
             throw new OurException("Rate limit exceeded. Please try again later.", 429);
         }
     }
@@ -68,6 +68,43 @@ public class CloudinaryService {
         return result;
     }
 
+    /**
+     * Upload raw image bytes, returns the same keys as the MultipartFile variant
+     */
+    public Map<String, Object> uploadImage(byte[] data, String contentType) {
+        Map<String, Object> result = new HashMap<>();
+
+        try {
+            StringBuilder errorMessage = new StringBuilder();
+            if (!imageValidator.isValidImage(data, contentType, errorMessage, null)) {
+                throw new IllegalArgumentException(errorMessage.toString());
+            }
+
+            Map<String, Object> uploadParams = ObjectUtils.asMap(
+                    "folder", FOLDER_NAME,
+                    "unique_filename", true,
+                    "overwrite", false,
+                    "transformation", new Transformation<>()
+                            .quality("auto")
+                            .fetchFormat("auto"));
+
+            Map<String, Object> uploadResult = cloudinary.uploader().upload(data, uploadParams);
+
+            result.put("publicId", uploadResult.get("public_id"));
+            result.put("url", uploadResult.get("secure_url"));
+            result.put("format", uploadResult.get("format"));
+
+        } catch (IOException e) {
+            log.error("Cloudinary upload failed: {}", e.getMessage());
+            result.put("error", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error: {}", e.getMessage());
+            result.put("error", e.getMessage());
+        }
+
+        return result;
+    }
+
     public List<Map<String, Object>> uploadMultipleImages(List<MultipartFile> files) {
         List<Map<String, Object>> results = new ArrayList<>();
 
@@ -58,4 +58,30 @@ public class ImageValidator {
 
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * Validate raw image bytes, e.g. decoded from a data URI, where there is no
+     * file name to check
+     */
+    public boolean isValidImage(byte[] data, String contentType, StringBuilder errorMessage, Long maxSizeInBytes) {
+        if (data == null || data.length == 0) {
+            errorMessage.append("Image is empty");
+            return false;
+        }
+
+        long maxSize = (maxSizeInBytes != null) ? maxSizeInBytes : MAX_FILE_SIZE;
+        if (data.length > maxSize) {
+            errorMessage.append("Image is too large. Maximum size is ")
+                    .append(maxSize / 1024 / 1024).append("MB");
+            return false;
+        }
+
+        if (contentType == null || !ALLOWED_MIME_TYPES.contains(contentType.toLowerCase())) {
+            errorMessage.append("Image type ").append(contentType)
+                    .append(" is not supported. Allowed types: ").append(ALLOWED_MIME_TYPES);
+            return false;
+        }
+
+        return true;
+    }
+}
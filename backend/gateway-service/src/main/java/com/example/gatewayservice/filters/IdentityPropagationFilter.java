@@ -0,0 +1,99 @@
+package com.example.gatewayservice.filters;
+
+import java.util.UUID;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.gatewayservice.utils.IdentityHeaderSigner;
+import com.example.gatewayservice.utils.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Verifies the caller's JWT once at the edge and forwards the principal to
+ * downstream services in a signed header, so they can skip their own RSA
+ * verification
+ * Any identity header sent by the client is always removed. Requests without
+ * a valid token are forwarded unchanged and downstream services decide.
+ */
+@Slf4j
+@Component
+public class IdentityPropagationFilter implements GlobalFilter, Ordered {
+
+    private static final String TOKEN_TYPE_ACCESS = "ACCESS";
+
+    private final JwtUtil jwtUtil;
+    private final IdentityHeaderSigner signer;
+
+    public IdentityPropagationFilter(JwtUtil jwtUtil, IdentityHeaderSigner signer) {
+        this.jwtUtil = jwtUtil;
+        this.signer = signer;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String token = resolveToken(request);
+        String identity = signer.isEnabled() && token != null ? buildIdentity(token) : null;
+
+        ServerHttpRequest mutated = request.mutate()
+                .headers(headers -> {
+                    headers.remove(IdentityHeaderSigner.HEADER_NAME);
+                    if (identity != null) {
+                        headers.set(IdentityHeaderSigner.HEADER_NAME, identity);
+                    }
+                })
+                .build();
+
+        return chain.filter(exchange.mutate().request(mutated).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+
+        HttpCookie cookie = request.getCookies().getFirst("access_token");
+        return cookie != null && !cookie.getValue().isEmpty() ? cookie.getValue() : null;
+    }
+
+    private String buildIdentity(String token) {
+        try {
+            Claims claims = jwtUtil.extractAllClaims(token);
+            if (!TOKEN_TYPE_ACCESS.equals(claims.get("tokenType", String.class))) {
+                return null;
+            }
+
+            String userId = claims.get("userId", String.class);
+            String role = claims.get("role", String.class);
+            String email = claims.get("email", String.class);
+            if (email == null) {
+                email = claims.get("username", String.class);
+            }
+            if (userId == null || role == null || email == null || claims.getExpiration() == null) {
+                return null;
+            }
+
+            return signer.sign(UUID.fromString(userId), email, role, claims.getExpiration().getTime() / 1000);
+        } catch (Exception e) {
+            // Invalid or expired token, let the downstream service reject it
+            log.debug("Not propagating identity: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.gatewayservice.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Signs the identity header forwarded to downstream services
+ * Format: base64url(userId|email|role|expiresAtEpochSeconds).base64url(HMAC-SHA256)
+ * Must stay in sync with security-common InternalIdentityVerifier
+ */
+@Component
+public class IdentityHeaderSigner {
+
+    public static final String HEADER_NAME = "X-Internal-Identity";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    // Header lifetime, capped by the token expiration
+    private static final long MAX_TTL_SECONDS = 60;
+
+    @Value("${INTERNAL_IDENTITY_SECRET:}")
+    private String secret;
+
+    private SecretKeySpec keySpec;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(() -> {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialize " + HMAC_ALGORITHM, e);
+        }
+    });
+
+    @PostConstruct
+    public void init() {
+        if (isEnabled()) {
+            this.keySpec = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        }
+    }
+
+    /**
+     * Header propagation is off until a shared secret is configured
+     */
+    public boolean isEnabled() {
+        return secret != null && !secret.isBlank();
+    }
+
+    public String sign(UUID userId, String email, String role, long tokenExpiresAtEpochSeconds) {
+        long expiresAt = Math.min(tokenExpiresAtEpochSeconds, System.currentTimeMillis() / 1000 + MAX_TTL_SECONDS);
+        String payload = userId + "|" + email + "|" + role + "|" + expiresAt;
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String encodedPayload = encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        byte[] signature = macs.get().doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        return encodedPayload + "." + encoder.encodeToString(signature);
+    }
+}
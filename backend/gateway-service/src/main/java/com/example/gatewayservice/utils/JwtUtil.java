@@ -1,6 +1,7 @@
 package com.example.gatewayservice.utils;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.annotation.PostConstruct;
 
@@ -21,9 +22,13 @@ public class JwtUtil {
     private String publicKeyStr;
     private PublicKey publicKey;
 
+    // Immutable and thread-safe, built once
+    private JwtParser parser;
+
     @PostConstruct
     public void init() {
         this.publicKey = getPublicKey(publicKeyStr);
+        this.parser = Jwts.parser().verifyWith(publicKey).build();
     }
 
     private PublicKey getPublicKey(String key) {
@@ -50,12 +55,11 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(publicKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verify the token signature and return all claims
+     */
+    public Claims extractAllClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     private Boolean isTokenExpired(String token) {
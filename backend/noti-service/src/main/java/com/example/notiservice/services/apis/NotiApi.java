@@ -5,7 +5,8 @@ import com.example.notiservice.dtos.requests.CreateNotiRequest;
 import com.example.notiservice.dtos.responses.Response;
 import com.example.notiservice.exceptions.OurException;
 import com.example.notiservice.services.apis.handlers.NotiHandler;
-import com.example.rediscommon.services.RateLimiterService;
+import com.example.rediscommon.services.RateLimitPolicyService;
+import com.example.securitycommon.utils.SecurityUtils;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 
 import org.springframework.stereotype.Service;
@@ -20,14 +21,14 @@ import java.util.UUID;
 @Service
 public class NotiApi {
     private final NotiHandler notiHandler;
-    private final RateLimiterService rateLimiterService;
+    private final RateLimitPolicyService rateLimitPolicyService;
     private final CacheKeyBuilder cacheKeys;
 
     public NotiApi(
             NotiHandler notiHandler,
-            RateLimiterService rateLimiterService) {
+            RateLimitPolicyService rateLimitPolicyService) {
         this.notiHandler = notiHandler;
-        this.rateLimiterService = rateLimiterService;
+        this.rateLimitPolicyService = rateLimitPolicyService;
         this.cacheKeys = CacheKeyBuilder.forService("noti");
     }
 
@@ -42,7 +43,8 @@ public class NotiApi {
     }
 
     private void checkRateLimit(String rateLimitKey, int maxRequests, int timeWindowSeconds) {
-        if (!rateLimiterService.isAllowed(rateLimitKey, maxRequests, timeWindowSeconds)) {
+        if (!rateLimitPolicyService.isAllowed(rateLimitKey, SecurityUtils.getPrincipalKey(),
+                SecurityUtils.getCurrentUserRole(), maxRequests, timeWindowSeconds)) {
             throw new OurException("Rate limit exceeded. Please try again later.", 429);
         }
     }
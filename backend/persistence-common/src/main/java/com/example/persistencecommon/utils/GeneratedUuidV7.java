@@ -0,0 +1,18 @@
+package com.example.persistencecommon.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates a time-ordered {@link UuidV7} for a UUID primary key
+ * Use in place of {@code @GeneratedValue(strategy = GenerationType.UUID)}
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface GeneratedUuidV7 {
+}
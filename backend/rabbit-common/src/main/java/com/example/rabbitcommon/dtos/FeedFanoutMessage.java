@@ -0,0 +1,21 @@
+package com.example.rabbitcommon.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedFanoutMessage implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private UUID blogId; // Newly published blog
+    private UUID authorId; // Author whose followers receive the blog
+    private long publishedAt; // Epoch millis, used as the timeline score
+}
@@ -0,0 +1,28 @@
+package com.example.rabbitcommon.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEventMessage implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, BANNED
+    }
+
+    private UUID userId;
+    private Type type;
+    private String username;
+    private String avatarUrl;
+    private String status; // UserStatus name, null for DELETED
+    private long occurredAt; // Epoch millis, consumers drop events older than what they hold
+}
@@ -0,0 +1,38 @@
+package com.example.rediscommon.configs;
+
+import com.example.rediscommon.services.LocalCacheService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes to local cache invalidation messages so every instance drops its
+ * L1 copy when another instance deletes a key
+ * Only active when cache.local.enabled=true
+ */
+@Configuration
+@ConditionalOnProperty(name = "cache.local.enabled", havingValue = "true")
+public class LocalCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer localCacheInvalidationContainer(RedisConnectionFactory connectionFactory,
+            RedisTemplate<String, Object> redisTemplate,
+            LocalCacheService localCacheService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        // Messages are published through redisTemplate, decode with the same serializer
+        container.addMessageListener((message, pattern) -> {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body != null) {
+                localCacheService.onInvalidationMessage(body.toString());
+            }
+        }, new ChannelTopic(LocalCacheService.INVALIDATION_CHANNEL));
+
+        return container;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.rediscommon.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Invalidation version of each cache tag, read before loading the data that
+ * will be cached under those tags
+ * The write is skipped if any tag was invalidated in between, so a reader
+ * holding pre-commit data cannot put it back after the invalidation.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CacheTagVersions {
+
+    private final List<String> tags;
+    private final List<String> versions;
+}
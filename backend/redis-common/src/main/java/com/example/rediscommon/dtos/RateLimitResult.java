@@ -0,0 +1,27 @@
+package com.example.rediscommon.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of a single rate limit check
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RateLimitResult {
+
+    private final boolean allowed;
+    private final long limit;
+    private final long remaining;
+
+    /**
+     * Seconds until the oldest request in the window expires and a slot frees up
+     */
+    private final long resetSeconds;
+
+    public static RateLimitResult allowAll(long limit) {
+        return new RateLimitResult(true, limit, limit, 0);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.rediscommon.services;
+
+import com.example.rediscommon.utils.RedisScripts;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local token buckets backed by quota leased from Redis
+ * Each instance reserves a batch of the global quota for the current window
+ * and spends it locally with a lock-free counter, Redis is only contacted when
+ * the local batch runs out. Tokens leased by one instance and left unused are
+ * lost for that window, so the effective limit can be lower across many
+ * replicas. The lease is a fixed window, so a burst straddling two windows can
+ * see up to twice the quota. Meant only for high-volume routes where that is
+ * acceptable, the default mode is the exact sliding window and keys under the
+ * exact prefixes (auth by default) never use leases.
+ *
+ * Configuration:
+ * rate-limit.mode=hybrid (default redis)
+ * rate-limit.hybrid.lease-divisor=10 (batch = max / divisor)
+ * rate-limit.hybrid.min-max-requests=20 (smaller limits stay exact)
+ * rate-limit.hybrid.exact-prefixes=auth: (comma separated key prefixes that stay exact)
+ */
+@Slf4j
+@Service
+public class LeasedRateLimiter {
+
+    private static final String LEASE_PREFIX = "rate_limit_lease:";
+
+    /**
+     * Reserve up to ARGV[2] tokens from a fixed window counter
+     * KEYS[1] = lease key
+     * ARGV[1] = max requests, ARGV[2] = batch size, ARGV[3] = window in ms
+     * Returns {granted, ms until window end}
+     */
+    private static final RedisScript<List<Long>> LEASE_SCRIPT = RedisScripts.listScript(
+            "local key = KEYS[1] "
+                    + "local max = tonumber(ARGV[1]) "
+                    + "local batch = tonumber(ARGV[2]) "
+                    + "local used = tonumber(redis.call('GET', key) or '0') "
+                    + "local granted = math.min(batch, max - used) "
+                    + "if granted < 0 then granted = 0 end "
+                    + "if granted > 0 then redis.call('INCRBY', key, granted) end "
+                    + "local ttl = redis.call('PTTL', key) "
+                    + "if ttl < 0 then "
+                    + "  redis.call('PEXPIRE', key, ARGV[3]) "
+                    + "  ttl = tonumber(ARGV[3]) "
+                    + "end "
+                    + "return {granted, ttl}");
+
+    private final RedisService redisService;
+    private final Cache<String, Bucket> buckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    @Value("${rate-limit.mode:redis}")
+    private String mode;
+
+    @Value("${rate-limit.hybrid.lease-divisor:10}")
+    private int leaseDivisor;
+
+    @Value("${rate-limit.hybrid.min-max-requests:20}")
+    private int minMaxRequests;
+
+    @Value("${rate-limit.hybrid.exact-prefixes:auth:}")
+    private List<String> exactPrefixes;
+
+    public LeasedRateLimiter(RedisService redisService) {
+        this.redisService = redisService;
+    }
+
+    /**
+     * Whether this limit should be served from local leases
+     */
+    public boolean handles(String key, int maxRequests) {
+        if (!"hybrid".equalsIgnoreCase(mode) || maxRequests < minMaxRequests) {
+            return false;
+        }
+        return exactPrefixes.stream()
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .noneMatch(key::startsWith);
+    }
+
+    public boolean isAllowed(String key, int maxRequests, int windowSeconds) {
+        Bucket bucket = buckets.get(key, k -> new Bucket());
+
+        while (true) {
+            if (bucket.tryConsume()) {
+                return true;
+            }
+
+            // Bucket is empty (or its lease expired), one thread refills it
+            synchronized (bucket) {
+                if (bucket.hasTokens()) {
+                    continue;
+                }
+                if (bucket.isExhausted()) {
+                    log.warn("Rate limit exceeded for key: {}, max: {} (local lease)", key, maxRequests);
+                    return false;
+                }
+
+                long granted = lease(key, maxRequests, windowSeconds, bucket);
+                if (granted < 0) {
+                    // Allow request on error to prevent blocking users due to Redis issues
+                    return true;
+                }
+                if (granted == 0) {
+                    log.warn("Rate limit exceeded for key: {}, max: {}", key, maxRequests);
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Tokens granted, or -1 if Redis could not be reached
+     */
+    private long lease(String key, int maxRequests, int windowSeconds, Bucket bucket) {
+        int batch = Math.max(1, maxRequests / Math.max(1, leaseDivisor));
+        try {
+            List<?> result = redisService.executeScript(LEASE_SCRIPT,
+                    List.of(LEASE_PREFIX + key),
+                    String.valueOf(maxRequests),
+                    String.valueOf(batch),
+                    String.valueOf(windowSeconds * 1000L));
+
+            long granted = ((Number) result.get(0)).longValue();
+            long ttlMillis = ((Number) result.get(1)).longValue();
+            bucket.refill(granted, System.currentTimeMillis() + ttlMillis);
+            log.debug("Leased {} tokens for key: {}, window ends in {} ms", granted, key, ttlMillis);
+            return granted;
+        } catch (Exception e) {
+            log.error("Error leasing rate limit tokens for key: {}", key, e);
+            return -1;
+        }
+    }
+
+    /**
+     * Tokens leased for one window, consumed with CAS and no locking
+     */
+    private static final class Bucket {
+        private final AtomicLong tokens = new AtomicLong();
+        private volatile long expiresAt;
+        private volatile boolean exhausted;
+
+        boolean tryConsume() {
+            if (System.currentTimeMillis() >= expiresAt) {
+                return false;
+            }
+            long current;
+            do {
+                current = tokens.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        boolean hasTokens() {
+            return tokens.get() > 0 && System.currentTimeMillis() < expiresAt;
+        }
+
+        /**
+         * Redis had nothing left for the current window, deny locally until it ends
+         */
+        boolean isExhausted() {
+            return exhausted && System.currentTimeMillis() < expiresAt;
+        }
+
+        void refill(long granted, long windowEnd) {
+            tokens.set(granted);
+            expiresAt = windowEnd;
+            exhausted = granted <= 0;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.rediscommon.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-process L1 cache in front of Redis
+ * Only keys matching a configured prefix are held locally, each prefix has its
+ * own size and TTL limit. Values are kept as serialized bytes so callers always
+ * get a private copy they can mutate.
+ *
+ * Configuration:
+ * cache.local.enabled=true
+ * cache.local.prefixes=prefix|maxSize|ttlSeconds,prefix|maxSize|ttlSeconds
+ */
+@Slf4j
+@Service
+public class LocalCacheService {
+
+    public static final String INVALIDATION_CHANNEL = "cache_invalidation";
+    private static final String MESSAGE_SEPARATOR = "\n";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<PrefixCache> prefixCaches = new ArrayList<>();
+
+    @Value("${cache.local.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cache.local.prefixes:}")
+    private String prefixSpec;
+
+    public LocalCacheService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled || prefixSpec == null || prefixSpec.isBlank()) {
+            enabled = false;
+            return;
+        }
+
+        for (String entry : prefixSpec.split(",")) {
+            String[] parts = entry.trim().split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cache.local.prefixes entry: " + entry);
+            }
+
+            String prefix = parts[0].trim();
+            long maxSize = Long.parseLong(parts[1].trim());
+            long ttlSeconds = Long.parseLong(parts[2].trim());
+
+            Cache<String, byte[]> cache = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                    .recordStats()
+                    .build();
+            prefixCaches.add(new PrefixCache(prefix, cache));
+            log.info("Local cache enabled for prefix: {}, maxSize: {}, ttl: {}s", prefix, maxSize, ttlSeconds);
+        }
+
+        // Longest prefix wins when several match
+        prefixCaches.sort(Comparator.comparingInt((PrefixCache pc) -> pc.prefix.length()).reversed());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public byte[] get(String key) {
+        Cache<String, byte[]> cache = cacheFor(key);
+        return cache != null ? cache.getIfPresent(key) : null;
+    }
+
+    public void put(String key, byte[] value) {
+        Cache<String, byte[]> cache = cacheFor(key);
+        if (cache != null && value != null) {
+            cache.put(key, value);
+        }
+    }
+
+    /**
+     * Drop keys locally and tell every other instance to drop them too
+     */
+    public void invalidate(Collection<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+
+        List<String> localKeys = new ArrayList<>();
+        for (String key : keys) {
+            Cache<String, byte[]> cache = cacheFor(key);
+            if (cache != null) {
+                cache.invalidate(key);
+                localKeys.add(key);
+            }
+        }
+
+        if (localKeys.isEmpty()) {
+            return;
+        }
+
+        try {
+            String message = instanceId + MESSAGE_SEPARATOR + String.join(MESSAGE_SEPARATOR, localKeys);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            log.error("Error publishing local cache invalidation for keys: {}", localKeys, e);
+        }
+    }
+
+    /**
+     * Handle an invalidation message published by {@link #invalidate}
+     */
+    public void onInvalidationMessage(String message) {
+        if (!enabled || message == null) {
+            return;
+        }
+
+        String[] parts = message.split(MESSAGE_SEPARATOR);
+        if (parts.length < 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        for (int i = 1; i < parts.length; i++) {
+            Cache<String, byte[]> cache = cacheFor(parts[i]);
+            if (cache != null) {
+                cache.invalidate(parts[i]);
+            }
+        }
+        log.debug("Applied remote local cache invalidation for {} keys", parts.length - 1);
+    }
+
+    private Cache<String, byte[]> cacheFor(String key) {
+        if (!enabled) {
+            return null;
+        }
+
+        for (PrefixCache prefixCache : prefixCaches) {
+            if (key.startsWith(prefixCache.prefix)) {
+                return prefixCache.cache;
+            }
+        }
+        return null;
+    }
+
+    private static final class PrefixCache {
+        private final String prefix;
+        private final Cache<String, byte[]> cache;
+
+        private PrefixCache(String prefix, Cache<String, byte[]> cache) {
+            this.prefix = prefix;
+            this.cache = cache;
+        }
+    }
+}
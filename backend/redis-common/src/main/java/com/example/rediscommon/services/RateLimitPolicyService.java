@@ -0,0 +1,109 @@
+package com.example.rediscommon.services;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Turns a route quota into a per-principal quota
+ * The route key (e.g. "user:createUser:all") is combined with the caller
+ * identity so each user or client IP gets its own counter, scaled by the
+ * caller's role tier. Calls without any identity share the route quota, which
+ * is split across shards so a single hot key does not cap throughput.
+ *
+ * Configuration:
+ * rate-limit.role-multipliers=admin:5,user:1
+ * rate-limit.anonymous-shards=8
+ */
+@Slf4j
+@Service
+public class RateLimitPolicyService {
+
+    private final RateLimiterService rateLimiterService;
+    private final Map<String, Double> roleMultipliers = new HashMap<>();
+
+    @Value("${rate-limit.role-multipliers:admin:5}")
+    private String roleMultiplierSpec;
+
+    @Value("${rate-limit.anonymous-shards:8}")
+    private int anonymousShards;
+
+    public RateLimitPolicyService(RateLimiterService rateLimiterService) {
+        this.rateLimiterService = rateLimiterService;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (roleMultiplierSpec == null || roleMultiplierSpec.isBlank()) {
+            return;
+        }
+
+        for (String entry : roleMultiplierSpec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid rate-limit.role-multipliers entry: " + entry);
+            }
+            roleMultipliers.put(parts[0].trim().toLowerCase(Locale.ROOT), Double.parseDouble(parts[1].trim()));
+        }
+        log.info("Rate limit role multipliers: {}", roleMultipliers);
+    }
+
+    /**
+     * Check the quota of a route for the given caller
+     *
+     * @param routeKey      Route identifier, usually built with CacheKeyBuilder
+     * @param principalKey  Caller identity (e.g. "user:{id}", "ip:{addr}"), may be
+     *                      null
+     * @param role          Caller role used to pick the tier, may be null
+     * @param maxRequests   Base quota per principal
+     * @param windowSeconds Time window in seconds
+     * @return true if request is allowed, false if rate limit exceeded
+     */
+    public boolean isAllowed(String routeKey, String principalKey, String role, int maxRequests,
+            int windowSeconds) {
+        int limit = scaleForRole(maxRequests, role);
+
+        if (principalKey != null) {
+            return rateLimiterService.isAllowed(routeKey + ":" + principalKey, limit, windowSeconds);
+        }
+
+        // No identity: split the shared quota so load spreads over several keys
+        int shards = Math.max(1, Math.min(anonymousShards, limit));
+        int shard = ThreadLocalRandom.current().nextInt(shards);
+        int perShardLimit = (limit + shards - 1) / shards;
+        return rateLimiterService.isAllowed(routeKey + ":shard:" + shard, perShardLimit, windowSeconds);
+    }
+
+    /**
+     * Check a quota that belongs to a resource rather than to the caller, e.g.
+     * the login attempts of one account
+     * The key is used as is, so every caller shares the same counter and
+     * changing address does not reset it
+     *
+     * @param resourceKey   Route key including the resource identifier
+     * @param maxRequests   Quota for the resource
+     * @param windowSeconds Time window in seconds
+     * @return true if request is allowed, false if rate limit exceeded
+     */
+    public boolean isAllowedForResource(String resourceKey, int maxRequests, int windowSeconds) {
+        return rateLimiterService.isAllowed(resourceKey, maxRequests, windowSeconds);
+    }
+
+    private int scaleForRole(int maxRequests, String role) {
+        if (role == null) {
+            return maxRequests;
+        }
+
+        Double multiplier = roleMultipliers.get(role.toLowerCase(Locale.ROOT));
+        if (multiplier == null) {
+            return maxRequests;
+        }
+        return (int) Math.max(1, Math.round(maxRequests * multiplier));
+    }
+}
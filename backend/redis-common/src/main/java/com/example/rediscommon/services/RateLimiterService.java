@@ -1,10 +1,14 @@
 package com.example.rediscommon.services;
 
+import com.example.rediscommon.dtos.RateLimitResult;
+import com.example.rediscommon.utils.RedisScripts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Rate Limiter Service using Redis
@@ -16,12 +20,42 @@ import java.util.concurrent.TimeUnit;
 public class RateLimiterService {
 
     private final RedisService redisService;
+    private final LeasedRateLimiter leasedRateLimiter;
 
-    private static final String RATE_LIMIT_PREFIX = "rate_limit:";
+    // Sorted set per key, separate prefix from the old counter keys to avoid WRONGTYPE
+    private static final String RATE_LIMIT_PREFIX = "rate_limit_sw:";
+
+    /**
+     * Sliding window log, one round trip
+     * KEYS[1] = rate limit key
+     * ARGV[1] = max requests, ARGV[2] = window in ms, ARGV[3] = unique member
+     * suffix
+     * Returns {allowed (0/1), remaining, reset in ms}
+     * Uses the Redis clock so every instance sees the same window
+     */
+    private static final RedisScript<List<Long>> SLIDING_WINDOW_SCRIPT = RedisScripts.listScript(
+            "local key = KEYS[1] "
+                    + "local max = tonumber(ARGV[1]) "
+                    + "local window = tonumber(ARGV[2]) "
+                    + "local t = redis.call('TIME') "
+                    + "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) "
+                    + "redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window) "
+                    + "local count = redis.call('ZCARD', key) "
+                    + "local allowed = 0 "
+                    + "if count < max then "
+                    + "  redis.call('ZADD', key, now, now .. '-' .. ARGV[3]) "
+                    + "  count = count + 1 "
+                    + "  allowed = 1 "
+                    + "end "
+                    + "redis.call('PEXPIRE', key, window) "
+                    + "local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES') "
+                    + "local reset = window "
+                    + "if oldest[2] then reset = tonumber(oldest[2]) + window - now end "
+                    + "return {allowed, max - count, reset}");
 
     /**
      * Check if request is allowed based on rate limit
-     * 
+     *
      * @param key           Unique identifier for rate limiting (e.g., userId, IP,
      *                      endpoint)
      * @param maxRequests   Maximum number of requests allowed
@@ -29,38 +63,52 @@ public class RateLimiterService {
      * @return true if request is allowed, false if rate limit exceeded
      */
     public boolean isAllowed(String key, int maxRequests, int windowSeconds) {
+        if (leasedRateLimiter.handles(key, maxRequests)) {
+            return leasedRateLimiter.isAllowed(key, maxRequests, windowSeconds);
+        }
+        return checkLimit(key, maxRequests, windowSeconds).isAllowed();
+    }
+
+    /**
+     * Record a request and return the decision together with the remaining
+     * quota and reset time, all from a single atomic script call
+     *
+     * @param key           Unique identifier for rate limiting
+     * @param maxRequests   Maximum number of requests allowed in any window
+     * @param windowSeconds Sliding window length in seconds
+     * @return Rate limit result
+     */
+    public RateLimitResult checkLimit(String key, int maxRequests, int windowSeconds) {
         try {
             String rateLimitKey = RATE_LIMIT_PREFIX + key;
+            List<?> result = redisService.executeScript(SLIDING_WINDOW_SCRIPT,
+                    List.of(rateLimitKey),
+                    String.valueOf(maxRequests),
+                    String.valueOf(windowSeconds * 1000L),
+                    Long.toHexString(ThreadLocalRandom.current().nextLong()));
 
-            // Get current request count
-            Object countObj = redisService.get(rateLimitKey);
-            long currentCount = countObj != null ? Long.parseLong(countObj.toString()) : 0;
-
-            if (currentCount >= maxRequests) {
-                log.warn("Rate limit exceeded for key: {}, current: {}, max: {}", key, currentCount, maxRequests);
-                return false;
-            }
-
-            // Increment counter
-            long newCount = redisService.increment(rateLimitKey);
+            boolean allowed = ((Number) result.get(0)).longValue() == 1;
+            long remaining = Math.max(0, ((Number) result.get(1)).longValue());
+            long resetSeconds = (((Number) result.get(2)).longValue() + 999) / 1000;
 
-            // Set expiration only on first request
-            if (newCount == 1) {
-                redisService.expire(rateLimitKey, windowSeconds, TimeUnit.SECONDS);
+            if (!allowed) {
+                log.warn("Rate limit exceeded for key: {}, max: {}, reset in: {}s", key, maxRequests, resetSeconds);
+            } else {
+                log.debug("Rate limit check for key: {}, remaining: {}/{}", key, remaining, maxRequests);
             }
-
-            log.debug("Rate limit check for key: {}, count: {}/{}", key, newCount, maxRequests);
-            return true;
+            return new RateLimitResult(allowed, maxRequests, remaining, resetSeconds);
         } catch (Exception e) {
             log.error("Error checking rate limit for key: {}", key, e);
             // Allow request on error to prevent blocking users due to Redis issues
-            return true;
+            return RateLimitResult.allowAll(maxRequests);
         }
     }
 
     /**
      * Get remaining requests for a key
-     * 
+     * Entries older than the window are only trimmed on the next check, so
+     * this may undercount; prefer the value returned by checkLimit
+     *
      * @param key         Unique identifier for rate limiting
      * @param maxRequests Maximum number of requests allowed
      * @return Number of remaining requests
@@ -68,8 +116,7 @@ public class RateLimiterService {
     public long getRemainingRequests(String key, int maxRequests) {
         try {
             String rateLimitKey = RATE_LIMIT_PREFIX + key;
-            Object countObj = redisService.get(rateLimitKey);
-            long currentCount = countObj != null ? Long.parseLong(countObj.toString()) : 0;
+            long currentCount = redisService.getSortedSetSize(rateLimitKey);
             return Math.max(0, maxRequests - currentCount);
         } catch (Exception e) {
             log.error("Error getting remaining requests for key: {}", key, e);
@@ -78,8 +125,8 @@ public class RateLimiterService {
     }
 
     /**
-     * Get time until rate limit resets in seconds
-     * 
+     * Get time until the window is completely empty in seconds
+     *
      * @param key Unique identifier for rate limiting
      * @return Seconds until reset, or -1 if no limit active
      */
@@ -96,7 +143,7 @@ public class RateLimiterService {
 
     /**
      * Reset rate limit for a key
-     * 
+     *
      * @param key Unique identifier for rate limiting
      */
     public void resetLimit(String key) {
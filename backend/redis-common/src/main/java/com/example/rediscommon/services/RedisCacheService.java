@@ -1,11 +1,21 @@
 package com.example.rediscommon.services;
 
+import com.example.rediscommon.dtos.CacheTagVersions;
+import com.example.rediscommon.utils.RedisScripts;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -16,16 +26,71 @@ public class RedisCacheService {
 
     private final RedisService redisService;
     private final ObjectMapper objectMapper;
+    private final LocalCacheService localCacheService;
 
     private static final long DEFAULT_TTL = 10;
     private static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.MINUTES;
+    private static final String TAG_PREFIX = "cache_tag:";
+    private static final String TAG_VERSION_PREFIX = "cache_tag_version:";
+
+    // Only has to outlive the load between readTagVersions and setCacheData
+    private static final long TAG_VERSION_TTL_MS = TimeUnit.DAYS.toMillis(1);
+
+    /**
+     * KEYS = tag version keys
+     * Returns each version, "0" for a tag never invalidated
+     */
+    private static final RedisScript<List<String>> READ_VERSIONS_SCRIPT = RedisScripts.listScript(
+            "local versions = {} "
+                    + "for i = 1, #KEYS do versions[i] = redis.call('GET', KEYS[i]) or '0' end "
+                    + "return versions");
+
+    /**
+     * KEYS[1] = cache key, KEYS[2..n+1] = tag sets, KEYS[n+2..2n+1] = tag versions
+     * ARGV[1] = serialized value, ARGV[2] = ttl in ms, ARGV[3..n+2] = expected versions
+     * Returns 1 if written, 0 if a tag version changed
+     */
+    private static final RedisScript<Long> SET_TAGGED_SCRIPT = new DefaultRedisScript<>(
+            "local n = (#KEYS - 1) / 2 "
+                    + "for i = 1, n do "
+                    + "  if (redis.call('GET', KEYS[n + 1 + i]) or '0') ~= ARGV[2 + i] then return 0 end "
+                    + "end "
+                    + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+                    + "for i = 1, n do "
+                    + "  redis.call('SADD', KEYS[1 + i], KEYS[1]) "
+                    // Tag set must outlive the keys it points to, never shorten it
+                    + "  if redis.call('PTTL', KEYS[1 + i]) < tonumber(ARGV[2]) then "
+                    + "    redis.call('PEXPIRE', KEYS[1 + i], ARGV[2]) "
+                    + "  end "
+                    + "end "
+                    + "return 1",
+            Long.class);
+
+    /**
+     * KEYS[1] = tag set, KEYS[2] = tag version, ARGV[1] = version ttl in ms
+     * Returns the keys that were registered under the tag
+     */
+    private static final RedisScript<List<String>> INVALIDATE_SCRIPT = RedisScripts.listScript(
+            "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+                    + "local members = redis.call('SMEMBERS', KEYS[1]) "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "return members");
 
     public <T> T getCacheData(String cacheKey, Class<T> type) {
         try {
+            byte[] local = localCacheService.get(cacheKey);
+            if (local != null) {
+                log.debug("Local cache hit for key: {}", cacheKey);
+                return objectMapper.readValue(local, type);
+            }
+
             Object cached = redisService.get(cacheKey);
             if (cached != null) {
                 log.debug("Cache hit for key: {}", cacheKey);
-                return convertCached(cached, type);
+                T value = convertCached(cached, type);
+                putLocal(cacheKey, value);
+                return value;
             }
 
             return null;
@@ -35,6 +100,40 @@ public class RedisCacheService {
         }
     }
 
+    /**
+     * Read several keys, L1 first and the rest with a single MGET
+     *
+     * @return Values of the keys found, keyed by cache key, never null
+     */
+    public <T> Map<String, T> getCacheDataMulti(List<String> cacheKeys, Class<T> type) {
+        Map<String, T> found = new HashMap<>();
+        try {
+            List<String> remote = new ArrayList<>();
+            for (String cacheKey : cacheKeys) {
+                byte[] local = localCacheService.get(cacheKey);
+                if (local != null) {
+                    found.put(cacheKey, objectMapper.readValue(local, type));
+                } else {
+                    remote.add(cacheKey);
+                }
+            }
+
+            List<Object> values = redisService.multiGet(remote);
+            for (int i = 0; i < values.size(); i++) {
+                Object cached = values.get(i);
+                if (cached != null) {
+                    T value = convertCached(cached, type);
+                    found.put(remote.get(i), value);
+                    putLocal(remote.get(i), value);
+                }
+            }
+            log.debug("Multi get of {} keys, {} hits", cacheKeys.size(), found.size());
+        } catch (Exception e) {
+            log.error("Internal Server Error", e);
+        }
+        return found;
+    }
+
     public void setCacheData(String cacheKey, Object data, long ttl, TimeUnit timeUnit) {
         try {
             if (data != null) {
@@ -50,9 +149,91 @@ public class RedisCacheService {
         setCacheData(cacheKey, data, DEFAULT_TTL, DEFAULT_TIME_UNIT);
     }
 
+    /**
+     * Read the invalidation version of each tag
+     * Call on a cache miss before loading the data, and pass the result to
+     * setCacheData so the write is dropped if a tag is invalidated meanwhile
+     *
+     * @param tags Tag names (e.g. "blog:{id}")
+     */
+    public CacheTagVersions readTagVersions(String... tags) {
+        List<String> versionKeys = Arrays.stream(tags).map(tag -> TAG_VERSION_PREFIX + tag).toList();
+        try {
+            List<String> versions = redisService.executeScript(READ_VERSIONS_SCRIPT, versionKeys);
+            return new CacheTagVersions(List.of(tags), versions);
+        } catch (Exception e) {
+            log.error("Error reading cache tag versions: {}", Arrays.toString(tags), e);
+            return null;
+        }
+    }
+
+    /**
+     * Cache data and register the key under each tag so it can be invalidated
+     * together with every other key depending on the same entity
+     * The value, tag registration and tag expiry are written by one script,
+     * and nothing is written if a tag was invalidated since tagVersions was read.
+     *
+     * @param tagVersions Result of readTagVersions taken before the data was loaded
+     */
+    public void setCacheData(String cacheKey, Object data, long ttl, TimeUnit timeUnit,
+            CacheTagVersions tagVersions) {
+        try {
+            if (data == null || tagVersions == null) {
+                return;
+            }
+
+            List<String> tags = tagVersions.getTags();
+            List<String> keys = new ArrayList<>(1 + tags.size() * 2);
+            keys.add(cacheKey);
+            tags.forEach(tag -> keys.add(TAG_PREFIX + tag));
+            tags.forEach(tag -> keys.add(TAG_VERSION_PREFIX + tag));
+
+            List<String> args = new ArrayList<>(2 + tags.size());
+            args.add(redisService.serializeValue(data));
+            args.add(String.valueOf(timeUnit.toMillis(ttl)));
+            args.addAll(tagVersions.getVersions());
+
+            Long written = redisService.executeScript(SET_TAGGED_SCRIPT, keys, args.toArray(new String[0]));
+            if (written != null && written == 1) {
+                log.debug("Cached data for key: {} with tags: {}", cacheKey, tags);
+            } else {
+                log.debug("Skipped caching key: {}, tags {} were invalidated while loading", cacheKey, tags);
+            }
+        } catch (Exception e) {
+            log.error("Internal Server Error", e);
+        }
+    }
+
+    /**
+     * Delete every cache key registered under the given tags, then the tag sets
+     * themselves
+     * The tag version is bumped first, in the same script that empties the tag
+     * set, so a reader that loaded data before this call cannot cache it again.
+     */
+    public void invalidateTags(String... tags) {
+        String versionTtlMs = String.valueOf(TAG_VERSION_TTL_MS);
+        for (String tag : tags) {
+            try {
+                List<String> members = redisService.executeScript(INVALIDATE_SCRIPT,
+                        List.of(TAG_PREFIX + tag, TAG_VERSION_PREFIX + tag), versionTtlMs);
+                if (members == null || members.isEmpty()) {
+                    continue;
+                }
+
+                Set<String> keys = new HashSet<>(members);
+                long deleted = redisService.delete(keys);
+                localCacheService.invalidate(keys);
+                log.debug("Invalidated tag: {}, deleted {} keys", tag, deleted);
+            } catch (Exception e) {
+                log.error("Error invalidating cache tag: {}", tag, e);
+            }
+        }
+    }
+
     public void deleteCacheData(String cacheKey) {
         try {
             redisService.delete(cacheKey);
+            localCacheService.invalidate(List.of(cacheKey));
             log.debug("Deleted cache for key: {}", cacheKey);
         } catch (Exception e) {
             log.error("Error deleting cache for key: {}", cacheKey, e);
@@ -61,10 +242,19 @@ public class RedisCacheService {
 
     public <T> List<T> getCacheDataList(String cacheKey, Class<T> type) {
         try {
+            byte[] local = localCacheService.get(cacheKey);
+            if (local != null) {
+                log.debug("Local cache hit for key: {}", cacheKey);
+                return objectMapper.readValue(local,
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, type));
+            }
+
             Object cached = redisService.get(cacheKey);
             if (cached != null) {
                 log.debug("Cache hit for key: {}", cacheKey);
-                return convertCachedList(cached, type);
+                List<T> value = convertCachedList(cached, type);
+                putLocal(cacheKey, value);
+                return value;
             }
 
             return null;
@@ -73,6 +263,21 @@ public class RedisCacheService {
         }
     }
 
+    /**
+     * Populate L1 from an L2 hit, stored as bytes so each reader gets its own copy
+     */
+    private void putLocal(String cacheKey, Object value) {
+        if (!localCacheService.isEnabled() || value == null) {
+            return;
+        }
+
+        try {
+            localCacheService.put(cacheKey, objectMapper.writeValueAsBytes(value));
+        } catch (Exception e) {
+            log.warn("Could not store key {} in local cache: {}", cacheKey, e.getMessage());
+        }
+    }
+
     private <T> T convertCached(Object cached, Class<T> type) {
         if (type.isInstance(cached)) {
             return type.cast(cached);
@@ -3,8 +3,14 @@ package com.example.rediscommon.services;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -56,6 +62,22 @@ public class RedisService {
         }
     }
 
+    /**
+     * Get the values of several keys in one MGET, missing keys map to null
+     */
+    public List<Object> multiGet(Collection<String> keys) {
+        try {
+            if (keys == null || keys.isEmpty()) {
+                return List.of();
+            }
+            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            return values != null ? values : List.of();
+        } catch (Exception e) {
+            log.error("Error getting {} keys", keys.size(), e);
+            throw new RuntimeException("Failed to get keys from Redis: " + e.getMessage());
+        }
+    }
+
     /**
      * Delete a key
      */
@@ -155,4 +177,59 @@ public class RedisService {
             throw new RuntimeException("Failed to decrement key in Redis: " + e.getMessage());
         }
     }
+
+    /**
+     * Delete multiple keys
+     */
+    public long delete(Collection<String> keys) {
+        try {
+            if (keys == null || keys.isEmpty()) {
+                return 0;
+            }
+            Long result = redisTemplate.delete(keys);
+            log.debug("Delete {} keys, result: {}", keys.size(), result);
+            return result != null ? result : 0;
+        } catch (Exception e) {
+            log.error("Error deleting keys: {}", keys, e);
+            throw new RuntimeException("Failed to delete keys from Redis: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get the number of members in a sorted set
+     */
+    public long getSortedSetSize(String key) {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(key);
+            return size != null ? size : 0;
+        } catch (Exception e) {
+            log.error("Error getting sorted set size: {}", key, e);
+            throw new RuntimeException("Failed to get sorted set size from Redis: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Serialize a value exactly as set() stores it, so a script can write it
+     * and get() still reads it back
+     */
+    @SuppressWarnings("unchecked")
+    public String serializeValue(Object value) {
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        return new String(serializer.serialize(value), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Execute a Lua script atomically
+     * Arguments are passed as plain strings (not JSON) so the script can
+     * tonumber() them, integer replies are returned as Long
+     */
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        try {
+            StringRedisSerializer stringSerializer = new StringRedisSerializer();
+            return redisTemplate.execute(script, stringSerializer, stringSerializer, keys, (Object[]) args);
+        } catch (Exception e) {
+            log.error("Error executing script on keys: {}", keys, e);
+            throw new RuntimeException("Failed to execute script in Redis: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.rediscommon.utils;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Typed factories for Lua scripts run through RedisService.executeScript
+ * Keeps the one unchecked conversion needed for multi-bulk replies here
+ * instead of a raw RedisScript<List> in every caller
+ */
+public final class RedisScripts {
+
+    private RedisScripts() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Script returning a multi-bulk reply
+     * Bulk strings come back as String and integers as Long, the element type
+     * is whatever the script returns
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <T> RedisScript<List<T>> listScript(String source) {
+        return (RedisScript<List<T>>) (RedisScript<?>) new DefaultRedisScript<>(source, List.class);
+    }
+}
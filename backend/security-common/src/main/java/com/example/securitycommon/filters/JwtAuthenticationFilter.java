@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.example.securitycommon.exceptions.JwtValidationException;
+import com.example.securitycommon.jwts.InternalIdentityVerifier;
 import com.example.securitycommon.jwts.JwtTokenProvider;
 import com.example.securitycommon.models.AuthenticatedUser;
 
@@ -22,9 +23,11 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final InternalIdentityVerifier identityVerifier;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, InternalIdentityVerifier identityVerifier) {
         this.tokenProvider = tokenProvider;
+        this.identityVerifier = identityVerifier;
     }
 
     @Override
@@ -48,6 +51,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
 
+        // Identity already verified by the gateway, only the HMAC needs checking
+        AuthenticatedUser forwarded = identityVerifier.verify(request.getHeader(InternalIdentityVerifier.HEADER_NAME));
+        if (forwarded != null) {
+            authenticate(forwarded, token, request);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         // If no token found, continue without authentication
         if (token == null) {
             filterChain.doFilter(request, response);
@@ -56,12 +67,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             AuthenticatedUser principal = tokenProvider.validateAndExtract(token);
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    principal,
-                    token,
-                    principal.getAuthorities());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            authenticate(principal, token, request);
         } catch (JwtValidationException ex) {
             SecurityContextHolder.clearContext();
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -79,4 +85,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticate(AuthenticatedUser principal, String token, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                principal,
+                token,
+                principal.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
 }
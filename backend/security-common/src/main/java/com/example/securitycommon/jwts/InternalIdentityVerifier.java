@@ -0,0 +1,104 @@
+package com.example.securitycommon.jwts;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.securitycommon.models.AuthenticatedUser;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Verifies the identity header signed by the gateway
+ * Format: base64url(userId|email|role|expiresAtEpochSeconds).base64url(HMAC-SHA256)
+ * Must stay in sync with gateway-service IdentityHeaderSigner
+ */
+@Component
+public class InternalIdentityVerifier {
+
+    public static final String HEADER_NAME = "X-Internal-Identity";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    @Value("${INTERNAL_IDENTITY_SECRET:}")
+    private String secret;
+
+    private SecretKeySpec keySpec;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(() -> {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialize " + HMAC_ALGORITHM, e);
+        }
+    });
+
+    @PostConstruct
+    public void init() {
+        if (isEnabled()) {
+            this.keySpec = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        }
+    }
+
+    /**
+     * The header is ignored until a shared secret is configured
+     */
+    public boolean isEnabled() {
+        return secret != null && !secret.isBlank();
+    }
+
+    /**
+     * @return the principal, or null if the header is missing, tampered or
+     *         expired (callers then fall back to full JWT verification)
+     */
+    public AuthenticatedUser verify(String headerValue) {
+        if (!isEnabled() || headerValue == null || headerValue.isEmpty()) {
+            return null;
+        }
+
+        int dot = headerValue.indexOf('.');
+        if (dot <= 0 || dot == headerValue.length() - 1) {
+            return null;
+        }
+
+        try {
+            String encodedPayload = headerValue.substring(0, dot);
+            byte[] signature = Base64.getUrlDecoder().decode(headerValue.substring(dot + 1));
+            byte[] expected = macs.get().doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+            if (!MessageDigest.isEqual(expected, signature)) {
+                return null;
+            }
+
+            String payload = new String(Base64.getUrlDecoder().decode(encodedPayload), StandardCharsets.UTF_8);
+
+            // userId and role never contain '|', the email is everything in between
+            int first = payload.indexOf('|');
+            int last = payload.lastIndexOf('|');
+            int beforeLast = payload.lastIndexOf('|', last - 1);
+            if (first < 0 || beforeLast <= first) {
+                return null;
+            }
+
+            long expiresAt = Long.parseLong(payload.substring(last + 1));
+            if (expiresAt < System.currentTimeMillis() / 1000) {
+                return null;
+            }
+
+            UUID userId = UUID.fromString(payload.substring(0, first));
+            String email = payload.substring(first + 1, beforeLast);
+            String role = payload.substring(beforeLast + 1, last);
+            return new AuthenticatedUser(userId, email, role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.example.securitycommon.jwts;
 
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
 import java.security.spec.X509EncodedKeySpec;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,8 +18,13 @@ import org.springframework.stereotype.Component;
 import com.example.securitycommon.exceptions.JwtValidationException;
 import com.example.securitycommon.models.AuthenticatedUser;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.annotation.PostConstruct;
 
@@ -27,8 +36,17 @@ public class JwtTokenProvider {
     @Value("${JWT_PUBLIC_KEY}")
     private String publicKeyStr;
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
     private PublicKey publicKey;
 
+    // Immutable and thread-safe, built once
+    private JwtParser parser;
+
+    // SHA-256(token) -> principal, each entry expires with its token
+    private Cache<String, VerifiedToken> verifiedTokens;
+
     @PostConstruct
     public void init() {
         try {
@@ -40,9 +58,47 @@ public class JwtTokenProvider {
         } catch (Exception ex) {
             throw new JwtValidationException("Unable to load JWT public key", ex);
         }
+
+        this.parser = Jwts.parser()
+                .verifyWith(publicKey)
+                .build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
+    /**
+     * Validate an access token and build the principal
+     * Tokens already verified by this instance are served from a bounded cache
+     * until they expire, so the RSA signature check runs once per token
+     */
     public AuthenticatedUser validateAndExtract(String token) {
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.expiresAtMillis > System.currentTimeMillis()) {
+            return cached.principal;
+        }
+
         Claims claims = parseClaims(token);
 
         String tokenType = claims.get("tokenType", String.class);
@@ -64,23 +120,45 @@ public class JwtTokenProvider {
             throw new JwtValidationException("Token has expired");
         }
 
+        AuthenticatedUser principal;
         try {
             String principalEmail = email != null ? email : username;
-            return new AuthenticatedUser(UUID.fromString(userId), principalEmail, role);
+            principal = new AuthenticatedUser(UUID.fromString(userId), principalEmail, role);
         } catch (IllegalArgumentException ex) {
             throw new JwtValidationException("Invalid user id in token", ex);
         }
+
+        // Tokens without exp are not cached, they would never be re-checked
+        if (expiration != null) {
+            verifiedTokens.put(tokenHash, new VerifiedToken(principal, expiration.getTime()));
+        }
+        return principal;
     }
 
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(publicKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException ex) {
             throw new JwtValidationException("Invalid token", ex);
         }
     }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static final class VerifiedToken {
+        private final AuthenticatedUser principal;
+        private final long expiresAtMillis;
+
+        private VerifiedToken(AuthenticatedUser principal, long expiresAtMillis) {
+            this.principal = principal;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
 }
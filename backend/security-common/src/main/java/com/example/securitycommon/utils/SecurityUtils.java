@@ -4,6 +4,11 @@ import java.util.UUID;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 import com.example.securitycommon.models.AuthenticatedUser;
 
@@ -77,4 +82,45 @@ public final class SecurityUtils {
         return authentication != null && authentication.isAuthenticated()
                 && authentication.getPrincipal() instanceof AuthenticatedUser;
     }
+
+    /**
+     * Get the client IP of the current request
+     * Uses the last X-Forwarded-For hop, the one the gateway appended from the
+     * connection it accepted. Earlier hops come from the caller and can be
+     * anything, so they are never trusted. Falls back to the socket address.
+     * 
+     * @return client IP or null when not called on a request thread
+     */
+    public static String getClientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            String lastHop = forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+            if (!lastHop.isEmpty()) {
+                return lastHop;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Identity of the caller for per-principal quotas
+     * 
+     * @return "user:{id}" when authenticated, "ip:{address}" otherwise, or null
+     *         when neither is known
+     */
+    public static String getPrincipalKey() {
+        UUID userId = getCurrentUserId();
+        if (userId != null) {
+            return "user:" + userId;
+        }
+
+        String ip = getClientIp();
+        return ip != null ? "ip:" + ip : null;
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.statsservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyViewStatDto {
+    private LocalDate date;
+    private long views;
+    private long uniqueViewers;
+}
@@ -24,7 +24,12 @@ public class DashboardStatsDto {
     private long publicBlogs;
     private long privateBlogs;
     private long blogsCreatedThisMonth;
-    
+
+    // View statistics, unique viewers are summed per day
+    private long viewsThisMonth;
+    private long uniqueViewersThisMonth;
+    private List<DailyViewStatDto> dailyViews;
+
     // Recent activities
     private List<ActivityDto> recentActivities;
 }
@@ -3,6 +3,7 @@ package com.example.statsservice.dtos.responses;
 import java.util.List;
 import java.util.Map;
 
+import com.example.statsservice.dtos.DailyViewStatDto;
 import com.example.statsservice.dtos.DashboardStatsDto;
 import com.example.statsservice.dtos.responses.views.BlogView;
 import com.example.statsservice.dtos.responses.views.UserView;
@@ -24,6 +25,7 @@ public class Response {
 
     private List<BlogView> blogViews;
     private List<UserView> userViews;
+    private List<DailyViewStatDto> dailyViews;
 
     public Response(String message, int statusCode) {
         this.statusCode = statusCode;
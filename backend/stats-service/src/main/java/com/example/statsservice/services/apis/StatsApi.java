@@ -1,6 +1,7 @@
 package com.example.statsservice.services.apis;
 
-import com.example.rediscommon.services.RateLimiterService;
+import com.example.rediscommon.services.RateLimitPolicyService;
+import com.example.securitycommon.utils.SecurityUtils;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 import com.example.statsservice.dtos.DashboardStatsDto;
 import com.example.statsservice.dtos.responses.Response;
@@ -15,14 +16,14 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class StatsApi {
 
-    private final RateLimiterService rateLimiterService;
+    private final RateLimitPolicyService rateLimitPolicyService;
     private final StatsHandler statsHandler;
     private final CacheKeyBuilder cacheKeys;
 
     public StatsApi(
-            RateLimiterService rateLimiterService,
+            RateLimitPolicyService rateLimitPolicyService,
             StatsHandler statsHandler) {
-        this.rateLimiterService = rateLimiterService;
+        this.rateLimitPolicyService = rateLimitPolicyService;
         this.statsHandler = statsHandler;
         this.cacheKeys = CacheKeyBuilder.forService("stats");
     }
@@ -38,7 +39,8 @@ public class StatsApi {
     }
 
     private void checkRateLimit(String rateLimitKey, int maxRequests, int timeWindowSeconds) {
-        if (!rateLimiterService.isAllowed(rateLimitKey, maxRequests, timeWindowSeconds)) {
+        if (!rateLimitPolicyService.isAllowed(rateLimitKey, SecurityUtils.getPrincipalKey(),
+                SecurityUtils.getCurrentUserRole(), maxRequests, timeWindowSeconds)) {
             throw new OurException("Rate limit exceeded. Please try again later.", 429);
         }
     }
@@ -4,6 +4,7 @@ import com.example.rediscommon.services.RedisCacheService;
 import com.example.rediscommon.services.RedisService;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 import com.example.statsservice.dtos.ActivityDto;
+import com.example.statsservice.dtos.DailyViewStatDto;
 import com.example.statsservice.dtos.DashboardStatsDto;
 import com.example.statsservice.services.feigns.UserFeignClient;
 import com.example.statsservice.services.feigns.BlogFeignClient;
@@ -26,6 +27,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.InputStream;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.ZoneOffset;
@@ -43,6 +45,9 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class StatsHandler {
 
+    // Covers the current month and the trailing 30 days shown on the dashboard
+    private static final int DAILY_VIEW_DAYS = 31;
+
     private final UserFeignClient userFeignClient;
     private final BlogFeignClient blogFeignClient;
     private final RedisCacheService cacheService;
@@ -85,9 +90,18 @@ public class StatsHandler {
                 CompletableFuture<Response> allBlogsFuture = CompletableFuture
                         .supplyAsync(() -> blogFeignClient.getAllBlogs());
 
+                // View counts are optional on the dashboard, a failure only leaves them empty
+                CompletableFuture<Response> dailyViewsFuture = CompletableFuture
+                        .supplyAsync(() -> blogFeignClient.getDailyViews(DAILY_VIEW_DAYS))
+                        .exceptionally(e -> {
+                            log.warn("Failed to fetch daily views: {}", e.getMessage());
+                            return null;
+                        });
+
                 // Wait for all futures to complete
                 Response allUsersResponse = allUsersFuture.join();
                 Response allBlogsResponse = allBlogsFuture.join();
+                Response dailyViewsResponse = dailyViewsFuture.join();
 
                 List<UserView> allUsers = allUsersResponse.getUserViews();
                 List<BlogView> allBlogs = allBlogsResponse.getBlogViews();
@@ -153,6 +167,20 @@ public class StatsHandler {
                 log.debug("Blog stats: total={}, public={}, private={}, thisMonth={}",
                         totalBlogs, publicBlogs, privateBlogs, blogsThisMonth);
 
+                List<DailyViewStatDto> dailyViews = dailyViewsResponse != null
+                        && dailyViewsResponse.getDailyViews() != null ? dailyViewsResponse.getDailyViews()
+                                : Collections.emptyList();
+                LocalDate firstOfMonth = currentMonth.atDay(1);
+                long viewsThisMonth = dailyViews.stream()
+                        .filter(v -> v.getDate() != null && !v.getDate().isBefore(firstOfMonth))
+                        .mapToLong(DailyViewStatDto::getViews)
+                        .sum();
+                long uniqueViewersThisMonth = dailyViews.stream()
+                        .filter(v -> v.getDate() != null && !v.getDate().isBefore(firstOfMonth))
+                        .mapToLong(DailyViewStatDto::getUniqueViewers)
+                        .sum();
+                log.debug("View stats: thisMonth={}, uniqueThisMonth={}", viewsThisMonth, uniqueViewersThisMonth);
+
                 // Build dashboard stats
                 stats = DashboardStatsDto.builder()
                         .totalUsers(totalUsers)
@@ -164,6 +192,9 @@ public class StatsHandler {
                         .publicBlogs(publicBlogs)
                         .privateBlogs(privateBlogs)
                         .blogsCreatedThisMonth(blogsThisMonth)
+                        .viewsThisMonth(viewsThisMonth)
+                        .uniqueViewersThisMonth(uniqueViewersThisMonth)
+                        .dailyViews(dailyViews)
                         .recentActivities(recentActivities)
                         .build();
 
@@ -2,6 +2,7 @@ package com.example.statsservice.services.feigns;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.example.statsservice.dtos.responses.Response;
 
@@ -10,4 +11,7 @@ public interface BlogFeignClient {
 
     @GetMapping("/api/v1/blogs")
     Response getAllBlogs();
+
+    @GetMapping("/api/v1/blogs/views/daily")
+    Response getDailyViews(@RequestParam("days") int days);
 }
\ No newline at end of file
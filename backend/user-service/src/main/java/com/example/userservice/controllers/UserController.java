@@ -48,6 +48,27 @@ public class UserController {
         return ResponseEntity.status(response.getStatusCode()).body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Response> getUsersByIds(@RequestBody String dataJson) {
+        Response response = userApi.getUsersByIds(dataJson);
+
+        return ResponseEntity.status(response.getStatusCode()).body(response);
+    }
+
+    @GetMapping("/{userId}/follower-ids")
+    public ResponseEntity<Response> getFollowerIds(@PathVariable("userId") UUID userId) {
+        Response response = userApi.getFollowerIds(userId);
+
+        return ResponseEntity.status(response.getStatusCode()).body(response);
+    }
+
+    @GetMapping("/{userId}/following-ids")
+    public ResponseEntity<Response> getFollowingIds(@PathVariable("userId") UUID userId) {
+        Response response = userApi.getFollowingIds(userId);
+
+        return ResponseEntity.status(response.getStatusCode()).body(response);
+    }
+
     @PatchMapping("/{userId}")
     @PreAuthorize("hasAnyAuthority('admin','user')")
     public ResponseEntity<Response> updateUser(
@@ -0,0 +1,13 @@
+package com.example.userservice.dtos.requests.user;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchRequest {
+    private List<UUID> userIds;
+}
@@ -2,6 +2,7 @@ package com.example.userservice.dtos.responses;
 
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import com.example.userservice.dtos.UserDto;
 import com.example.userservice.dtos.responses.views.UserView;
@@ -24,6 +25,9 @@ public class Response {
     private UserView userView;
     private List<UserView> userViews;
 
+    // Follow graph as plain ids, for service-to-service calls
+    private List<UUID> userIds;
+
     public Response(String message, int statusCode) {
         this.statusCode = statusCode;
         this.message = message;
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import java.util.UUID;
+import com.example.persistencecommon.utils.GeneratedUuidV7;
 
 @Entity
 @Table(name = "follow_users")
@@ -13,7 +14,7 @@ import java.util.UUID;
 @AllArgsConstructor
 public class FollowUser {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     private UUID followerId;
@@ -23,4 +23,10 @@ public interface FollowUserQueryRepository extends JpaRepository<FollowUser, UUI
     @Query("SELECT u FROM User u JOIN FollowUser fu ON u.id = fu.followerId WHERE fu.followingId = :userId ORDER BY fu.id DESC")
     List<User> findFollowersByUserId(@Param("userId") UUID userId);
 
+    @Query("SELECT fu.followerId FROM FollowUser fu WHERE fu.followingId = :userId")
+    List<UUID> findFollowerIdsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT fu.followingId FROM FollowUser fu WHERE fu.followerId = :userId")
+    List<UUID> findFollowingIdsByUserId(@Param("userId") UUID userId);
+
 }
@@ -11,6 +11,8 @@ import com.example.userservice.entities.User;
 import com.example.userservice.entities.User.UserStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,6 +22,9 @@ public interface UserQueryRepository extends JpaRepository<User, UUID> {
         @Query("SELECT u FROM User u WHERE u.id = :userId")
         Optional<User> findUserById(@Param("userId") UUID userId);
 
+        @Query("SELECT u FROM User u WHERE u.id IN :userIds")
+        List<User> findUsersByIds(@Param("userIds") Collection<UUID> userIds);
+
         @Query("SELECT u FROM User u WHERE u.username = :username")
         Optional<User> findByUsername(@Param("username") String username);
 
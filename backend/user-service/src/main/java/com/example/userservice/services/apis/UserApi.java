@@ -5,13 +5,15 @@ import com.example.userservice.dtos.requests.auth.ChangePasswordRequest;
 import com.example.userservice.dtos.requests.auth.ForgotPasswordRequest;
 import com.example.userservice.dtos.requests.user.CreateUserRequest;
 import com.example.userservice.dtos.requests.user.UpdateUserRequest;
+import com.example.userservice.dtos.requests.user.UserBatchRequest;
 import com.example.userservice.dtos.responses.Response;
 import com.example.userservice.dtos.responses.views.UserView;
 import com.example.userservice.entities.User;
 import com.example.userservice.exceptions.OurException;
 import com.example.userservice.mappers.UserMapper;
 import com.example.userservice.services.apis.handlers.UserHandler;
-import com.example.rediscommon.services.RateLimiterService;
+import com.example.rediscommon.services.RateLimitPolicyService;
+import com.example.securitycommon.utils.SecurityUtils;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -33,17 +35,17 @@ public class UserApi {
     private final UserHandler userHandler;
     private final UserMapper userMapper;
     private final ObjectMapper objectMapper;
-    private final RateLimiterService rateLimiterService;
+    private final RateLimitPolicyService rateLimitPolicyService;
     private final CacheKeyBuilder cacheKeys;
 
     public UserApi(
             UserHandler userHandler,
             UserMapper userMapper,
-            RateLimiterService rateLimiterService) {
+            RateLimitPolicyService rateLimitPolicyService) {
         this.userHandler = userHandler;
         this.userMapper = userMapper;
         this.objectMapper = new ObjectMapper();
-        this.rateLimiterService = rateLimiterService;
+        this.rateLimitPolicyService = rateLimitPolicyService;
         this.cacheKeys = CacheKeyBuilder.forService("user");
     }
 
@@ -58,7 +60,8 @@ public class UserApi {
     }
 
     private void checkRateLimit(String rateLimitKey, int maxRequests, int timeWindowSeconds) {
-        if (!rateLimiterService.isAllowed(rateLimitKey, maxRequests, timeWindowSeconds)) {
+        if (!rateLimitPolicyService.isAllowed(rateLimitKey, SecurityUtils.getPrincipalKey(),
+                SecurityUtils.getCurrentUserRole(), maxRequests, timeWindowSeconds)) {
             throw new OurException("Rate limit exceeded. Please try again later.", 429);
         }
     }
@@ -192,6 +195,72 @@ public class UserApi {
         }
     }
 
+    public Response getUsersByIds(String dataJson) {
+        long startTime = requestStart("Get users by ids attempt");
+
+        try {
+            String rateLimitKey = cacheKeys.forMethod("getUsersByIds");
+            checkRateLimit(rateLimitKey, 300, 60);
+
+            UserBatchRequest request = objectMapper.readValue(dataJson, UserBatchRequest.class);
+            List<User> users = userHandler.handleGetUsersByIds(request.getUserIds());
+
+            Response response = new Response("Users retrieved successfully");
+            response.setUserViews(users.stream()
+                    .map(userMapper::entityToView)
+                    .collect(Collectors.toList()));
+            return response;
+        } catch (OurException e) {
+            return new Response(e.getMessage(), e.getStatusCode());
+        } catch (Exception e) {
+            return new Response("Internal Server Error", 500);
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
+    public Response getFollowerIds(UUID userId) {
+        long startTime = requestStart("Get follower ids attempt for user: " + userId);
+
+        try {
+            String rateLimitKey = cacheKeys.forMethodWithId("getFollowerIds", userId);
+            checkRateLimit(rateLimitKey, 300, 60);
+
+            List<UUID> followerIds = userHandler.handleGetFollowerIds(userId);
+
+            Response response = new Response("Follower ids retrieved successfully");
+            response.setUserIds(followerIds);
+            return response;
+        } catch (OurException e) {
+            return new Response(e.getMessage(), e.getStatusCode());
+        } catch (Exception e) {
+            return new Response("Internal Server Error", 500);
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
+    public Response getFollowingIds(UUID userId) {
+        long startTime = requestStart("Get following ids attempt for user: " + userId);
+
+        try {
+            String rateLimitKey = cacheKeys.forMethodWithId("getFollowingIds", userId);
+            checkRateLimit(rateLimitKey, 300, 60);
+
+            List<UUID> followingIds = userHandler.handleGetFollowingIds(userId);
+
+            Response response = new Response("Following ids retrieved successfully");
+            response.setUserIds(followingIds);
+            return response;
+        } catch (OurException e) {
+            return new Response(e.getMessage(), e.getStatusCode());
+        } catch (Exception e) {
+            return new Response("Internal Server Error", 500);
+        } finally {
+            requestEnd(startTime);
+        }
+    }
+
     public Response updateUser(UUID userId, String dataJson, MultipartFile avatar) {
         long startTime = requestStart("Update user attempt: " + userId);
 
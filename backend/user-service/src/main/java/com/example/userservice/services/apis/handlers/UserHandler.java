@@ -2,6 +2,7 @@ package com.example.userservice.services.apis.handlers;
 
 import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.cloudinarycommon.CloudinaryService;
+import com.example.persistencecommon.utils.UuidV7;
 import com.example.rediscommon.services.RedisCacheService;
 import com.example.rediscommon.utils.CacheKeyBuilder;
 import com.example.securitycommon.models.AuthenticatedUser;
@@ -31,7 +33,9 @@ import com.example.userservice.repositories.userRepositories.SimpleUserRepositor
 import com.example.userservice.repositories.userRepositories.UserCommandRepository;
 import com.example.userservice.repositories.userRepositories.UserQueryRepository;
 import com.example.userservice.services.rabbitmqs.producers.NotiProducer;
+import com.example.userservice.services.rabbitmqs.producers.UserEventProducer;
 import com.example.rabbitcommon.dtos.NotificationMessage;
+import com.example.rabbitcommon.dtos.UserEventMessage;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,6 +43,9 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class UserHandler {
 
+    // Upper bound on ids per batch lookup, keeps the IN list and response small
+    public static final int MAX_BATCH_SIZE = 100;
+
     private final UserQueryRepository userQueryRepository;
     private final UserCommandRepository userCommandRepository;
     private final FollowUserQueryRepository followUserQueryRepository;
@@ -50,6 +57,7 @@ public class UserHandler {
     private final RedisCacheService cacheService;
     private final CacheKeyBuilder cacheKeys;
     private final NotiProducer notiProducer;
+    private final UserEventProducer userEventProducer;
 
     @Value("${PRIVATE_CHARS}")
     private String privateChars;
@@ -67,7 +75,8 @@ public class UserHandler {
             UserMapper userMapper,
             CloudinaryService cloudinaryService,
             RedisCacheService cacheService,
-            NotiProducer notiProducer) {
+            NotiProducer notiProducer,
+            UserEventProducer userEventProducer) {
         this.userQueryRepository = userQueryRepository;
         this.userCommandRepository = userCommandRepository;
         this.followUserQueryRepository = followUserQueryRepository;
@@ -79,6 +88,22 @@ public class UserHandler {
         this.cacheService = cacheService;
         this.cacheKeys = CacheKeyBuilder.forService("user");
         this.notiProducer = notiProducer;
+        this.userEventProducer = userEventProducer;
+    }
+
+    /**
+     * Publish a user change after commit, consumed by services keeping a local copy of users
+     */
+    private void publishUserEvent(UserEventMessage.Type type, UUID userId, String username, String avatarUrl,
+            UserStatus status) {
+        userEventProducer.sendUserEventAfterCommit(UserEventMessage.builder()
+                .userId(userId)
+                .type(type)
+                .username(username)
+                .avatarUrl(avatarUrl)
+                .status(status != null ? status.name() : null)
+                .occurredAt(System.currentTimeMillis())
+                .build());
     }
 
     @Transactional(readOnly = true)
@@ -106,6 +131,40 @@ public class UserHandler {
         }
     }
 
+    /**
+     * Users for a set of ids in one IN query, unknown ids are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<User> handleGetUsersByIds(List<UUID> userIds) {
+        try {
+            log.info("Starting handleGetUsersByIds for {} ids", userIds == null ? 0 : userIds.size());
+
+            if (userIds == null || userIds.isEmpty()) {
+                return List.of();
+            }
+
+            LinkedHashSet<UUID> uniqueIds = new LinkedHashSet<>(userIds);
+            uniqueIds.remove(null);
+            if (uniqueIds.size() > MAX_BATCH_SIZE) {
+                throw new OurException("At most " + MAX_BATCH_SIZE + " user ids per request", 400);
+            }
+            if (uniqueIds.isEmpty()) {
+                return List.of();
+            }
+
+            List<User> users = userQueryRepository.findUsersByIds(uniqueIds);
+
+            log.info("Completed handleGetUsersByIds with {} of {} users found", users.size(), uniqueIds.size());
+            return users;
+        } catch (OurException e) {
+            log.warn("OurException in handleGetUsersByIds: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Error in handleGetUsersByIds: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @Transactional
     public UserDto handleCreateUser(String username,
             String email,
@@ -190,7 +249,7 @@ public class UserHandler {
             }
 
             // Insert user using command repository
-            UUID userId = UUID.randomUUID();
+            UUID userId = UuidV7.generate();
             Instant now = Instant.now();
             log.debug("Inserting user into database with ID: {}", userId);
 
@@ -212,6 +271,8 @@ public class UserHandler {
                     now);
 
             log.info("User created successfully with ID: {}", userId);
+            publishUserEvent(UserEventMessage.Type.CREATED, userId, user.getUsername(), user.getAvatarUrl(),
+                    user.getStatus());
 
             UserDto result = builderUser(
                     userId,
@@ -256,6 +317,8 @@ public class UserHandler {
             // Update status using command repository
             log.debug("Updating user status to active for email: {}", email);
             userCommandRepository.updateUserStatusByEmail(email, UserStatus.active, now);
+            publishUserEvent(UserEventMessage.Type.UPDATED, user.getId(), user.getUsername(), user.getAvatarUrl(),
+                    UserStatus.active);
 
             log.info("Completed handleActivateUser for email: {}", email);
         } catch (OurException e) {
@@ -464,6 +527,7 @@ public class UserHandler {
             log.debug("Existing user loaded for update: {}", userId);
 
             Instant now = Instant.now();
+            UserStatus previousStatus = existingUser.getStatus();
             AuthenticatedUser currentUser = SecurityUtils.getCurrentUser();
             boolean privilegedChangeAllowed = currentUser == null || currentUser.hasRole("ADMIN");
             log.debug("Privileged change allowed: {}", privilegedChangeAllowed);
@@ -546,6 +610,10 @@ public class UserHandler {
                     existingUser.getInstagram(),
                     now);
 
+            boolean banned = existingUser.getStatus() == UserStatus.banned && previousStatus != UserStatus.banned;
+            publishUserEvent(banned ? UserEventMessage.Type.BANNED : UserEventMessage.Type.UPDATED, userId,
+                    existingUser.getUsername(), existingUser.getAvatarUrl(), existingUser.getStatus());
+
             return userMapper.toDto(existingUser);
         } catch (OurException e) {
             log.warn("OurException in handleUpdateUser: {}", e.getMessage());
@@ -572,6 +640,7 @@ public class UserHandler {
 
             log.debug("Deleting user from database: {}", userId);
             userCommandRepository.deleteUserById(userId);
+            publishUserEvent(UserEventMessage.Type.DELETED, userId, user.getUsername(), null, null);
             log.info("User deleted successfully: {}", userId);
 
             return true;
@@ -682,6 +751,36 @@ public class UserHandler {
         }
     }
 
+    @Transactional(readOnly = true)
+    public List<UUID> handleGetFollowerIds(UUID userId) {
+        try {
+            log.info("Starting handleGetFollowerIds for userId: {}", userId);
+
+            List<UUID> followerIds = followUserQueryRepository.findFollowerIdsByUserId(userId);
+
+            log.info("Completed handleGetFollowerIds for userId: {} with {} followers", userId, followerIds.size());
+            return followerIds;
+        } catch (Exception e) {
+            log.error("Error in handleGetFollowerIds: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> handleGetFollowingIds(UUID userId) {
+        try {
+            log.info("Starting handleGetFollowingIds for userId: {}", userId);
+
+            List<UUID> followingIds = followUserQueryRepository.findFollowingIdsByUserId(userId);
+
+            log.info("Completed handleGetFollowingIds for userId: {} with {} following", userId, followingIds.size());
+            return followingIds;
+        } catch (Exception e) {
+            log.error("Error in handleGetFollowingIds: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
     public User handleGetUserByIdentifier(String identifier) {
         try {
             log.info("Starting handleGetUserByIdentifier for identifier: {}", identifier);
@@ -777,7 +876,7 @@ public class UserHandler {
                 throw new OurException("User already followed", 400);
             }
 
-            UUID followUserId = UUID.randomUUID();
+            UUID followUserId = UuidV7.generate();
             followUserCommandRepository.followUser(followUserId, followerId, followingId);
             log.info("User followed successfully: followUserId={}", followUserId);
 
@@ -0,0 +1,49 @@
+package com.example.userservice.services.rabbitmqs.producers;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.rabbitcommon.dtos.UserEventMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventProducer {
+    public static final String EXCHANGE = "user.events.exchange";
+    public static final String ROUTING_KEY_PREFIX = "user.events.";
+
+    private final RabbitTemplate rabbitTemplate;
+
+    /**
+     * Publish once the user change has committed, so consumers never see a rolled back change
+     */
+    public void sendUserEventAfterCommit(UserEventMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendUserEvent(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sendUserEvent(message);
+            }
+        });
+    }
+
+    public void sendUserEvent(UserEventMessage message) {
+        try {
+            String routingKey = ROUTING_KEY_PREFIX + message.getType().name().toLowerCase();
+
+            rabbitTemplate.convertAndSend(EXCHANGE, routingKey, message);
+            log.info("Sent user event: type={}, userId={}", message.getType(), message.getUserId());
+        } catch (Exception e) {
+            log.error("Error sending user event: {}", e.getMessage(), e);
+        }
+    }
+}